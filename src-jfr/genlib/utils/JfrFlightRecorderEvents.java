@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The implementation of FlightRecorderEvents with the JDK Flight Recorder.
+ * This class needs the module jdk.jfr to compile and to run, so it is in its
+ * own source-directory (see netbeans_build.xml). FlightRecorderEvents.getInstance()
+ * just loads it, if it is available.
+ *
+ * @author Hilmar
+ */
+public class JfrFlightRecorderEvents extends FlightRecorderEvents {
+
+    /**
+     * the category of all events
+     */
+    private static final String CATEGORY = "GenLib";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Object beginGeneration() {
+        GenerationEvent event = new GenerationEvent();
+        if (!event.isEnabled())
+            return null;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitGeneration(Object event, GeneticAlgorithm algorithm) {
+        if (event != null)
+            ((GenerationEvent)event).commit(algorithm);
+    }
+
+    @Override
+    public Object beginFitness(Object operator, int evaluations, boolean incremental) {
+        FitnessEvent event = new FitnessEvent();
+        if (!event.isEnabled())
+            return null;
+        event.operator = operator.getClass();
+        event.evaluations = evaluations;
+        event.incremental = incremental;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitFitness(Object event, double fitness) {
+        if (event != null)
+            ((FitnessEvent)event).commit(fitness);
+    }
+
+    @Override
+    public Object beginMutation(Object operator) {
+        MutationEvent event = new MutationEvent();
+        if (!event.isEnabled())
+            return null;
+        event.operator = operator.getClass();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public Object beginRecombination(Object operator, int parents, int children) {
+        RecombinationEvent event = new RecombinationEvent();
+        if (!event.isEnabled())
+            return null;
+        event.operator = operator.getClass();
+        event.parents = parents;
+        event.children = children;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitOperator(Object event) {
+        if (event != null)
+            ((Event)event).commit();
+    }
+
+    @Override
+    public Object beginDiversity(Object operator, int populationSize) {
+        DiversityEvent event = new DiversityEvent();
+        if (!event.isEnabled())
+            return null;
+        event.operator = operator.getClass();
+        event.populationSize = populationSize;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitDiversity(Object event, double diversity) {
+        if (event != null)
+            ((DiversityEvent)event).commit(diversity);
+    }
+
+    /**
+     * one generation of an algorithm, from the start of the step until it is
+     * ordered (the logging is not included)
+     */
+    @Name("genlib.Generation")
+    @Label("Generation")
+    @Description("one generation of a genetic algorithm")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    public static class GenerationEvent extends Event {
+
+        @Label("Algorithm")
+        protected String algorithm;
+
+        @Label("Generation")
+        protected int generation;
+
+        @Label("Population Size")
+        protected int populationSize;
+
+        @Label("Best Fitness")
+        protected double bestFitness;
+
+        @Label("Average Fitness")
+        protected double averageFitness;
+
+        /**
+         * commits the event with the values of the current generation of the
+         * algorithm. They are just calculated, if the event is recorded.
+         *
+         * @param _algorithm the algorithm
+         */
+        public void commit (GeneticAlgorithm _algorithm) {
+            end();
+            if (!shouldCommit())
+                return;
+
+            double [] fitnessValues = _algorithm.getCurrentFitnessValues();
+            double sum = 0;
+            double best = Double.NaN;
+            for (double fitnessValue : fitnessValues) {
+                sum += fitnessValue;
+                if (!(fitnessValue <= best))
+                    best = fitnessValue;
+            }
+            algorithm = _algorithm.getName();
+            generation = _algorithm.getCurrentGeneration();
+            populationSize = fitnessValues.length;
+            bestFitness = best;
+            averageFitness = (fitnessValues.length == 0 ? Double.NaN : sum / fitnessValues.length);
+            commit();
+        }
+    }
+
+    /**
+     * the fitness-evaluation of one individuum or of a batch of individuums
+     */
+    @Name("genlib.FitnessEvaluation")
+    @Label("Fitness Evaluation")
+    @Description("an invocation of the fitness-operator")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    public static class FitnessEvent extends Event {
+
+        @Label("Operator")
+        protected Class <?> operator;
+
+        @Label("Evaluations")
+        protected int evaluations;
+
+        @Label("Fitness")
+        @Description("the fitness-value, NaN for a batch")
+        protected double fitness;
+
+        @Label("Incremental")
+        protected boolean incremental;
+
+        /**
+         * commits the event with the calculated fitness-value
+         *
+         * @param _fitness the fitness-value, NaN for a batch
+         */
+        public void commit (double _fitness) {
+            end();
+            if (!shouldCommit())
+                return;
+
+            fitness = _fitness;
+            commit();
+        }
+    }
+
+    /**
+     * one invocation of the mutation-operator
+     */
+    @Name("genlib.Mutation")
+    @Label("Mutation")
+    @Description("an invocation of the mutation-operator")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    public static class MutationEvent extends Event {
+
+        @Label("Operator")
+        protected Class <?> operator;
+    }
+
+    /**
+     * one invocation of the recombination-operator
+     */
+    @Name("genlib.Recombination")
+    @Label("Recombination")
+    @Description("an invocation of the recombination-operator")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    public static class RecombinationEvent extends Event {
+
+        @Label("Operator")
+        protected Class <?> operator;
+
+        @Label("Parents")
+        protected int parents;
+
+        @Label("Children")
+        protected int children;
+    }
+
+    /**
+     * the computation of the diversity of a population
+     */
+    @Name("genlib.Diversity")
+    @Label("Diversity")
+    @Description("the computation of the diversity of a population")
+    @Category(CATEGORY)
+    @Enabled(false)
+    @StackTrace(false)
+    public static class DiversityEvent extends Event {
+
+        @Label("Operator")
+        protected Class <?> operator;
+
+        @Label("Population Size")
+        protected int populationSize;
+
+        @Label("Diversity")
+        protected double diversity;
+
+        /**
+         * commits the event with the calculated diversity
+         *
+         * @param _diversity the diversity
+         */
+        public void commit (double _diversity) {
+            end();
+            if (!shouldCommit())
+                return;
+
+            diversity = _diversity;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The implementation of ArrayKernels with the Vector-API. This class needs
+ * the incubator-module jdk.incubator.vector to compile and to run, so it is
+ * in its own source-directory (see netbeans_build.xml). ArrayKernels.getInstance()
+ * just loads it, if the module is available.
+ *
+ * @author Hilmar
+ */
+public class VectorArrayKernels extends ArrayKernels {
+
+    /**
+     * the species of the double-vectors
+     */
+    private static final VectorSpecies <Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * the species of the float-vectors, that are converted into two double-vectors
+     */
+    private static final VectorSpecies <Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    public void interpolate(double[] left, double[] right, double[] factors, double[] result, int length) {
+        DoubleVector ones = DoubleVector.broadcast(DOUBLES, 1.0);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i<bound; i+=DOUBLES.length()) {
+            DoubleVector f = DoubleVector.fromArray(DOUBLES, factors, i);
+            DoubleVector l = DoubleVector.fromArray(DOUBLES, left, i);
+            DoubleVector r = DoubleVector.fromArray(DOUBLES, right, i);
+            l.mul(f).add(r.mul(ones.sub(f))).intoArray(result, i);
+        }
+        for (; i<length; i++)
+            result[i] = left[i] * factors[i] + right[i] * (1.0-factors[i]);
+    }
+
+    @Override
+    public void clamp(double[] values, double min, double max, int length) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i<bound; i+=DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, values, i);
+            v = v.blend(min, v.lt(min));
+            v.blend(max, v.compare(VectorOperators.GT, max)).intoArray(values, i);
+        }
+        for (; i<length; i++) {
+            if (values[i] < min)
+                values[i] = min;
+            else if (values[i] > max)
+                values[i] = max;
+        }
+    }
+
+    @Override
+    public double sum(double[] values, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i<bound; i+=DOUBLES.length())
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, values, i));
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += values[i];
+        return ret;
+    }
+
+    @Override
+    public double sum(float[] values, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i<bound; i+=FLOATS.length()) {
+            FloatVector v = FloatVector.fromArray(FLOATS, values, i);
+            for (int part=0; part<FLOATS.length()/DOUBLES.length(); part++)
+                sums = sums.add(toDoubles(v, part));
+        }
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += values[i];
+        return ret;
+    }
+
+    @Override
+    public double average(double[] values, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i<bound; i+=DOUBLES.length())
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, values, i).div(length));
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += values[i]/length;
+        return ret;
+    }
+
+    @Override
+    public double average(float[] values, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i<bound; i+=FLOATS.length()) {
+            FloatVector v = FloatVector.fromArray(FLOATS, values, i);
+            for (int part=0; part<FLOATS.length()/DOUBLES.length(); part++)
+                sums = sums.add(toDoubles(v, part).div(length));
+        }
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += (double)values[i]/length;
+        return ret;
+    }
+
+    @Override
+    public double distanceL1(double[] a, double[] b, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i<bound; i+=DOUBLES.length())
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, a, i).sub(DoubleVector.fromArray(DOUBLES, b, i)).abs());
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += Math.abs(a[i]-b[i]);
+        return ret;
+    }
+
+    @Override
+    public double distanceL1(float[] a, float[] b, int length) {
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = FLOATS.loopBound(length); i<bound; i+=FLOATS.length()) {
+            FloatVector va = FloatVector.fromArray(FLOATS, a, i);
+            FloatVector vb = FloatVector.fromArray(FLOATS, b, i);
+            for (int part=0; part<FLOATS.length()/DOUBLES.length(); part++)
+                sums = sums.add(toDoubles(va, part).sub(toDoubles(vb, part)).abs());
+        }
+        double ret = sums.reduceLanes(VectorOperators.ADD);
+        for (; i<length; i++)
+            ret += Math.abs((double)a[i]-(double)b[i]);
+        return ret;
+    }
+
+    /**
+     * converts a part of a float-vector into a double-vector
+     *
+     * @param v the float-vector
+     * @param part the part, between 0 and (the number of float-lanes / the number of double-lanes)-1
+     * @return the double-vector
+     */
+    private static DoubleVector toDoubles (FloatVector v, int part) {
+        return (DoubleVector)v.convertShape(VectorOperators.F2D, DOUBLES, part);
+    }
+
+}
@@ -24,6 +24,9 @@
 
 package genlib;
 
+import genlib.benchmarks.BenchmarkHarness;
+import genlib.benchmarks.MicroBenchmarkRunner;
+import genlib.benchmarks.StandardMicroBenchmarks;
 import genlib.examples.ExampleViewer;
 import genlib.utils.LibCompletenessTest;
 import java.util.Arrays;
@@ -39,6 +42,8 @@ public class Main {
      * the main-method, arguments:
      * examples: open the example viewer
      * lib-completeness-test [PATH] execute the lib-completeness-test
+     * micro-benchmarks [FILTER] measure the standard micro-benchmarks (just the ones, whose name contains the filter)
+     * problem-benchmarks [SEEDS] run the standard problems with SEEDS runs each (standard 5) and print the results as csv
      * standard-behavior: open the examples
      *
      * @param args the arguments
@@ -49,12 +54,18 @@ public class Main {
             ExampleViewer.open();
         else if (args.length == 2 && args[0].equals("lib-completeness-test"))
             LibCompletenessTest.doTest(args[1]);
+        else if ((args.length == 1 || args.length == 2) && args[0].equals("micro-benchmarks"))
+            StandardMicroBenchmarks.run(new MicroBenchmarkRunner(), (args.length == 2 ? args[1] : null), System.out);
+        else if ((args.length == 1 || args.length == 2) && args[0].equals("problem-benchmarks"))
+            BenchmarkHarness.createStandard(args.length == 2 ? Integer.parseInt(args[1]) : 5).run(System.out);
         else {
 
             System.out.println(Arrays.toString(args));
             System.out.println("GenLib, usage:");
             System.out.println("argument 'examples': open the example-viewer");
             System.out.println("argument 'lib-completeness-test' [PATH]: execute the lib-completeness-test");
+            System.out.println("argument 'micro-benchmarks' [FILTER]: measure the standard micro-benchmarks");
+            System.out.println("argument 'problem-benchmarks' [SEEDS]: run the standard problems and print the results as csv");
             System.out.println("No valid arguments chosen, start example-viewer as standard-behavior ..");
 
             ExampleViewer.open();
@@ -34,6 +34,16 @@ import java.util.Random;
  */
 public abstract class AlgorithmStep extends GenObject {
 
+    /**
+     * Why did the algorithm end?
+     * Completed: all planned steps are done
+     * Stagnation: the best fitness didn't improve for too many generations
+     * TargetFitness: the target fitness is reached
+     * MaxEvaluations: the maximal number of fitness-evaluations is reached
+     * Deadline: the time limit is reached
+     */
+    public enum StopReason {Completed, Stagnation, TargetFitness, MaxEvaluations, Deadline};
+
     /**
      * The algorithm shall end?
      *
@@ -56,11 +66,33 @@ public abstract class AlgorithmStep extends GenObject {
     public abstract AlgorithmPass getParent();
 
     /**
-     * returns a random-object. It is usually initialized once
-     * in the parent AlgorithmPass.
+     * returns a random-object. Every step can have its own random-object
+     * (as example derived from a seed of the parent AlgorithmPass), so it
+     * should just be used by the thread, that processes this step.
      *
      * @return a random-object
      */
     public abstract Random getRandom();
 
+    /**
+     * is invoked by the algorithm, after this step is done and the population
+     * is ordered, but before the loggers and hasNext() are invoked. A step,
+     * that depends on the results of the algorithm (as example the best
+     * fitness), can update its state here. The standard does nothing.
+     *
+     * @param algorithm the algorithm, that processed this step
+     */
+    public void stepDone(GeneticAlgorithm algorithm) {
+    }
+
+    /**
+     * returns, why the algorithm ends after this step. The reason is
+     * available for the loggers in endAlgorithm().
+     *
+     * @return the reason, null if the algorithm doesn't end after this step
+     */
+    public StopReason getStopReason() {
+        return (hasNext() ? null : StopReason.Completed);
+    }
+
 }
@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A fitness-operator, that calculates the fitness asynchronously, as example
+ * if it waits for another process or a socket. The algorithm detects this
+ * operator and starts all evaluations of a generation, before it waits for
+ * them. The single-instance method of FitnessOp has to calculate the same
+ * fitness-values.
+ *
+ * @author Hilmar
+ */
+public interface AsyncFitnessOp extends FitnessOp {
+
+    /**
+     * the actual operator. It should return quickly, the evaluation itself
+     * should be done by the returned future.
+     *
+     * @param input This instance is the phenoType of an individuum
+     * @param step This step defines the current state of the running algorithm
+     * @return the future of the calculated fitness-value
+     */
+    public CompletableFuture <Double> fitnessOpAsync (GenInstance input, AlgorithmStep step);
+
+}
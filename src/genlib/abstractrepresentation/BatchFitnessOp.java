@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+/**
+ * A fitness-operator, that calculates the fitness of multiple phenoTypes
+ * in one call. The algorithm detects this operator and hands over complete
+ * generations or chunks of them, so setup-costs (as example loading a model)
+ * have to be paid just once per call. The single-instance method of FitnessOp
+ * has to calculate the same fitness-values.
+ *
+ * @author Hilmar
+ */
+public interface BatchFitnessOp extends FitnessOp {
+
+    /**
+     * the actual operator
+     *
+     * @param input these instances are the phenoTypes of the individuums
+     * @param steps the state of the running algorithm per instance (same length as input)
+     * @param fitnessValues the calculated fitness-values will be written in this array (same length as input)
+     */
+    public void fitnessOp (GenInstance [] input, AlgorithmStep [] steps, double [] fitnessValues);
+
+}
@@ -27,6 +27,7 @@ package genlib.abstractrepresentation;
 import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
 import genlib.abstractrepresentation.GenObject.AttributeType.Type;
 import genlib.utils.Utils;
+import java.lang.reflect.Array;
 import java.util.List;
 
 
@@ -65,6 +66,59 @@ public abstract class GenInstance extends GenObject {
         return parent;
     }
 
+    /**
+     * returns a 64-bit fingerprint of the content of this instance. Two equal
+     * instances (equals() is true) have always the same fingerprint, different
+     * instances have a different fingerprint with a very high probability. The
+     * standard-implementation uses all attributes, that are considered in
+     * the equals-check, subclasses should override it with a faster version.
+     *
+     * @return the fingerprint
+     */
+    public long getFingerprint () {
+        long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, getClass().getName().hashCode());
+        for (Attribute attr : getAttributes()) {
+            Recommended equalsCheck = attr.getType().getRecommendedEqualsCheck();
+            Type type = attr.getType().getType();
+
+            //the same attributes as in the equals-check
+            if (    equalsCheck == Recommended.Yes ||
+                    (equalsCheck == Recommended.NotSpecified && (type == Type.Descriptor || type == Type.NormalAttribute || type == Type.MainAttribute) ))
+                fingerprint = Utils.fingerprint(fingerprint, valueFingerprint(attr.getValue()));
+        }
+        return Utils.finalizeFingerprint(fingerprint);
+    }
+
+    /**
+     * returns the fingerprint of a single attribute-value. GenInstances and arrays
+     * are resolved recursively, other GenObjects are represented by their class.
+     *
+     * @param value the value, can be null
+     * @return the fingerprint of the value
+     */
+    protected static long valueFingerprint (Object value) {
+        if (value == null)
+            return 0;
+        else if (value instanceof GenInstance)
+            return ((GenInstance)value).getFingerprint();
+        else if (value instanceof GenObject)
+            return value.getClass().getName().hashCode();
+        else if (value instanceof Double || value instanceof Float)
+            return Double.doubleToLongBits(((Number)value).doubleValue());
+        else if (value instanceof Number)
+            return ((Number)value).longValue();
+        else if (value instanceof Boolean)
+            return ((Boolean)value) ? 1 : 0;
+        else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, length);
+            for (int i=0; i<length; i++)
+                fingerprint = Utils.fingerprint(fingerprint, valueFingerprint(Array.get(value, i)));
+            return fingerprint;
+        } else
+            return value.hashCode();
+    }
+
     @Override
     public List <Attribute> getAttributes() {
         return Utils.createList(new Attribute(new AttributeType(Type.HierarchicalParent, Recommended.No, Recommended.NotSpecified), "parent", parent));
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.utils.Utils;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The genes, a mutation-operator has changed: the index of every changed
+ * gene with its old and its new value (see IncrementalMutationOp). With it,
+ * an IncrementalFitnessOp can calculate the fitness of the child out of
+ * the fitness of its parent.
+ *
+ * @author Hilmar
+ */
+public class GeneChanges extends GenObject {
+
+    /**
+     * the number of changes
+     */
+    protected int size = 0;
+
+    /**
+     * the indices of the changed genes
+     */
+    protected int [] indices = new int[4];
+
+    /**
+     * the values of the genes in the parent
+     */
+    protected double [] oldValues = new double[4];
+
+    /**
+     * the values of the genes in the child
+     */
+    protected double [] newValues = new double[4];
+
+    /**
+     * adds a changed gene
+     *
+     * @param index the index of the gene
+     * @param oldValue the value in the parent
+     * @param newValue the value in the child
+     */
+    public void add (int index, double oldValue, double newValue) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size*2);
+            oldValues = Arrays.copyOf(oldValues, size*2);
+            newValues = Arrays.copyOf(newValues, size*2);
+        }
+        indices[size] = index;
+        oldValues[size] = oldValue;
+        newValues[size] = newValue;
+        size ++;
+    }
+
+    /**
+     * removes all changes, so the object can be reused
+     */
+    public void clear () {
+        size = 0;
+    }
+
+    /**
+     * returns the number of changes
+     *
+     * @return the number of changes
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * returns the index of the changed gene
+     *
+     * @param change the number of the change
+     * @return the index of the gene
+     * @throws IndexOutOfBoundsException if change is not smaller than size()
+     */
+    public int getIndex (int change) {
+        checkChange(change);
+        return indices[change];
+    }
+
+    /**
+     * returns the value of the changed gene in the parent
+     *
+     * @param change the number of the change
+     * @return the old value
+     * @throws IndexOutOfBoundsException if change is not smaller than size()
+     */
+    public double getOldValue (int change) {
+        checkChange(change);
+        return oldValues[change];
+    }
+
+    /**
+     * returns the value of the changed gene in the child
+     *
+     * @param change the number of the change
+     * @return the new value
+     * @throws IndexOutOfBoundsException if change is not smaller than size()
+     */
+    public double getNewValue (int change) {
+        checkChange(change);
+        return newValues[change];
+    }
+
+    /**
+     * checks the number of a change
+     *
+     * @param change the number of the change
+     */
+    protected void checkChange (int change) {
+        if (change < 0 || change >= size)
+            throw new IndexOutOfBoundsException("invalid change: '" + change + "', size: '" + size + "'.");
+    }
+
+    @Override
+    public List<Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "size", size),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "indices", Arrays.copyOf(indices, size)),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "oldValues", Arrays.copyOf(oldValues, size)),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "newValues", Arrays.copyOf(newValues, size)));
+    }
+
+}
@@ -24,6 +24,7 @@
 
 package genlib.abstractrepresentation;
 
+import genlib.abstractrepresentation.AlgorithmStep.StopReason;
 import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
 import genlib.abstractrepresentation.GenObject.AttributeType.Type;
 import genlib.output.Logger;
@@ -32,11 +33,23 @@ import genlib.standard.operators.GenoToPhenoIdentity;
 import genlib.standard.operators.KPointCrossover;
 import genlib.standard.operators.OnePointMutation;
 import genlib.standard.representations.BooleanStaticLength;
+import genlib.utils.Checkpoint;
 import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.FitnessCache;
+import genlib.utils.FlightRecorderEvents;
+import genlib.utils.PhaseTimes;
+import genlib.utils.PhaseTimes.Phase;
+import genlib.utils.PopulationStore;
 import genlib.utils.Utils;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class contains all operators and informations, to do a simple genetic algorithm
@@ -94,6 +107,38 @@ public abstract class GeneticAlgorithm extends GenObject {
      */
     protected List <Logger> staticLoggers = new ArrayList();
 
+    /**
+     * the executor, the individuums of one generation will be evaluated with
+     * (geno-to-pheno- and fitness-operator). If it is null, every individuum
+     * will be evaluated sequentially in the calling thread.
+     */
+    protected ExecutorService executor;
+
+    /**
+     * the number of individuums, a BatchFitnessOp gets per call. If it is
+     * smaller or equal to 0, it gets all individuums of a generation at once.
+     * It is ignored, if the fitness-operator is not a BatchFitnessOp.
+     */
+    protected int fitnessBatchSize = 0;
+
+    /**
+     * the cache for fitness-values, keyed by the fingerprint of the genoType.
+     * If it is null, every individuum will be evaluated.
+     */
+    protected FitnessCache fitnessCache;
+
+    /**
+     * should the population be stored column by column (see PopulationStore)?
+     * The results are the same, it just saves memory for large populations.
+     */
+    protected boolean columnarPopulation = false;
+
+    /**
+     * should mutated children be evaluated incrementally, if the mutation-
+     * and the fitness-operator support it (see IncrementalFitnessOp)?
+     */
+    protected boolean incrementalFitness = false;
+
     /**
      * is the algorithm currently running? If yes, you can't change the
      * operators and representations.
@@ -112,6 +157,35 @@ public abstract class GeneticAlgorithm extends GenObject {
      */
     protected List <Individuum> population = new ArrayList();
 
+    /**
+     * is the complete population sorted? If not, just the best individuums
+     * are sorted at the front (see getOrderedPopulationSize()), the rest
+     * will be sorted, when the complete population is requested.
+     */
+    protected boolean populationSorted = true;
+
+    /**
+     * the store of the population, if the population is stored column by column
+     */
+    protected PopulationStore populationStore;
+
+    /**
+     * the number of fitness-evaluations of the current run. Cached
+     * fitness-values are not counted.
+     */
+    protected final AtomicLong fitnessEvaluations = new AtomicLong();
+
+    /**
+     * why did the last run end? null, if there was no complete run yet.
+     */
+    protected StopReason stopReason;
+
+    /**
+     * the nanoseconds spent per phase in the current run. It is null, if no
+     * logger of the run needs them (see Logger.isTimingPhases()).
+     */
+    protected PhaseTimes phaseTimes;
+
     /**
      * the constructor. The name of the algorithm is given automatically (A0, A1, A2, ..)
      */
@@ -371,6 +445,130 @@ public abstract class GeneticAlgorithm extends GenObject {
         staticLoggers.remove(logger);
     }
 
+    /**
+     * sets the executor, the individuums of one generation will be evaluated with
+     * (as example a ForkJoinPool). The operators have to be thread-safe in this
+     * case. null means, that every individuum is evaluated sequentially in the
+     * calling thread. The results are the same in both cases.
+     *
+     * @param _executor the executor or null
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setExecutor (ExecutorService _executor) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the executor, while the algorithm is running.");
+
+        executor = _executor;
+    }
+
+    /**
+     * returns the executor, the individuums will be evaluated with
+     *
+     * @return the executor, null if the evaluation is done sequentially
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * sets the number of individuums, a BatchFitnessOp gets per call. With an executor,
+     * the chunks are evaluated in parallel. It is ignored, if the fitness-operator
+     * is not a BatchFitnessOp.
+     *
+     * @param _fitnessBatchSize the chunk-size, smaller or equal to 0 means the complete generation at once
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setFitnessBatchSize (int _fitnessBatchSize) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the fitnessBatchSize, while the algorithm is running.");
+
+        fitnessBatchSize = _fitnessBatchSize;
+    }
+
+    /**
+     * returns the number of individuums, a BatchFitnessOp gets per call
+     *
+     * @return the chunk-size, smaller or equal to 0 means the complete generation at once
+     */
+    public int getFitnessBatchSize() {
+        return fitnessBatchSize;
+    }
+
+    /**
+     * sets the fitness-cache. If a genoType was already evaluated, the fitness-value
+     * will be taken from the cache instead of invoking the fitness-operator again.
+     * The geno-to-pheno- and fitness-operators have to be deterministic in this case.
+     *
+     * @param _fitnessCache the fitness-cache or null, if every individuum should be evaluated
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setFitnessCache (FitnessCache _fitnessCache) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the fitnessCache, while the algorithm is running.");
+
+        fitnessCache = _fitnessCache;
+    }
+
+    /**
+     * returns the fitness-cache
+     *
+     * @return the fitness-cache, null if there is no cache
+     */
+    public FitnessCache getFitnessCache() {
+        return fitnessCache;
+    }
+
+    /**
+     * sets, if the population should be stored column by column: the fitness-
+     * values, the genes of static-length genoTypes and the parents and ages in
+     * primitive arrays (see PopulationStore). The individuums of the population
+     * are just created on demand then.
+     *
+     * @param _columnarPopulation true for the column-store
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setColumnarPopulation (boolean _columnarPopulation) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the columnarPopulation, while the algorithm is running.");
+
+        columnarPopulation = _columnarPopulation;
+    }
+
+    /**
+     * is the population stored column by column?
+     *
+     * @return true for the column-store
+     */
+    public boolean isColumnarPopulation() {
+        return columnarPopulation;
+    }
+
+    /**
+     * sets, if mutated children should be evaluated incrementally: if the
+     * mutation-operator is an IncrementalMutationOp and the fitness-operator
+     * an IncrementalFitnessOp, the fitness of a child is calculated out of the
+     * fitness of its parent and the changed genes. The fitness-values can
+     * differ through rounding errors, so it is switched off by default.
+     *
+     * @param _incrementalFitness true for the incremental evaluation
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setIncrementalFitness (boolean _incrementalFitness) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the incrementalFitness, while the algorithm is running.");
+
+        incrementalFitness = _incrementalFitness;
+    }
+
+    /**
+     * are mutated children evaluated incrementally?
+     *
+     * @return true for the incremental evaluation
+     */
+    public boolean isIncrementalFitness() {
+        return incrementalFitness;
+    }
+
     /**
      * the getter for the algorithm-name
      * @return the name of the algorithm
@@ -390,9 +588,19 @@ public abstract class GeneticAlgorithm extends GenObject {
                                 new Attribute(new AttributeType(Type.MainAttribute), "fitness", fitness),
                                 new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "staticAlgorithmPass", staticAlgorithmPass),
                                 new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "staticLoggers", staticLoggers),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "executor", executor),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "fitnessBatchSize", fitnessBatchSize),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "fitnessCache", fitnessCache),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "columnarPopulation", columnarPopulation),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "incrementalFitness", incrementalFitness),
                                 new Attribute(new AttributeType(Type.MainAttribute), "isRunning", isRunning),
                                 new Attribute(new AttributeType(Type.NormalAttribute), "currentGeneration", currentGeneration),
-                                new Attribute(new AttributeType(Type.NormalAttribute), "population", population));
+                                new Attribute(new AttributeType(Type.NormalAttribute), "population", population),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "populationSorted", populationSorted),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "populationStore", populationStore),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "fitnessEvaluations", fitnessEvaluations),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "stopReason", stopReason),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "phaseTimes", phaseTimes));
     }
 
 
@@ -405,11 +613,64 @@ public abstract class GeneticAlgorithm extends GenObject {
      * returns the current population. If the algorithm is not running anymore,
      * it returns the population of the last run of the last generation. The
      * population is already sort at decreasing order. (by fitness, best individuum first)
+     * The individuums of a column-store are copies, that stay valid in the
+     * next generations.
      *
      * @return the population
      */
     public Individuum [] getCurrentPopulation () {
-        return population.toArray(new Individuum[population.size()]);
+        return getBestIndividuums(population.size());
+    }
+
+    /**
+     * returns the fitness-values of the current population, in the same order
+     * as getCurrentPopulation(), without creating the individuums of a
+     * column-store.
+     *
+     * @return the fitness-values, best first
+     */
+    public double [] getCurrentFitnessValues () {
+        if (!populationSorted)
+            orderPopulation(population.size());
+        PopulationStore store = getPopulationStore();
+        if (store != null)
+            return store.getFitnessValues();
+
+        double [] ret = new double[population.size()];
+        for (int i=0; i<ret.length; i++)
+            ret[i] = population.get(i).fitnessValue;
+        return ret;
+    }
+
+    /**
+     * returns the best individuums of the current population, just these
+     * individuums are copied, if the population is a column-store
+     *
+     * @param k the maximal number of individuums
+     * @return the best individuums, best first
+     */
+    public Individuum [] getBestIndividuums (int k) {
+        if (!populationSorted)
+            orderPopulation(population.size());
+        k = Math.max(0, Math.min(k, population.size()));
+        PopulationStore store = getPopulationStore();
+        if (store == null)
+            return population.subList(0, k).toArray(new Individuum[k]);
+
+        Individuum [] ret = new Individuum[k];
+        for (int i=0; i<k; i++)
+            ret[i] = store.copyIndividuum(i);
+        return ret;
+    }
+
+    /**
+     * returns the store of the population, if the population is stored
+     * column by column (see setColumnarPopulation())
+     *
+     * @return the store, null if the population is a normal list
+     */
+    public PopulationStore getPopulationStore () {
+        return (populationStore != null && population == populationStore.asList() ? populationStore : null);
     }
 
     /**
@@ -422,6 +683,41 @@ public abstract class GeneticAlgorithm extends GenObject {
         return currentGeneration;
     }
 
+    /**
+     * returns the best individuum of the current generation, without sorting
+     * or copying the population. If the algorithm is not running anymore, it
+     * returns the best individuum of the last generation of the last run.
+     *
+     * @return the best individuum, null if there is no population yet
+     */
+    public Individuum getBestIndividuum () {
+        //at least the best individuum is always sorted at the front
+        if (population.isEmpty())
+            return null;
+        PopulationStore store = getPopulationStore();
+        return (store == null ? population.get(0) : store.copyIndividuum(0));
+    }
+
+    /**
+     * the number of fitness-evaluations of the current run. Fitness-values,
+     * that are taken from the fitnessCache, are not counted. If the algorithm
+     * is not running anymore, it returns the number of the last run.
+     *
+     * @return the number of fitness-evaluations
+     */
+    public long getFitnessEvaluations() {
+        return fitnessEvaluations.get();
+    }
+
+    /**
+     * why did the last run end?
+     *
+     * @return the stop-reason, null if the algorithm is running or there was no complete run yet
+     */
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
     /**
      * initializes the algorithm. Every null-value of the parameters will be set
      * to a standard value.
@@ -459,6 +755,95 @@ public abstract class GeneticAlgorithm extends GenObject {
 
     protected abstract AlgorithmPass getStandardAlgorithmPass();
 
+    /**
+     * creates a new algorithm of the same class, that uses this algorithm as
+     * template: it shares the representations, operators and settings, but
+     * has its own runtime state (population, generation, ..). So one
+     * configured algorithm can be run multiple times at once. The static
+     * loggers are not copied, because a logger is not made for concurrent runs.
+     * A fitness-cache is not shared either, the new algorithm gets an empty
+     * one of the same size (the copy can get another fitness-operator).
+     * The new algorithm is created by newRunningInstance().
+     *
+     * @param _name the name of the new algorithm
+     * @return the new algorithm
+     */
+    public GeneticAlgorithm createRunningAlgorithm (String _name) {
+        GeneticAlgorithm ret = newRunningInstance(_name);
+        ret.copyConfiguration(this);
+        return ret;
+    }
+
+    /**
+     * creates a new, not configured algorithm of the same kind as this one
+     * (see createRunningAlgorithm()). The configuration is copied afterwards
+     * by copyConfiguration(). Subclasses, that change the behavior of their
+     * superclass, should override it.
+     *
+     * @param _name the name of the new algorithm
+     * @return the new algorithm
+     */
+    protected abstract GeneticAlgorithm newRunningInstance (String _name);
+
+    /**
+     * copies the representations, operators and settings (without the
+     * loggers and with an own fitness-cache) of the template. Subclasses with
+     * own settings should extend it.
+     *
+     * @param template the template
+     */
+    protected void copyConfiguration (GeneticAlgorithm template) {
+        genoType = template.genoType;
+        phenoType = template.phenoType;
+        recombination = template.recombination;
+        mutation = template.mutation;
+        genoToPheno = template.genoToPheno;
+        fitness = template.fitness;
+        staticAlgorithmPass = template.staticAlgorithmPass;
+        executor = template.executor;
+        fitnessBatchSize = template.fitnessBatchSize;
+        fitnessCache = (template.fitnessCache == null ? null : new FitnessCache(template.fitnessCache.getMaxSize()));
+        columnarPopulation = template.columnarPopulation;
+        incrementalFitness = template.incrementalFitness;
+    }
+
+    /**
+     * runs this algorithm once per algorithm-pass (as example with different
+     * seeds) concurrently on the given pool. Every run gets its own running
+     * algorithm (see createRunningAlgorithm()), this algorithm is just the
+     * template and is not changed. If an executor is set for the evaluation,
+     * it should not be the same fixed-size pool, because the runs wait for it.
+     *
+     * @param passes the algorithm-passes, one per run
+     * @param pool the pool, that executes the runs
+     * @return the results, in the same order as the passes
+     * @throws NullPointerException if passes, one of the passes or pool is null
+     * @throws GeneticRuntimeException if the execution got interrupted
+     */
+    public RunResult [] runBatch (AlgorithmPass [] passes, ExecutorService pool) {
+        if (passes == null)
+            throw new NullPointerException("passes can't be null.");
+        if (pool == null)
+            throw new NullPointerException("pool can't be null.");
+        for (AlgorithmPass pass : passes)
+            if (pass == null)
+                throw new NullPointerException("there is a null-pass in the passes.");
+
+        final RunResult [] ret = new RunResult[passes.length];
+        List <Callable<Object>> tasks = new ArrayList(passes.length);
+        for (int i=0; i<passes.length; i++) {
+            final int index = i;
+            final AlgorithmPass pass = passes[i];
+            final GeneticAlgorithm runningAlgorithm = createRunningAlgorithm(name + "-R" + i);
+            tasks.add(() -> {
+                runningAlgorithm.run(pass);
+                return ret[index] = new RunResult(runningAlgorithm, pass);
+            });
+        }
+        executeTasks(tasks, pool);
+        return ret;
+    }
+
     /**
      * start the algorithm. If a staticAlgorithmPass is defined, use this one, otherwise
      * a standard AlgorithmPass will be used.
@@ -481,9 +866,38 @@ public abstract class GeneticAlgorithm extends GenObject {
      * @throws NullPointerException if algorithmPass is null or the dynamicLoggers contains a null
      */
     public void run (AlgorithmPass algorithmPass, Logger ... dynamicLoggers) {
-
         if (algorithmPass == null)
             throw new NullPointerException("algorithmPass can't be null.");
+        run(algorithmPass, null, dynamicLoggers);
+    }
+
+    /**
+     * resumes the algorithm from a checkpoint. The population of the
+     * checkpoint will not be evaluated again, the algorithm goes on with
+     * the step after the checkpoint.
+     *
+     * @param resumeFrom the checkpoint
+     * @param dynamicLoggers optional loggers, that will be invoked, additionaly to the staticLoggers.
+     * @throws NullPointerException if resumeFrom is null or the dynamicLoggers contains a null
+     * @throws GeneticRuntimeException if this algorithm can't be resumed
+     */
+    public void run (Checkpoint resumeFrom, Logger ... dynamicLoggers) {
+        if (resumeFrom == null)
+            throw new NullPointerException("resumeFrom can't be null.");
+        if (!isResumable())
+            throw new GeneticRuntimeException("this algorithm can't be resumed from a checkpoint.");
+        run(resumeFrom.getStep().getParent(), resumeFrom, dynamicLoggers);
+    }
+
+    /**
+     * start or resume the algorithm
+     *
+     * @param algorithmPass the algorithm-pass
+     * @param resumeFrom the checkpoint to resume from, null for a new run
+     * @param dynamicLoggers optional loggers, that will be invoked, additionaly to the staticLoggers.
+     * @throws NullPointerException if the dynamicLoggers contains a null
+     */
+    private void run (AlgorithmPass algorithmPass, Checkpoint resumeFrom, Logger [] dynamicLoggers) {
         for (Logger logger : dynamicLoggers)
             if (logger == null)
                 throw new NullPointerException("there is a null-logger in the dynamicLoggers.");
@@ -497,10 +911,28 @@ public abstract class GeneticAlgorithm extends GenObject {
         initialize();
         isRunning = true;
         currentGeneration = 0;
-        population = new ArrayList();
+        populationStore = (columnarPopulation ? new PopulationStore(this, genoType) : null);
+        population = (columnarPopulation ? populationStore.asList() : new ArrayList());
+        populationSorted = true;
+        fitnessEvaluations.set(0);
+        stopReason = null;
+        phaseTimes = null;
+        for (Logger logger : loggers)
+            if (logger.isTimingPhases())
+                phaseTimes = new PhaseTimes();
 
         //the algorithm step defines the state of the running algorithm
-        AlgorithmStep step = algorithmPass.createInitial();
+        AlgorithmStep step = (resumeFrom == null ? algorithmPass.createInitial() : resumeFrom.getStep());
+
+        //the resumed population keeps its fitness-values, just the phenoTypes are created again
+        if (resumeFrom != null) {
+            currentGeneration = resumeFrom.getGeneration();
+            fitnessEvaluations.set(resumeFrom.getFitnessEvaluations());
+            GenInstance [] genoTypes = resumeFrom.getGenoTypes();
+            double [] fitnessValues = resumeFrom.getFitnessValues();
+            for (int i=0; i<genoTypes.length; i++)
+                population.add(new Individuum(genoTypes[i], genoToPheno.genoToPhenoOp(genoTypes[i], step), fitnessValues[i]));
+        }
 
         for (Logger logger : loggers) {
             logger.compatibilityCheck(this, algorithmPass);
@@ -508,20 +940,34 @@ public abstract class GeneticAlgorithm extends GenObject {
         }
 
         //doStepAbstract is an abstract method, that defines what will be done per step
-        doStepAbstract(step, loggers);
-        while (step.hasNext()) {
-            currentGeneration ++;
-            step = step.next();
-            doStepAbstract(step, loggers);
+        try {
+            if (resumeFrom == null)
+                doStepAbstract(step, loggers);
+            while (step.hasNext()) {
+                currentGeneration ++;
+                step = step.next();
+                doStepAbstract(step, loggers);
+            }
+        } finally {
+            endRun();
         }
 
         //everything is done
         isRunning = false;
+        stopReason = step.getStopReason();
         for (Logger logger : loggers)
             logger.endAlgorithm(this, step);
 
     }
 
+    /**
+     * is invoked, after the last step of a run is done. It is invoked too, if
+     * the run stopped early or a step or logger threw an exception. Subclasses,
+     * that start work in the background, should stop it here.
+     */
+    protected void endRun () {
+    }
+
     /**
      * this is, what an algorithm should do per step. The loggers have
      * no null-values.
@@ -530,10 +976,381 @@ public abstract class GeneticAlgorithm extends GenObject {
      * @param loggers the loggers, we should log every step in
      */
     protected void doStepAbstract (AlgorithmStep step, Logger [] loggers) {
+        long generationStart = phaseStart();
+        Object event = FlightRecorderEvents.getInstance().beginGeneration();
         doStep(step);
-        Collections.sort(population);
+        long sortingStart = phaseStart();
+        orderPopulation(getOrderedPopulationSize(step));
+        phaseEnd(Phase.Sorting, sortingStart);
+        step.stepDone(this);
+        FlightRecorderEvents.getInstance().commitGeneration(event, this);
+        //the generation is measured before the logging, so the loggers get the complete time of it
+        phaseEnd(Phase.Generation, generationStart);
+        long loggingStart = phaseStart();
         for (Logger logger : loggers)
             logger.logGeneration(this, step);
+        phaseEnd(Phase.Logging, loggingStart);
+    }
+
+    /**
+     * starts the measuring of a phase
+     *
+     * @return the start-time in nanoseconds, 0 if no phases are timed
+     */
+    protected long phaseStart () {
+        return (phaseTimes == null ? 0 : System.nanoTime());
+    }
+
+    /**
+     * ends the measuring of a phase and adds the elapsed time to it. Nothing
+     * is done, if no phases are timed.
+     *
+     * @param phase the phase
+     * @param start the start-time of phaseStart()
+     */
+    protected void phaseEnd (Phase phase, long start) {
+        PhaseTimes times = phaseTimes;
+        if (times != null)
+            times.add(phase, System.nanoTime() - start);
+    }
+
+    /**
+     * returns the nanoseconds spent per phase in the current or last run
+     *
+     * @return the phase-times, null if no logger of the run needed them
+     */
+    public PhaseTimes getPhaseTimes () {
+        return phaseTimes;
+    }
+
+    /**
+     * orders the population by decreasing fitness, so the best individuums are
+     * at the front. Just the first k individuums will be sorted, the rest keeps
+     * its previous order. Individuums with equal fitness keep their order.
+     *
+     * @param k the number of individuums, that have to be sorted at the front
+     */
+    protected void orderPopulation (int k) {
+        //the column-store is sorted in place, without creating the individuums
+        PopulationStore store = getPopulationStore();
+        if (store != null) {
+            store.sort(k);
+            populationSorted = (k >= store.size());
+            return;
+        }
+
+        int size = population.size();
+        double [] fitnessValues = new double[size];
+        int [] indices = new int[size];
+        for (int i=0; i<size; i++) {
+            fitnessValues[i] = population.get(i).fitnessValue;
+            indices[i] = i;
+        }
+
+        Utils.selectHighest(fitnessValues, indices, k);
+
+        //the rest keeps its previous order, so a later complete sort has the same result as a complete sort now
+        if (k < size)
+            Arrays.sort(indices, Math.max(k, 0), size);
+
+        List <Individuum> ordered = new ArrayList(size);
+        for (int index : indices)
+            ordered.add(population.get(index));
+        population = ordered;
+        populationSorted = (k >= size);
+    }
+
+    /**
+     * returns the number of the best individuums, that have to be sorted at
+     * the front of the population after every step. The standard is the
+     * complete population, an algorithm, that just needs the best individuums,
+     * can return less, but at least 1.
+     *
+     * @param step the algorithm-step
+     * @return the number of individuums to sort
+     */
+    protected int getOrderedPopulationSize (AlgorithmStep step) {
+        return population.size();
+    }
+
+    /**
+     * creates the individuums of the given genoType-instances like
+     * createIndividuums(instances, steps), but the mutated children with
+     * reported gene-changes are evaluated incrementally (see
+     * Individuum(GenInstance, AlgorithmStep, Individuum, GeneChanges)).
+     *
+     * @param instances the genoType-instances
+     * @param steps the algorithm-step per instance (same length as instances)
+     * @param parents the mutated parent per instance, null for the other ones
+     * @param changes the changed genes per instance, null for the other ones
+     * @return the individuums, in the same order as the instances
+     * @throws GeneticRuntimeException if the evaluation got interrupted
+     */
+    protected Individuum [] createIndividuums (final GenInstance [] instances, final AlgorithmStep [] steps, final Individuum [] parents, final GeneChanges [] changes) {
+        final Individuum [] ret = new Individuum[instances.length];
+        List <Callable<Object>> tasks = new ArrayList();
+        List <Integer> others = new ArrayList();
+        for (int i=0; i<instances.length; i++) {
+            final int index = i;
+            if (parents[i] != null && changes[i] != null)
+                tasks.add(() -> ret[index] = new Individuum(instances[index], steps[index], parents[index], changes[index]));
+            else
+                others.add(i);
+        }
+        executeTasks(tasks);
+
+        //the other individuums are evaluated together (as batch, async, ..)
+        GenInstance [] otherInstances = new GenInstance[others.size()];
+        AlgorithmStep [] otherSteps = new AlgorithmStep[others.size()];
+        for (int i=0; i<otherInstances.length; i++) {
+            otherInstances[i] = instances[others.get(i)];
+            otherSteps[i] = steps[others.get(i)];
+        }
+        Individuum [] otherIndividuums = createIndividuums(otherInstances, otherSteps);
+        for (int i=0; i<otherIndividuums.length; i++)
+            ret[others.get(i)] = otherIndividuums[i];
+        return ret;
+    }
+
+    /**
+     * creates the individuums of the given genoType-instances, this includes
+     * the geno-to-pheno- and the fitness-operator. If an executor is set, the
+     * individuums are evaluated in parallel. If the fitness-operator is a
+     * BatchFitnessOp, it gets chunks of the size fitnessBatchSize. If it is an
+     * AsyncFitnessOp, all evaluations of the generation are in flight at once.
+     * The method returns, after all evaluations are finished.
+     *
+     * @param instances the genoType-instances
+     * @param steps the algorithm-step per instance (same length as instances)
+     * @return the individuums, in the same order as the instances
+     * @throws GeneticRuntimeException if the evaluation got interrupted
+     */
+    protected Individuum [] createIndividuums (final GenInstance [] instances, final AlgorithmStep [] steps) {
+        if (fitness instanceof AsyncFitnessOp)
+            return createIndividuumsAsync(instances, steps);
+
+        final Individuum [] ret = new Individuum[instances.length];
+        List <Callable<Object>> tasks = new ArrayList();
+
+        //the single-instance fitness-operator: one task per individuum
+        if (!(fitness instanceof BatchFitnessOp)) {
+            for (int i=0; i<instances.length; i++) {
+                final int index = i;
+                tasks.add(() -> ret[index] = new Individuum(instances[index], steps[index]));
+            }
+            executeTasks(tasks);
+            return ret;
+        }
+
+        //the batch fitness-operator: one task per chunk
+        final BatchFitnessOp batchFitness = (BatchFitnessOp)fitness;
+        final GenInstance [] phenoInstances = new GenInstance[instances.length];
+        final double [] fitnessValues = new double[instances.length];
+        int chunkSize = (fitnessBatchSize <= 0 ? Math.max(instances.length, 1) : fitnessBatchSize);
+        for (int start=0; start<instances.length; start+=chunkSize) {
+            final int from = start;
+            final int to = Math.min(instances.length, start+chunkSize);
+            tasks.add(() -> {
+                //just the individuums, which are not cached, will be handed over to the fitness-operator
+                int [] uncached = new int[to-from];
+                long [] fingerprints = new long[to-from];
+                int uncachedCount = 0;
+                for (int i=from; i<to; i++) {
+                    long genoToPhenoStart = phaseStart();
+                    phenoInstances[i] = genoToPheno.genoToPhenoOp(instances[i], steps[i]);
+                    phaseEnd(Phase.GenoToPheno, genoToPhenoStart);
+                    Double cached = null;
+                    if (fitnessCache != null) {
+                        fingerprints[i-from] = instances[i].getFingerprint();
+                        cached = fitnessCache.get(fingerprints[i-from]);
+                    }
+                    if (cached == null)
+                        uncached[uncachedCount++] = i;
+                    else
+                        fitnessValues[i] = cached;
+                }
+
+                GenInstance [] chunkInput = new GenInstance[uncachedCount];
+                AlgorithmStep [] chunkSteps = new AlgorithmStep[uncachedCount];
+                double [] chunkFitness = new double[uncachedCount];
+                for (int i=0; i<uncachedCount; i++) {
+                    chunkInput[i] = phenoInstances[uncached[i]];
+                    chunkSteps[i] = steps[uncached[i]];
+                }
+                if (uncachedCount > 0) {
+                    long fitnessStart = phaseStart();
+                    Object event = FlightRecorderEvents.getInstance().beginFitness(batchFitness, uncachedCount, false);
+                    batchFitness.fitnessOp(chunkInput, chunkSteps, chunkFitness);
+                    FlightRecorderEvents.getInstance().commitFitness(event, Double.NaN);
+                    phaseEnd(Phase.Fitness, fitnessStart);
+                    fitnessEvaluations.addAndGet(uncachedCount);
+                }
+
+                for (int i=0; i<uncachedCount; i++) {
+                    fitnessValues[uncached[i]] = chunkFitness[i];
+                    if (fitnessCache != null)
+                        fitnessCache.put(fingerprints[uncached[i]-from], chunkFitness[i]);
+                }
+                return null;
+            });
+        }
+        executeTasks(tasks);
+
+        for (int i=0; i<ret.length; i++)
+            ret[i] = new Individuum(instances[i], phenoInstances[i], fitnessValues[i]);
+        return ret;
+    }
+
+    /**
+     * creates the individuums with an AsyncFitnessOp. The geno-to-pheno-operator
+     * is done first (in parallel, if an executor is set), then every fitness-
+     * evaluation, that is not cached, is started and at the end the method
+     * waits for all of them.
+     *
+     * @param instances the genoType-instances
+     * @param steps the algorithm-step per instance (same length as instances)
+     * @return the individuums, in the same order as the instances
+     * @throws GeneticRuntimeException if the evaluation got interrupted
+     */
+    protected Individuum [] createIndividuumsAsync (final GenInstance [] instances, final AlgorithmStep [] steps) {
+        final GenInstance [] phenoInstances = new GenInstance[instances.length];
+        final long [] fingerprints = new long[instances.length];
+        final Double [] cached = new Double[instances.length];
+
+        List <Callable<Object>> tasks = new ArrayList(instances.length);
+        for (int i=0; i<instances.length; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                long start = phaseStart();
+                phenoInstances[index] = genoToPheno.genoToPhenoOp(instances[index], steps[index]);
+                phaseEnd(Phase.GenoToPheno, start);
+                if (fitnessCache != null) {
+                    fingerprints[index] = instances[index].getFingerprint();
+                    cached[index] = fitnessCache.get(fingerprints[index]);
+                }
+                return null;
+            });
+        }
+        executeTasks(tasks);
+
+        //start all evaluations, before waiting for the first one (the fitness-phase lasts until all are done)
+        long fitnessStart = phaseStart();
+        AsyncFitnessOp asyncFitness = (AsyncFitnessOp)fitness;
+        int uncachedCount = 0;
+        for (Double cachedValue : cached)
+            if (cachedValue == null)
+                uncachedCount++;
+        Object event = FlightRecorderEvents.getInstance().beginFitness(asyncFitness, uncachedCount, false);
+        CompletableFuture <Double> [] futures = new CompletableFuture[instances.length];
+        try {
+            for (int i=0; i<instances.length; i++)
+                futures[i] = (cached[i] != null ? CompletableFuture.completedFuture(cached[i]) : asyncFitness.fitnessOpAsync(phenoInstances[i], steps[i]));
+        } catch (RuntimeException | Error e) {
+            //as example the waiting for a free place got interrupted => the started evaluations are not needed anymore
+            cancelFutures(futures);
+            throw e;
+        }
+
+        Individuum [] ret = new Individuum[instances.length];
+        try {
+            CompletableFuture.allOf(futures).get();
+            FlightRecorderEvents.getInstance().commitFitness(event, Double.NaN);
+            phaseEnd(Phase.Fitness, fitnessStart);
+            for (int i=0; i<instances.length; i++) {
+                double fitnessValue = futures[i].get();
+                if (cached[i] == null) {
+                    fitnessEvaluations.incrementAndGet();
+                    if (fitnessCache != null)
+                        fitnessCache.put(fingerprints[i], fitnessValue);
+                }
+                ret[i] = new Individuum(instances[i], phenoInstances[i], fitnessValue);
+            }
+        } catch (InterruptedException e) {
+            cancelFutures(futures);
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        } catch (ExecutionException e) {
+            cancelFutures(futures);
+            throw Utils.rethrowCause(e);
+        }
+        return ret;
+    }
+
+    /**
+     * cancels all started futures, that are not done yet
+     *
+     * @param futures the futures, null for every future, that was not started
+     */
+    protected static void cancelFutures (Future <?> [] futures) {
+        for (Future <?> future : futures)
+            if (future != null)
+                future.cancel(true);
+    }
+
+    /**
+     * executes the tasks with the executor of this algorithm, or sequentially
+     * in the calling thread, if no executor is set.
+     *
+     * @param tasks the tasks
+     * @throws GeneticRuntimeException if the execution got interrupted
+     */
+    protected void executeTasks (List <Callable<Object>> tasks) {
+        executeTasks(tasks, executor);
+    }
+
+    /**
+     * executes the tasks with the given executor, or sequentially in the calling
+     * thread, if it is null. The method returns, after all tasks are finished.
+     * Exceptions of the tasks will be thrown, as if they were invoked directly.
+     *
+     * @param tasks the tasks
+     * @param executor the executor, can be null
+     * @throws GeneticRuntimeException if the execution got interrupted
+     */
+    protected static void executeTasks (List <Callable<Object>> tasks, ExecutorService executor) {
+
+        //the sequential case
+        if (executor == null || tasks.size() <= 1) {
+            try {
+                for (Callable<Object> task : tasks)
+                    task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new GeneticRuntimeException(e);
+            }
+            return;
+        }
+
+        //the parallel case: submit every task and wait for all of them
+        List <Future<Object>> futures = new ArrayList(tasks.size());
+        for (Callable<Object> task : tasks)
+            futures.add(executor.submit(task));
+
+        try {
+            for (Future<Object> future : futures)
+                future.get();
+        } catch (InterruptedException e) {
+            for (Future<Object> future : futures)
+                future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        } catch (ExecutionException e) {
+            for (Future<Object> future : futures)
+                future.cancel(true);
+            throw Utils.rethrowCause(e);
+        }
+    }
+
+    /**
+     * can the algorithm be resumed from a checkpoint? This is possible, if
+     * the next step just depends on the population and the algorithm-step.
+     * The standard is false.
+     *
+     * @return true, if it can be resumed
+     */
+    protected boolean isResumable() {
+        return false;
     }
 
     /**
@@ -594,8 +1411,80 @@ public abstract class GeneticAlgorithm extends GenObject {
          */
         public Individuum (GenInstance _instance, AlgorithmStep step) {
             genoInstance = _instance;
+            long start = phaseStart();
             phenoInstance = genoToPheno.genoToPhenoOp(genoInstance, step);
-            fitnessValue = fitness.fitnessOp(phenoInstance, step);
+            phaseEnd(Phase.GenoToPheno, start);
+            fitnessValue = evaluate(step);
+        }
+
+        /**
+         * the constructor for a mutated individuum. If the fitness-operator is
+         * an IncrementalFitnessOp and the genoTypes of the child and the parent
+         * are their phenoTypes, the fitness is calculated out of the fitness of
+         * the parent and the changed genes.
+         *
+         * @param _instance the actual individuum (as genoType)
+         * @param step the state of the current run of the algorithm
+         * @param parent the individuum, that was mutated
+         * @param changes the genes, the mutation has changed
+         */
+        public Individuum (GenInstance _instance, AlgorithmStep step, Individuum parent, GeneChanges changes) {
+            genoInstance = _instance;
+            long start = phaseStart();
+            phenoInstance = genoToPheno.genoToPhenoOp(genoInstance, step);
+            phaseEnd(Phase.GenoToPheno, start);
+            if (    fitness instanceof IncrementalFitnessOp && parent != null && changes != null &&
+                    phenoInstance == genoInstance && parent.phenoInstance == parent.genoInstance) {
+                start = phaseStart();
+                Object event = FlightRecorderEvents.getInstance().beginFitness(fitness, 1, true);
+                fitnessValue = ((IncrementalFitnessOp)fitness).fitnessOp(parent.fitnessValue, parent.phenoInstance, phenoInstance, changes, step);
+                FlightRecorderEvents.getInstance().commitFitness(event, fitnessValue);
+                phaseEnd(Phase.Fitness, start);
+                fitnessEvaluations.incrementAndGet();
+            } else
+                fitnessValue = evaluate(step);
+        }
+
+        /**
+         * the constructor for an individuum, that is already evaluated (as
+         * example through a BatchFitnessOp). No operator will be invoked.
+         *
+         * @param _genoInstance the actual individuum (as genoType)
+         * @param _phenoInstance the actual individuum (as phenoType)
+         * @param _fitnessValue the calculated fitness of this individuum
+         */
+        public Individuum (GenInstance _genoInstance, GenInstance _phenoInstance, double _fitnessValue) {
+            genoInstance = _genoInstance;
+            phenoInstance = _phenoInstance;
+            fitnessValue = _fitnessValue;
+        }
+
+        /**
+         * calculates the fitness of the phenoType with the fitness-operator or
+         * takes it out of the fitness-cache
+         *
+         * @param step the state of the current run of the algorithm
+         * @return the fitness-value
+         */
+        private double evaluate (AlgorithmStep step) {
+            //use the cached fitness-value, if this genoType was already evaluated
+            long fingerprint = 0;
+            if (fitnessCache != null) {
+                fingerprint = genoInstance.getFingerprint();
+                Double cached = fitnessCache.get(fingerprint);
+                if (cached != null)
+                    return cached;
+            }
+
+            long start = phaseStart();
+            Object event = FlightRecorderEvents.getInstance().beginFitness(fitness, 1, false);
+            double ret = fitness.fitnessOp(phenoInstance, step);
+            FlightRecorderEvents.getInstance().commitFitness(event, ret);
+            phaseEnd(Phase.Fitness, start);
+            fitnessEvaluations.incrementAndGet();
+            if (fitnessCache != null)
+                fitnessCache.put(fingerprint, ret);
+            return ret;
         }
 
         /**
@@ -627,7 +1516,7 @@ public abstract class GeneticAlgorithm extends GenObject {
 
         @Override
         public int compareTo(Individuum o) {
-            return new Double(o.fitnessValue).compareTo(fitnessValue);
+            return Double.compare(o.fitnessValue, fitnessValue);
         }
 
         @Override
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+/**
+ * A fitness-operator, that can calculate the fitness of a mutated phenoType
+ * out of the fitness of its parent and the changed genes, in the time of
+ * the number of changes instead of the size of the phenoType. The algorithm
+ * uses it just, if the incremental fitness is switched on (see
+ * GeneticAlgorithm.setIncrementalFitness()) and the genoTypes are the
+ * phenoTypes (as example with GenoToPhenoIdentity). The result should be
+ * the same as of the single-instance method, apart from rounding errors.
+ * Since every child starts from the fitness of its parent, the rounding
+ * errors add up over the generations, if the operator just adds the changes
+ * to the parent-fitness. If possible, the operator should rebuild an exact
+ * value out of the parent-fitness instead (see AverageFitness).
+ *
+ * @author Hilmar
+ */
+public interface IncrementalFitnessOp extends FitnessOp {
+
+    /**
+     * the incremental operator
+     *
+     * @param parentFitness the fitness-value of the parent
+     * @param parent the phenoType of the parent
+     * @param input the phenoType of the child
+     * @param changes the genes, that differ between parent and child
+     * @param step the state of the running algorithm
+     * @return the fitness-value of the child
+     */
+    public double fitnessOp (double parentFitness, GenInstance parent, GenInstance input, GeneChanges changes, AlgorithmStep step);
+
+}
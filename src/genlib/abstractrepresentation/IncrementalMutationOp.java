@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+/**
+ * A mutation-operator, that reports the genes it has changed. The algorithm
+ * can hand them over to an IncrementalFitnessOp, so the fitness of the
+ * child is calculated out of the fitness of its parent. Both methods have
+ * to create the same child with the same random-values.
+ *
+ * @author Hilmar
+ */
+public interface IncrementalMutationOp extends MutationOp {
+
+    /**
+     * the actual operator, that also reports the changed genes
+     *
+     * @param input the genoType, that will be mutated (it is not changed)
+     * @param step the state of the running algorithm
+     * @param changes every changed gene is added to it. Genes, that got the same value again, may be added too.
+     * @return the mutated genoType
+     */
+    public GenInstance mutationOp (GenInstance input, AlgorithmStep step, GeneChanges changes);
+
+}
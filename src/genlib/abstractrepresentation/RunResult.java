@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.abstractrepresentation;
+
+import genlib.abstractrepresentation.AlgorithmStep.StopReason;
+import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * the result of one finished run, as example of GeneticAlgorithm.runBatch()
+ *
+ * @author Hilmar
+ */
+public class RunResult extends GenObject {
+
+    /**
+     * the algorithm, that did the run
+     */
+    protected final GeneticAlgorithm algorithm;
+
+    /**
+     * the algorithm-pass of the run
+     */
+    protected final AlgorithmPass algorithmPass;
+
+    /**
+     * the population of the last generation, sorted by decreasing fitness
+     */
+    protected final Individuum [] population;
+
+    /**
+     * the last generation
+     */
+    protected final int generation;
+
+    /**
+     * the number of fitness-evaluations
+     */
+    protected final long fitnessEvaluations;
+
+    /**
+     * why the run ended
+     */
+    protected final StopReason stopReason;
+
+    /**
+     * the constructor, it takes the result of the last run of the algorithm
+     *
+     * @param _algorithm the algorithm, that did the run
+     * @param _algorithmPass the algorithm-pass of the run
+     * @throws NullPointerException if algorithm or algorithmPass is null
+     */
+    public RunResult (GeneticAlgorithm _algorithm, AlgorithmPass _algorithmPass) {
+        if (_algorithm == null)
+            throw new NullPointerException("algorithm can't be null.");
+        if (_algorithmPass == null)
+            throw new NullPointerException("algorithmPass can't be null.");
+
+        algorithm = _algorithm;
+        algorithmPass = _algorithmPass;
+        population = algorithm.getCurrentPopulation();
+        generation = algorithm.getCurrentGeneration();
+        fitnessEvaluations = algorithm.getFitnessEvaluations();
+        stopReason = algorithm.getStopReason();
+    }
+
+    /**
+     * getter for the algorithm, that did the run
+     *
+     * @return the algorithm
+     */
+    public GeneticAlgorithm getAlgorithm () {
+        return algorithm;
+    }
+
+    /**
+     * getter for the algorithm-pass of the run
+     *
+     * @return the algorithm-pass
+     */
+    public AlgorithmPass getAlgorithmPass () {
+        return algorithmPass;
+    }
+
+    /**
+     * getter for the population of the last generation, sorted by decreasing fitness
+     *
+     * @return the population
+     */
+    public Individuum [] getPopulation () {
+        return population.clone();
+    }
+
+    /**
+     * getter for the best individuum of the last generation
+     *
+     * @return the best individuum, null if the population is empty
+     */
+    public Individuum getBestIndividuum () {
+        return (population.length == 0 ? null : population[0]);
+    }
+
+    /**
+     * getter for the last generation
+     *
+     * @return the generation
+     */
+    public int getGeneration () {
+        return generation;
+    }
+
+    /**
+     * getter for the number of fitness-evaluations
+     *
+     * @return the number of fitness-evaluations
+     */
+    public long getFitnessEvaluations () {
+        return fitnessEvaluations;
+    }
+
+    /**
+     * getter for the reason, why the run ended
+     *
+     * @return the stop-reason
+     */
+    public StopReason getStopReason () {
+        return stopReason;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.HierarchicalParent), "algorithm", algorithm),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "algorithmPass", algorithmPass),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "population", population),
+                                new Attribute(new AttributeType(Type.MainAttribute), "generation", generation),
+                                new Attribute(new AttributeType(Type.MainAttribute), "fitnessEvaluations", fitnessEvaluations),
+                                new Attribute(new AttributeType(Type.MainAttribute), "stopReason", stopReason));
+    }
+
+}
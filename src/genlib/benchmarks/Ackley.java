@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * The Ackley-function: -20*exp(-0.2*sqrt(mean(x^2))) - exp(mean(cos(2*pi*x)))
+ * + 20 + e. It is nearly flat outside the center, the minimum 0 is at the origin.
+ *
+ * @author Hilmar
+ */
+public class Ackley extends ContinuousFunction {
+
+    /**
+     * the constructor with the domain [-32.768, 32.768]
+     */
+    public Ackley () {
+        super(-32.768, 32.768);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _domainMin the lower bound of every coordinate
+     * @param _domainMax the upper bound of every coordinate
+     * @throws IllegalArgumentException if domainMin is not smaller than domainMax
+     */
+    public Ackley (double _domainMin, double _domainMax) {
+        super(_domainMin, _domainMax);
+    }
+
+    @Override
+    public double evaluate(DoubleBuffer x) {
+        double squares = 0;
+        double cosines = 0;
+        for (int i=0; i<x.limit(); i++) {
+            double value = x.get(i);
+            squares += value*value;
+            cosines += Math.cos(2*Math.PI*value);
+        }
+        return -20*Math.exp(-0.2*Math.sqrt(squares/x.limit())) - Math.exp(cosines/x.limit()) + 20 + Math.E;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.standard.algorithms.StaticAlgorithmPass;
+import genlib.standard.algorithms.StaticGeneticAlgorithm;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * One configured algorithm of the BenchmarkHarness: a template-algorithm
+ * with its operators and settings (the genoType and the fitness-operator
+ * are set by the problem) and the algorithm-pass per seed.
+ *
+ * @author Hilmar
+ */
+public class BenchmarkAlgorithm extends GenObject {
+
+    /**
+     * creates the algorithm-pass of one run
+     */
+    public interface PassFactory {
+
+        /**
+         * creates the algorithm-pass
+         *
+         * @param seed the seed of the run
+         * @return the algorithm-pass
+         */
+        public AlgorithmPass createPass (long seed);
+    }
+
+    /**
+     * the name of the configuration
+     */
+    protected final String name;
+
+    /**
+     * the template, every run gets its own running algorithm out of it (see
+     * GeneticAlgorithm.createRunningAlgorithm())
+     */
+    protected final GeneticAlgorithm template;
+
+    /**
+     * creates the algorithm-pass per seed
+     */
+    protected final PassFactory passFactory;
+
+    /**
+     * the constructor
+     *
+     * @param _name the name of the configuration
+     * @param _template the template-algorithm with its operators and settings
+     * @param _passFactory creates the algorithm-pass per seed
+     * @throws NullPointerException if one of the parameters is null
+     */
+    public BenchmarkAlgorithm (String _name, GeneticAlgorithm _template, PassFactory _passFactory) {
+        if (_name == null || _template == null || _passFactory == null)
+            throw new NullPointerException("name, template and passFactory can't be null.");
+
+        name = _name;
+        template = _template;
+        passFactory = _passFactory;
+    }
+
+    /**
+     * the creation-method for a StaticGeneticAlgorithm with its standard-operators
+     *
+     * @param population the size of the population
+     * @param retainedPopulation the number of individuums, that survive a generation
+     * @param generations the number of generations
+     * @param mutationProbability the probability of a mutation instead of a recombination
+     * @return the algorithm-configuration
+     */
+    public static BenchmarkAlgorithm staticGeneticAlgorithm (final int population, final int retainedPopulation, final int generations, final double mutationProbability) {
+        return new BenchmarkAlgorithm("Static(" + population + "/" + retainedPopulation + "/" + generations + "/" + mutationProbability + ")", new StaticGeneticAlgorithm(),
+                                      (seed) -> new StaticAlgorithmPass(population, retainedPopulation, generations, mutationProbability, seed));
+    }
+
+    /**
+     * creates the running algorithm for a problem
+     *
+     * @param problem the problem
+     * @param seed the seed of the run
+     * @return the algorithm with the genoType and fitness-operator of the problem
+     * @throws IllegalArgumentException if the problem is not compatible with the operators of the template
+     */
+    public GeneticAlgorithm createAlgorithm (BenchmarkProblem problem, long seed) {
+        GeneticAlgorithm ret = template.createRunningAlgorithm(name + "-" + problem.getName() + "-S" + seed);
+        ret.setGenoType(problem.getGenoType());
+        ret.setPhenoType(problem.getGenoType());
+        ret.setFitnessOp(problem.getFitness());
+        return ret;
+    }
+
+    /**
+     * creates the algorithm-pass of one run
+     *
+     * @param seed the seed of the run
+     * @return the algorithm-pass
+     */
+    public AlgorithmPass createPass (long seed) {
+        return passFactory.createPass(seed);
+    }
+
+    /**
+     * returns the name of the configuration
+     *
+     * @return the name
+     */
+    public String getName () {
+        return name;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.Descriptor), "name", name),
+                                new Attribute(new AttributeType(Type.MainAttribute), "template", template),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "passFactory", passFactory));
+    }
+
+}
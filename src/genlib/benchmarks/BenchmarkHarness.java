@@ -0,0 +1,239 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.output.Logger;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.Utils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This harness runs every algorithm-configuration on every problem with a
+ * number of seeds (without a gui) and records per run the fitness-evaluations
+ * until the target of the problem was reached, the wall-time and the final
+ * fitness. The results can be written as csv, so changes of the library can
+ * be compared on real workloads. The runs are done one after the other.
+ *
+ * @author Hilmar
+ */
+public class BenchmarkHarness extends GenObject {
+
+    /**
+     * the problems
+     */
+    protected final List <BenchmarkProblem> problems;
+
+    /**
+     * the algorithm-configurations
+     */
+    protected final List <BenchmarkAlgorithm> algorithms;
+
+    /**
+     * the seed of the first run, the next runs get the next seeds
+     */
+    protected final long firstSeed;
+
+    /**
+     * the number of runs per problem and algorithm
+     */
+    protected final int seeds;
+
+    /**
+     * the constructor
+     *
+     * @param _problems the problems
+     * @param _algorithms the algorithm-configurations
+     * @param _firstSeed the seed of the first run, the next runs get the next seeds
+     * @param _seeds the number of runs per problem and algorithm
+     * @throws NullPointerException if problems or algorithms is null or contains a null
+     * @throws IllegalArgumentException if seeds is smaller than 1
+     */
+    public BenchmarkHarness (List <BenchmarkProblem> _problems, List <BenchmarkAlgorithm> _algorithms, long _firstSeed, int _seeds) {
+        if (_problems == null || _algorithms == null || _problems.contains(null) || _algorithms.contains(null))
+            throw new NullPointerException("problems and algorithms can't be or contain null.");
+        if (_seeds < 1)
+            throw new IllegalArgumentException("invalid seeds: '" + _seeds + "'.");
+
+        problems = new ArrayList(_problems);
+        algorithms = new ArrayList(_algorithms);
+        firstSeed = _firstSeed;
+        seeds = _seeds;
+    }
+
+    /**
+     * creates the harness with the standard problems (OneMax, LeadingOnes,
+     * Trap, NK-landscape, Sphere, Rastrigin, Rosenbrock, Ackley and TSP) and
+     * a StaticGeneticAlgorithm with its standard-operators.
+     *
+     * @param _seeds the number of runs per problem
+     * @return the harness
+     */
+    public static BenchmarkHarness createStandard (int _seeds) {
+        List <BenchmarkProblem> standardProblems = Arrays.asList(
+                BenchmarkProblem.oneMax(100),
+                BenchmarkProblem.leadingOnes(50),
+                BenchmarkProblem.trap(60, 4),
+                BenchmarkProblem.nkLandscape(64, 4, 1),
+                BenchmarkProblem.sphere(10),
+                BenchmarkProblem.rastrigin(10),
+                BenchmarkProblem.rosenbrock(10),
+                BenchmarkProblem.ackley(10),
+                BenchmarkProblem.travellingSalesman(30, 1));
+        return new BenchmarkHarness(standardProblems, Arrays.asList(BenchmarkAlgorithm.staticGeneticAlgorithm(100, 25, 200, 0.2)), 1, _seeds);
+    }
+
+    /**
+     * does all runs and writes a csv-line per run in the stream, as soon as
+     * it is done
+     *
+     * @param stream the stream, the csv is written in (as example System.out), can be null
+     * @return the results of all runs
+     * @throws GeneticRuntimeException if the stream can't be written
+     */
+    public List <BenchmarkRun> run (OutputStream stream) {
+        List <BenchmarkRun> ret = new ArrayList();
+        write(stream, BenchmarkRun.getCsvHeader() + "\n");
+        for (BenchmarkProblem problem : problems)
+            for (BenchmarkAlgorithm algorithm : algorithms)
+                for (int i=0; i<seeds; i++) {
+                    BenchmarkRun run = run(problem, algorithm, firstSeed + i);
+                    ret.add(run);
+                    write(stream, run.toCsvLine() + "\n");
+                }
+        return ret;
+    }
+
+    /**
+     * does one run
+     *
+     * @param problem the problem
+     * @param algorithm the algorithm-configuration
+     * @param seed the seed
+     * @return the result of the run
+     */
+    public static BenchmarkRun run (BenchmarkProblem problem, BenchmarkAlgorithm algorithm, long seed) {
+        GeneticAlgorithm runningAlgorithm = algorithm.createAlgorithm(problem, seed);
+        AlgorithmPass pass = algorithm.createPass(seed);
+        TargetLogger targetLogger = new TargetLogger(problem.getTargetFitness());
+
+        long start = System.nanoTime();
+        runningAlgorithm.run(pass, targetLogger);
+        long wallNanos = System.nanoTime() - start;
+
+        Individuum best = runningAlgorithm.getBestIndividuum();
+        return new BenchmarkRun(problem.getName(), algorithm.getName(), seed, runningAlgorithm.getCurrentGeneration(), runningAlgorithm.getFitnessEvaluations(),
+                                targetLogger.evaluationsToTarget, wallNanos, (best == null ? Double.NaN : best.getFitness()));
+    }
+
+    /**
+     * writes the text in the stream
+     *
+     * @param stream the stream, can be null
+     * @param text the text
+     * @throws GeneticRuntimeException if the stream can't be written
+     */
+    protected static void write (OutputStream stream, String text) {
+        if (stream == null)
+            return;
+        try {
+            stream.write(text.getBytes());
+            stream.flush();
+        } catch (IOException e) {
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "problems", problems),
+                                new Attribute(new AttributeType(Type.MainAttribute), "algorithms", algorithms),
+                                new Attribute(new AttributeType(Type.MainAttribute), "firstSeed", firstSeed),
+                                new Attribute(new AttributeType(Type.MainAttribute), "seeds", seeds));
+    }
+
+    /**
+     * the logger, that records the fitness-evaluations until the best
+     * individuum reaches the target the first time
+     */
+    private static class TargetLogger extends Logger {
+
+        /**
+         * the target, NaN if there is no target
+         */
+        protected final double targetFitness;
+
+        /**
+         * the fitness-evaluations until the target was reached, -1 if not reached yet
+         */
+        protected long evaluationsToTarget = -1;
+
+        /**
+         * the constructor
+         *
+         * @param _targetFitness the target, NaN if there is no target
+         */
+        public TargetLogger (double _targetFitness) {
+            targetFitness = _targetFitness;
+        }
+
+        @Override
+        public void compatibilityCheck(GeneticAlgorithm algorithm, AlgorithmPass pass) { }
+
+        @Override
+        protected void log(LogType logType, GeneticAlgorithm algorithm, AlgorithmStep step) {
+            if (logType != LogType.Generation || evaluationsToTarget >= 0 || Double.isNaN(targetFitness))
+                return;
+
+            Individuum best = algorithm.getBestIndividuum();
+            if (best != null && best.getFitness() >= targetFitness)
+                evaluationsToTarget = algorithm.getFitnessEvaluations();
+        }
+
+        @Override
+        protected void starting() {
+            evaluationsToTarget = -1;
+        }
+
+        @Override
+        protected void ending() { }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "targetFitness", targetFitness),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "evaluationsToTarget", evaluationsToTarget));
+        }
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.standard.representations.BooleanStaticLength;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * One optimization-problem of the BenchmarkHarness: the genoType, the
+ * fitness-operator and the target-fitness, that counts as solved. Use the
+ * static creation-methods for the standard problems.
+ *
+ * @author Hilmar
+ */
+public class BenchmarkProblem extends GenObject {
+
+    /**
+     * the standard target of the continuous functions: the function-value has
+     * to be at most 0.01 (their fitness is the negative function-value)
+     */
+    public static final double CONTINUOUS_TARGET = -0.01;
+
+    /**
+     * the name of the problem
+     */
+    protected final String name;
+
+    /**
+     * the genoType (it is the phenoType too)
+     */
+    protected final GenRepresentation genoType;
+
+    /**
+     * the fitness-operator
+     */
+    protected final FitnessOp fitness;
+
+    /**
+     * the fitness, that counts as solved. NaN, if the problem has no known target.
+     */
+    protected final double targetFitness;
+
+    /**
+     * the constructor
+     *
+     * @param _name the name of the problem
+     * @param _genoType the genoType (it is the phenoType too)
+     * @param _fitness the fitness-operator
+     * @param _targetFitness the fitness, that counts as solved, NaN if there is no known target
+     * @throws NullPointerException if name, genoType or fitness is null
+     * @throws IllegalArgumentException if the fitness-operator is not compatible with the genoType
+     */
+    public BenchmarkProblem (String _name, GenRepresentation _genoType, FitnessOp _fitness, double _targetFitness) {
+        if (_name == null || _genoType == null || _fitness == null)
+            throw new NullPointerException("name, genoType and fitness can't be null.");
+        if (!_fitness.isCompatible(_genoType))
+            throw new IllegalArgumentException("the fitness-operator is not compatible with the genoType.");
+
+        name = _name;
+        genoType = _genoType;
+        fitness = _fitness;
+        targetFitness = _targetFitness;
+    }
+
+    /**
+     * the creation-method for OneMax on a bit-string
+     *
+     * @param length the genome-length
+     * @return the problem
+     */
+    public static BenchmarkProblem oneMax (int length) {
+        return new BenchmarkProblem("OneMax(" + length + ")", new BooleanStaticLength(length), new OneMax(), length);
+    }
+
+    /**
+     * the creation-method for LeadingOnes on a bit-string
+     *
+     * @param length the genome-length
+     * @return the problem
+     */
+    public static BenchmarkProblem leadingOnes (int length) {
+        return new BenchmarkProblem("LeadingOnes(" + length + ")", new BooleanStaticLength(length), new LeadingOnes(), length);
+    }
+
+    /**
+     * the creation-method for the concatenated trap-function on a bit-string
+     *
+     * @param length the genome-length (a multiple of the block-size)
+     * @param blockSize the number of genes of one block
+     * @return the problem
+     * @throws IllegalArgumentException if the length is no multiple of the block-size
+     */
+    public static BenchmarkProblem trap (int length, int blockSize) {
+        if (length % blockSize != 0)
+            throw new IllegalArgumentException("the length has to be a multiple of the blockSize.");
+
+        return new BenchmarkProblem("Trap(" + length + "/" + blockSize + ")", new BooleanStaticLength(length), new Trap(blockSize), length);
+    }
+
+    /**
+     * the creation-method for a NK-landscape on a bit-string. The optimum is
+     * not known, so it has no target.
+     *
+     * @param n the number of genes
+     * @param k the number of next genes, a contribution depends on
+     * @param seed the seed of the landscape
+     * @return the problem
+     */
+    public static BenchmarkProblem nkLandscape (int n, int k, long seed) {
+        return new BenchmarkProblem("NK(" + n + "/" + k + "/" + seed + ")", new BooleanStaticLength(n), new NKLandscape(n, k, seed), Double.NaN);
+    }
+
+    /**
+     * the creation-method for a continuous function in its standard domain,
+     * with the target CONTINUOUS_TARGET
+     *
+     * @param function the function
+     * @param dimension the number of coordinates
+     * @return the problem
+     */
+    public static BenchmarkProblem continuous (ContinuousFunction function, int dimension) {
+        return new BenchmarkProblem(function.getClass().getSimpleName() + "(" + dimension + ")", function.createRepresentation(dimension), function, CONTINUOUS_TARGET);
+    }
+
+    /**
+     * the creation-method for the sphere-function
+     *
+     * @param dimension the number of coordinates
+     * @return the problem
+     */
+    public static BenchmarkProblem sphere (int dimension) {
+        return continuous(new Sphere(), dimension);
+    }
+
+    /**
+     * the creation-method for the Rastrigin-function
+     *
+     * @param dimension the number of coordinates
+     * @return the problem
+     */
+    public static BenchmarkProblem rastrigin (int dimension) {
+        return continuous(new Rastrigin(), dimension);
+    }
+
+    /**
+     * the creation-method for the Rosenbrock-function
+     *
+     * @param dimension the number of coordinates
+     * @return the problem
+     */
+    public static BenchmarkProblem rosenbrock (int dimension) {
+        return continuous(new Rosenbrock(), dimension);
+    }
+
+    /**
+     * the creation-method for the Ackley-function
+     *
+     * @param dimension the number of coordinates
+     * @return the problem
+     */
+    public static BenchmarkProblem ackley (int dimension) {
+        return continuous(new Ackley(), dimension);
+    }
+
+    /**
+     * the creation-method for a travelling-salesman-instance with random
+     * cities. The optimum is not known, so it has no target.
+     *
+     * @param cities the number of cities
+     * @param seed the seed of the cities
+     * @return the problem
+     */
+    public static BenchmarkProblem travellingSalesman (int cities, long seed) {
+        TravellingSalesman tsp = new TravellingSalesman(cities, seed);
+        return new BenchmarkProblem("TSP(" + cities + "/" + seed + ")", tsp.createRepresentation(), tsp, Double.NaN);
+    }
+
+    /**
+     * returns a copy of this problem with another target
+     *
+     * @param _targetFitness the fitness, that counts as solved, NaN if there is no target
+     * @return the new problem
+     */
+    public BenchmarkProblem withTarget (double _targetFitness) {
+        return new BenchmarkProblem(name, genoType, fitness, _targetFitness);
+    }
+
+    /**
+     * returns the name of the problem
+     *
+     * @return the name
+     */
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * returns the genoType
+     *
+     * @return the genoType
+     */
+    public GenRepresentation getGenoType () {
+        return genoType;
+    }
+
+    /**
+     * returns the fitness-operator
+     *
+     * @return the fitness-operator
+     */
+    public FitnessOp getFitness () {
+        return fitness;
+    }
+
+    /**
+     * returns the fitness, that counts as solved
+     *
+     * @return the target, NaN if there is no target
+     */
+    public double getTargetFitness () {
+        return targetFitness;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.Descriptor), "name", name),
+                                new Attribute(new AttributeType(Type.MainAttribute), "genoType", genoType),
+                                new Attribute(new AttributeType(Type.MainAttribute), "fitness", fitness),
+                                new Attribute(new AttributeType(Type.MainAttribute), "targetFitness", targetFitness));
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * the result of one run of the BenchmarkHarness: one algorithm on one
+ * problem with one seed
+ *
+ * @author Hilmar
+ */
+public class BenchmarkRun extends GenObject {
+
+    /**
+     * the name of the problem
+     */
+    protected final String problem;
+
+    /**
+     * the name of the algorithm-configuration
+     */
+    protected final String algorithm;
+
+    /**
+     * the seed of the run
+     */
+    protected final long seed;
+
+    /**
+     * the number of generations
+     */
+    protected final int generations;
+
+    /**
+     * the number of fitness-evaluations of the complete run
+     */
+    protected final long evaluations;
+
+    /**
+     * the number of fitness-evaluations until the generation, in which the
+     * target was reached the first time. -1, if it was not reached.
+     */
+    protected final long evaluationsToTarget;
+
+    /**
+     * the wall-time of the run in nanoseconds
+     */
+    protected final long wallNanos;
+
+    /**
+     * the best fitness of the last generation
+     */
+    protected final double finalFitness;
+
+    /**
+     * the constructor
+     *
+     * @param _problem the name of the problem
+     * @param _algorithm the name of the algorithm-configuration
+     * @param _seed the seed of the run
+     * @param _generations the number of generations
+     * @param _evaluations the number of fitness-evaluations of the complete run
+     * @param _evaluationsToTarget the fitness-evaluations until the target was reached, -1 if it was not reached
+     * @param _wallNanos the wall-time of the run in nanoseconds
+     * @param _finalFitness the best fitness of the last generation
+     */
+    public BenchmarkRun (String _problem, String _algorithm, long _seed, int _generations, long _evaluations, long _evaluationsToTarget, long _wallNanos, double _finalFitness) {
+        problem = _problem;
+        algorithm = _algorithm;
+        seed = _seed;
+        generations = _generations;
+        evaluations = _evaluations;
+        evaluationsToTarget = _evaluationsToTarget;
+        wallNanos = _wallNanos;
+        finalFitness = _finalFitness;
+    }
+
+    /**
+     * returns the name of the problem
+     *
+     * @return the name
+     */
+    public String getProblem () {
+        return problem;
+    }
+
+    /**
+     * returns the name of the algorithm-configuration
+     *
+     * @return the name
+     */
+    public String getAlgorithm () {
+        return algorithm;
+    }
+
+    /**
+     * returns the seed of the run
+     *
+     * @return the seed
+     */
+    public long getSeed () {
+        return seed;
+    }
+
+    /**
+     * returns the number of generations
+     *
+     * @return the generations
+     */
+    public int getGenerations () {
+        return generations;
+    }
+
+    /**
+     * returns the number of fitness-evaluations of the complete run
+     *
+     * @return the evaluations
+     */
+    public long getEvaluations () {
+        return evaluations;
+    }
+
+    /**
+     * returns the number of fitness-evaluations until the target was reached
+     *
+     * @return the evaluations, -1 if the target was not reached
+     */
+    public long getEvaluationsToTarget () {
+        return evaluationsToTarget;
+    }
+
+    /**
+     * was the target reached?
+     *
+     * @return true, if it was reached
+     */
+    public boolean isTargetReached () {
+        return evaluationsToTarget >= 0;
+    }
+
+    /**
+     * returns the wall-time of the run
+     *
+     * @return the time in nanoseconds
+     */
+    public long getWallNanos () {
+        return wallNanos;
+    }
+
+    /**
+     * returns the best fitness of the last generation
+     *
+     * @return the fitness
+     */
+    public double getFinalFitness () {
+        return finalFitness;
+    }
+
+    /**
+     * returns the header of the csv-lines (see toCsvLine())
+     *
+     * @return the header
+     */
+    public static String getCsvHeader () {
+        return "problem,algorithm,seed,generations,evaluations,evaluationsToTarget,targetReached,wallMillis,finalFitness";
+    }
+
+    /**
+     * returns this run as csv-line
+     *
+     * @return the line, without line-break
+     */
+    public String toCsvLine () {
+        return  escapeCsv(problem) + "," + escapeCsv(algorithm) + "," + seed + "," + generations + "," + evaluations + "," +
+                (isTargetReached() ? "" + evaluationsToTarget : "") + "," + isTargetReached() + "," +
+                String.format(Locale.ROOT, "%.3f", wallNanos / 1e6) + "," + finalFitness;
+    }
+
+    /**
+     * escapes a value of a csv-line, if it contains a comma or a quote
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    protected static String escapeCsv (String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0)
+            return value;
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "problem", problem),
+                                new Attribute(new AttributeType(Type.MainAttribute), "algorithm", algorithm),
+                                new Attribute(new AttributeType(Type.MainAttribute), "seed", seed),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "generations", generations),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "evaluations", evaluations),
+                                new Attribute(new AttributeType(Type.MainAttribute), "evaluationsToTarget", evaluationsToTarget),
+                                new Attribute(new AttributeType(Type.MainAttribute), "wallNanos", wallNanos),
+                                new Attribute(new AttributeType(Type.MainAttribute), "finalFitness", finalFitness));
+    }
+
+}
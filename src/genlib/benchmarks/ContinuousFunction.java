@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.extended.distributions.LinearDistribution;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.DoubleStaticLength;
+import genlib.utils.Utils;
+import java.nio.DoubleBuffer;
+import java.util.List;
+
+/**
+ * A continuous test-function, that has to be minimized. The genes are the
+ * coordinates, the fitness is the negative function-value (the algorithms
+ * maximize the fitness), so the optimum of all subclasses is the fitness 0.
+ * Use createRepresentation() for genes in the usual domain of the function.
+ *
+ * @author Hilmar
+ */
+public abstract class ContinuousFunction extends GenObject implements FitnessOp {
+
+    /**
+     * the lower and upper bound of every coordinate
+     */
+    protected final double domainMin, domainMax;
+
+    /**
+     * the constructor
+     *
+     * @param _domainMin the lower bound of every coordinate
+     * @param _domainMax the upper bound of every coordinate
+     * @throws IllegalArgumentException if domainMin is not smaller than domainMax
+     */
+    public ContinuousFunction (double _domainMin, double _domainMax) {
+        if (!(_domainMin < _domainMax))
+            throw new IllegalArgumentException("domainMin has to be smaller than domainMax.");
+
+        domainMin = _domainMin;
+        domainMax = _domainMax;
+    }
+
+    /**
+     * creates a representation with genes in the domain of this function
+     *
+     * @param dimension the number of coordinates
+     * @return the representation
+     */
+    public DoubleStaticLength createRepresentation (int dimension) {
+        return new DoubleStaticLength(dimension, new LinearDistribution(domainMin, domainMax));
+    }
+
+    /**
+     * calculates the function-value, that has to be minimized
+     *
+     * @param x the coordinates (a read-only view, see AnyTypeStaticLengthInstance.asDoubleBuffer())
+     * @return the function-value
+     */
+    public abstract double evaluate (DoubleBuffer x);
+
+    /**
+     * calculates the function-value, that has to be minimized
+     *
+     * @param x the coordinates
+     * @return the function-value
+     */
+    public double evaluate (double [] x) {
+        return evaluate(DoubleBuffer.wrap(x).asReadOnlyBuffer());
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        return -evaluate(((AnyTypeStaticLengthInstance)input).asDoubleBuffer());
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return representation instanceof AnyTypeStaticLength;
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "domainMin", domainMin),
+                                new Attribute(new AttributeType(Type.MainAttribute), "domainMax", domainMax));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * The LeadingOnes-problem: the fitness is the number of genes at the start
+ * of the genome, that are not 0. The optimum is the length of the genome.
+ *
+ * @author Hilmar
+ */
+public class LeadingOnes extends GenObject implements FitnessOp {
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        AnyTypeStaticLengthInstance instance = (AnyTypeStaticLengthInstance)input;
+        int length = ((AnyTypeStaticLength)instance.getRepresentation()).getLength();
+        int ret = 0;
+        while (ret < length && instance.getLongValue(ret) != 0)
+            ret++;
+        return ret;
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return representation instanceof AnyTypeStaticLength && ((AnyTypeStaticLength)representation).isLongType();
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( );
+    }
+
+}
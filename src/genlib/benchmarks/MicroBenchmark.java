@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * One micro-benchmark: a small piece of work (as example one invocation of an
+ * operator), that is invoked repeatedly by the MicroBenchmarkRunner. Everything,
+ * that should not be measured, has to be done in setup().
+ *
+ * @author Hilmar
+ */
+public abstract class MicroBenchmark extends GenObject {
+
+    /**
+     * the name of the benchmark (as example the name of the operator)
+     */
+    protected final String name;
+
+    /**
+     * the parameters of the benchmark (as example the genome-length), just for the output
+     */
+    protected final String parameters;
+
+    /**
+     * the constructor
+     *
+     * @param _name the name of the benchmark
+     * @param _parameters the parameters of the benchmark, just for the output
+     * @throws NullPointerException if one of the parameters is null
+     */
+    public MicroBenchmark (String _name, String _parameters) {
+        if (_name == null || _parameters == null)
+            throw new NullPointerException("name and parameters can't be null.");
+
+        name = _name;
+        parameters = _parameters;
+    }
+
+    /**
+     * prepares the benchmark, it is invoked once before the measuring
+     */
+    public void setup () { }
+
+    /**
+     * does the measured work once. The result is consumed by the runner, so the
+     * work can't be optimized away.
+     *
+     * @return the result of the work
+     */
+    public abstract Object invoke ();
+
+    /**
+     * returns the name of the benchmark
+     *
+     * @return the name
+     */
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * returns the parameters of the benchmark
+     *
+     * @return the parameters
+     */
+    public String getParameters () {
+        return parameters;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.Descriptor), "name", name),
+                                new Attribute(new AttributeType(Type.MainAttribute), "parameters", parameters));
+    }
+
+}
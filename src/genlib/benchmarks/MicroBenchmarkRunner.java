@@ -0,0 +1,444 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.Utils;
+import genlib.utils.Utils.FillDirection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This runner measures micro-benchmarks: every benchmark is invoked in a loop
+ * for some warmup-iterations (not measured) and then for some measured
+ * iterations of a fixed duration. It measures the throughput (operations per
+ * second), the allocated bytes per operation and the allocation-rate of all
+ * threads (so the work of executors is included) and the garbage-collections
+ * during the measured iterations. The allocation is just measured, if the JVM
+ * supports it (see com.sun.management.ThreadMXBean), otherwise it is NaN.
+ * Threads, that end during the measuring, are not counted, so the threads of
+ * an executor should live longer than the benchmark.
+ *
+ * All benchmarks run one after the other in the same JVM (there is no fork
+ * like in JMH): the JIT-compiler and the garbage-collector keep what earlier
+ * benchmarks left behind (as example profiles of other types at the same
+ * call-sites), which can make later benchmarks slower. For reliable
+ * comparisons, a single benchmark should be measured in a fresh JVM (see
+ * the filter of StandardMicroBenchmarks.run()).
+ *
+ * @author Hilmar
+ */
+public class MicroBenchmarkRunner extends GenObject {
+
+    /**
+     * the number of iterations, that are done before the measuring
+     */
+    protected final int warmupIterations;
+
+    /**
+     * the number of measured iterations
+     */
+    protected final int iterations;
+
+    /**
+     * the duration of one iteration in milliseconds
+     */
+    protected final long iterationMillis;
+
+    /**
+     * the hashes of the results of all invocations folded together, so the
+     * work of the benchmarks can't be optimized away
+     */
+    protected volatile int sink;
+
+    /**
+     * the constructor with standard-values: 3 warmup-iterations and 5 measured
+     * iterations of 1 second
+     */
+    public MicroBenchmarkRunner () {
+        this(3, 5, 1000);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _warmupIterations the number of iterations, that are done before the measuring
+     * @param _iterations the number of measured iterations
+     * @param _iterationMillis the duration of one iteration in milliseconds
+     * @throws IllegalArgumentException if warmupIterations is smaller than 0 or iterations or iterationMillis is smaller than 1
+     */
+    public MicroBenchmarkRunner (int _warmupIterations, int _iterations, long _iterationMillis) {
+        if (_warmupIterations < 0)
+            throw new IllegalArgumentException("invalid warmupIterations: '" + _warmupIterations + "'.");
+        if (_iterations < 1)
+            throw new IllegalArgumentException("invalid iterations: '" + _iterations + "'.");
+        if (_iterationMillis < 1)
+            throw new IllegalArgumentException("invalid iterationMillis: '" + _iterationMillis + "'.");
+
+        warmupIterations = _warmupIterations;
+        iterations = _iterations;
+        iterationMillis = _iterationMillis;
+    }
+
+    /**
+     * measures all benchmarks one after the other and writes a line per
+     * benchmark in the stream, as soon as it is measured.
+     *
+     * @param benchmarks the benchmarks
+     * @param stream the stream, the results are written in (as example System.out), can be null
+     * @return the results, in the order of the benchmarks
+     * @throws GeneticRuntimeException if the stream can't be written
+     */
+    public List <BenchmarkResult> runAll (List <MicroBenchmark> benchmarks, OutputStream stream) {
+        List <BenchmarkResult> ret = new ArrayList();
+        write(stream, BenchmarkResult.getHeader() + "\n");
+        for (MicroBenchmark benchmark : benchmarks) {
+            BenchmarkResult result = run(benchmark);
+            ret.add(result);
+            write(stream, result.toLine() + "\n");
+        }
+        return ret;
+    }
+
+    /**
+     * measures one benchmark
+     *
+     * @param benchmark the benchmark
+     * @return the result
+     */
+    public BenchmarkResult run (MicroBenchmark benchmark) {
+        benchmark.setup();
+        for (int i=0; i<warmupIterations; i++)
+            iterate(benchmark);
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        boolean allocationSupported = threadBean instanceof com.sun.management.ThreadMXBean &&
+                                      ((com.sun.management.ThreadMXBean)threadBean).isThreadAllocatedMemorySupported() &&
+                                      ((com.sun.management.ThreadMXBean)threadBean).isThreadAllocatedMemoryEnabled();
+
+        double [] opsPerSecond = new double[iterations];
+        long operations = 0;
+        long nanos = 0;
+        long gcCountBefore = getGcCount();
+        long gcMillisBefore = getGcMillis();
+        Map <Long, Long> allocatedBefore = (allocationSupported ? getAllocatedBytes((com.sun.management.ThreadMXBean)threadBean) : null);
+        for (int i=0; i<iterations; i++) {
+            long start = System.nanoTime();
+            long iterationOperations = iterate(benchmark);
+            long iterationNanos = System.nanoTime() - start;
+            opsPerSecond[i] = iterationOperations * 1e9 / iterationNanos;
+            operations += iterationOperations;
+            nanos += iterationNanos;
+        }
+        long allocated = 0;
+        if (allocationSupported)
+            for (Map.Entry <Long, Long> thread : getAllocatedBytes((com.sun.management.ThreadMXBean)threadBean).entrySet())
+                allocated += thread.getValue() - allocatedBefore.getOrDefault(thread.getKey(), 0L);
+
+        //the mean and the standard-deviation of the iterations
+        double mean = 0;
+        for (double value : opsPerSecond)
+            mean += value / iterations;
+        double variance = 0;
+        for (double value : opsPerSecond)
+            variance += (value-mean) * (value-mean) / Math.max(iterations-1, 1);
+
+        return new BenchmarkResult(benchmark.getName(), benchmark.getParameters(), mean, Math.sqrt(variance),
+                                   (allocationSupported ? (double)allocated / operations : Double.NaN),
+                                   (allocationSupported ? allocated * 1e9 / nanos / (1024*1024) : Double.NaN),
+                                   getGcCount() - gcCountBefore, getGcMillis() - gcMillisBefore);
+    }
+
+    /**
+     * invokes the benchmark, until the duration of one iteration is over
+     *
+     * @param benchmark the benchmark
+     * @return the number of invocations
+     */
+    protected long iterate (MicroBenchmark benchmark) {
+        long end = System.nanoTime() + iterationMillis * 1000000;
+        long ret = 0;
+        int hash = 0;
+        do {
+            hash ^= System.identityHashCode(benchmark.invoke());
+            ret++;
+        } while (System.nanoTime() < end);
+        sink ^= hash;
+        return ret;
+    }
+
+    /**
+     * returns the allocated bytes of all live threads
+     *
+     * @param threadBean the bean of the JVM, that supports the measuring
+     * @return the allocated bytes since the start of each thread by the id of the thread
+     */
+    protected static Map <Long, Long> getAllocatedBytes (com.sun.management.ThreadMXBean threadBean) {
+        long [] threadIds = threadBean.getAllThreadIds();
+        long [] allocated = threadBean.getThreadAllocatedBytes(threadIds);
+        Map <Long, Long> ret = new HashMap<>();
+        for (int i=0; i<threadIds.length; i++)
+            //-1 for threads, that ended in the meantime
+            if (allocated[i] >= 0)
+                ret.put(threadIds[i], allocated[i]);
+        return ret;
+    }
+
+    /**
+     * returns the number of garbage-collections of all collectors since the start of the JVM
+     *
+     * @return the number of collections
+     */
+    protected static long getGcCount () {
+        long ret = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+            ret += Math.max(bean.getCollectionCount(), 0);
+        return ret;
+    }
+
+    /**
+     * returns the time of all garbage-collections since the start of the JVM
+     *
+     * @return the time in milliseconds
+     */
+    protected static long getGcMillis () {
+        long ret = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+            ret += Math.max(bean.getCollectionTime(), 0);
+        return ret;
+    }
+
+    /**
+     * writes the text in the stream
+     *
+     * @param stream the stream, can be null
+     * @param text the text
+     * @throws GeneticRuntimeException if the stream can't be written
+     */
+    protected static void write (OutputStream stream, String text) {
+        if (stream == null)
+            return;
+        try {
+            stream.write(text.getBytes());
+            stream.flush();
+        } catch (IOException e) {
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "warmupIterations", warmupIterations),
+                                new Attribute(new AttributeType(Type.MainAttribute), "iterations", iterations),
+                                new Attribute(new AttributeType(Type.MainAttribute), "iterationMillis", iterationMillis),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "sink", sink));
+    }
+
+    /**
+     * the measured values of one benchmark
+     */
+    public static class BenchmarkResult extends GenObject {
+
+        /**
+         * the name of the benchmark
+         */
+        protected final String name;
+
+        /**
+         * the parameters of the benchmark
+         */
+        protected final String parameters;
+
+        /**
+         * the average throughput of the measured iterations
+         */
+        protected final double opsPerSecond;
+
+        /**
+         * the standard-deviation of the throughput of the measured iterations
+         */
+        protected final double opsPerSecondError;
+
+        /**
+         * the allocated bytes per operation, NaN if not supported
+         */
+        protected final double bytesPerOperation;
+
+        /**
+         * the allocated megabytes per second, NaN if not supported
+         */
+        protected final double allocationRate;
+
+        /**
+         * the number of garbage-collections during the measuring
+         */
+        protected final long gcCount;
+
+        /**
+         * the time of the garbage-collections during the measuring in milliseconds
+         */
+        protected final long gcMillis;
+
+        /**
+         * the constructor
+         *
+         * @param _name the name of the benchmark
+         * @param _parameters the parameters of the benchmark
+         * @param _opsPerSecond the average throughput
+         * @param _opsPerSecondError the standard-deviation of the throughput
+         * @param _bytesPerOperation the allocated bytes per operation
+         * @param _allocationRate the allocated megabytes per second
+         * @param _gcCount the number of garbage-collections
+         * @param _gcMillis the time of the garbage-collections in milliseconds
+         */
+        public BenchmarkResult (String _name, String _parameters, double _opsPerSecond, double _opsPerSecondError, double _bytesPerOperation, double _allocationRate, long _gcCount, long _gcMillis) {
+            name = _name;
+            parameters = _parameters;
+            opsPerSecond = _opsPerSecond;
+            opsPerSecondError = _opsPerSecondError;
+            bytesPerOperation = _bytesPerOperation;
+            allocationRate = _allocationRate;
+            gcCount = _gcCount;
+            gcMillis = _gcMillis;
+        }
+
+        /**
+         * returns the name of the benchmark
+         *
+         * @return the name
+         */
+        public String getName () {
+            return name;
+        }
+
+        /**
+         * returns the parameters of the benchmark
+         *
+         * @return the parameters
+         */
+        public String getParameters () {
+            return parameters;
+        }
+
+        /**
+         * returns the average throughput
+         *
+         * @return the operations per second
+         */
+        public double getOpsPerSecond () {
+            return opsPerSecond;
+        }
+
+        /**
+         * returns the standard-deviation of the throughput
+         *
+         * @return the standard-deviation in operations per second
+         */
+        public double getOpsPerSecondError () {
+            return opsPerSecondError;
+        }
+
+        /**
+         * returns the allocated bytes per operation
+         *
+         * @return the bytes, NaN if not supported
+         */
+        public double getBytesPerOperation () {
+            return bytesPerOperation;
+        }
+
+        /**
+         * returns the allocation-rate
+         *
+         * @return the megabytes per second, NaN if not supported
+         */
+        public double getAllocationRate () {
+            return allocationRate;
+        }
+
+        /**
+         * returns the number of garbage-collections during the measuring
+         *
+         * @return the number of collections
+         */
+        public long getGcCount () {
+            return gcCount;
+        }
+
+        /**
+         * returns the time of the garbage-collections during the measuring
+         *
+         * @return the time in milliseconds
+         */
+        public long getGcMillis () {
+            return gcMillis;
+        }
+
+        /**
+         * returns the header of the table, the lines are written in (see toLine())
+         *
+         * @return the header
+         */
+        public static String getHeader () {
+            return  Utils.lengthAtLeast("benchmark", 30, ' ', FillDirection.Right) + Utils.lengthAtLeast("parameters", 32, ' ', FillDirection.Right) +
+                    Utils.lengthAtLeast("ops/s", 16, ' ', FillDirection.Left) + Utils.lengthAtLeast("error", 14, ' ', FillDirection.Left) +
+                    Utils.lengthAtLeast("B/op", 14, ' ', FillDirection.Left) + Utils.lengthAtLeast("MB/s", 10, ' ', FillDirection.Left) +
+                    Utils.lengthAtLeast("gc", 6, ' ', FillDirection.Left) + Utils.lengthAtLeast("gc-ms", 8, ' ', FillDirection.Left);
+        }
+
+        /**
+         * returns this result as one line of a table (see getHeader())
+         *
+         * @return the line
+         */
+        public String toLine () {
+            return  Utils.lengthAtLeast(name, 30, ' ', FillDirection.Right) + Utils.lengthAtLeast(parameters, 32, ' ', FillDirection.Right) +
+                    String.format(Locale.ROOT, "%16.1f%14.1f%14.1f%10.1f%6d%8d", opsPerSecond, opsPerSecondError, bytesPerOperation, allocationRate, gcCount, gcMillis);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.createList( new Attribute(new AttributeType(Type.Descriptor), "name", name),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "parameters", parameters),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "opsPerSecond", opsPerSecond),
+                                    new Attribute(new AttributeType(Type.NormalAttribute), "opsPerSecondError", opsPerSecondError),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "bytesPerOperation", bytesPerOperation),
+                                    new Attribute(new AttributeType(Type.NormalAttribute), "allocationRate", allocationRate),
+                                    new Attribute(new AttributeType(Type.NormalAttribute), "gcCount", gcCount),
+                                    new Attribute(new AttributeType(Type.NormalAttribute), "gcMillis", gcMillis));
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The NK-landscape: every one of the n genes contributes a random value
+ * between 0 and 1, that depends on the gene and its k next genes (cyclic).
+ * The fitness is the average of the contributions, the ruggedness of the
+ * landscape grows with k. A gene counts as 1, if it is not 0. The tables of
+ * the contributions are created out of the seed, so the same seed gives the
+ * same landscape.
+ *
+ * @author Hilmar
+ */
+public class NKLandscape extends GenObject implements FitnessOp {
+
+    /**
+     * the number of genes
+     */
+    protected final int n;
+
+    /**
+     * the number of next genes, a contribution depends on
+     */
+    protected final int k;
+
+    /**
+     * the seed of the contribution-tables
+     */
+    protected final long seed;
+
+    /**
+     * the contribution per gene, indexed by the bits of the gene and its k next genes
+     */
+    protected final double [][] contributions;
+
+    /**
+     * the constructor
+     *
+     * @param _n the number of genes
+     * @param _k the number of next genes, a contribution depends on
+     * @param _seed the seed of the contribution-tables
+     * @throws IllegalArgumentException if n is smaller than 1 or k is not between 0 and min(n-1, 20)
+     */
+    public NKLandscape (int _n, int _k, long _seed) {
+        if (_n < 1)
+            throw new IllegalArgumentException("invalid n: '" + _n + "'.");
+        if (_k < 0 || _k >= _n || _k > 20)
+            throw new IllegalArgumentException("invalid k: '" + _k + "'.");
+
+        n = _n;
+        k = _k;
+        seed = _seed;
+        Random random = new Random(seed);
+        contributions = new double[n][1 << (k+1)];
+        for (double [] table : contributions)
+            for (int i=0; i<table.length; i++)
+                table[i] = random.nextDouble();
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        AnyTypeStaticLengthInstance instance = (AnyTypeStaticLengthInstance)input;
+        boolean [] bits = new boolean[n];
+        for (int i=0; i<n; i++)
+            bits[i] = instance.getLongValue(i) != 0;
+
+        double ret = 0;
+        for (int i=0; i<n; i++) {
+            int index = 0;
+            for (int j=0; j<=k; j++)
+                index = (index << 1) | (bits[(i+j) % n] ? 1 : 0);
+            ret += contributions[i][index];
+        }
+        return ret / n;
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return  representation instanceof AnyTypeStaticLength && ((AnyTypeStaticLength)representation).isLongType() &&
+                ((AnyTypeStaticLength)representation).getLength() == n;
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "n", n),
+                                new Attribute(new AttributeType(Type.MainAttribute), "k", k),
+                                new Attribute(new AttributeType(Type.MainAttribute), "seed", seed),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "contributions", contributions));
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * The sphere-function: the sum of the squared coordinates. The minimum 0
+ * is at the origin.
+ *
+ * @author Hilmar
+ */
+public class Sphere extends ContinuousFunction {
+
+    /**
+     * the constructor with the domain [-5.12, 5.12]
+     */
+    public Sphere () {
+        super(-5.12, 5.12);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _domainMin the lower bound of every coordinate
+     * @param _domainMax the upper bound of every coordinate
+     * @throws IllegalArgumentException if domainMin is not smaller than domainMax
+     */
+    public Sphere (double _domainMin, double _domainMax) {
+        super(_domainMin, _domainMax);
+    }
+
+    @Override
+    public double evaluate(DoubleBuffer x) {
+        double ret = 0;
+        for (int i=0; i<x.limit(); i++)
+            ret += x.get(i)*x.get(i);
+        return ret;
+    }
+
+}
@@ -0,0 +1,659 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.abstractrepresentation.MutationOp;
+import genlib.abstractrepresentation.RecombinationOp;
+import genlib.extended.diversity.AbstractDiversity;
+import genlib.extended.diversity.AverageDiversity;
+import genlib.extended.diversity.ShannonEntropyDiversity;
+import genlib.extended.diversity.SubStringDiversity;
+import genlib.output.Logger;
+import genlib.standard.algorithms.StaticAlgorithmPass;
+import genlib.standard.algorithms.StaticAlgorithmStep;
+import genlib.standard.algorithms.StaticGeneticAlgorithm;
+import genlib.standard.operators.ArithmeticRecombination;
+import genlib.standard.operators.BitFlipMutation;
+import genlib.standard.operators.KPointCrossover;
+import genlib.standard.operators.OnePointMutation;
+import genlib.standard.operators.UniformCrossover;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.BooleanStaticLength;
+import genlib.standard.representations.ByteStaticLength;
+import genlib.standard.representations.CharStaticLength;
+import genlib.standard.representations.DoubleStaticLength;
+import genlib.standard.representations.FloatStaticLength;
+import genlib.standard.representations.IntStaticLength;
+import genlib.standard.representations.LongStaticLength;
+import genlib.standard.representations.PackedBooleanStaticLength;
+import genlib.standard.representations.ShortStaticLength;
+import genlib.utils.OffHeapPopulation;
+import genlib.utils.Utils;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The standard micro-benchmarks of the library: the recombination- and
+ * mutation-operators, the random instantiation of all representations, the
+ * diversities and one generation of the StaticGeneticAlgorithm and of the
+ * OffHeapPopulation, each with
+ * several genome-lengths, population-sizes and types. They can be started
+ * with the argument 'micro-benchmarks' of the Main-class.
+ *
+ * @author Hilmar
+ */
+public class StandardMicroBenchmarks {
+
+    /**
+     * the genome-lengths of the operator- and instantiation-benchmarks
+     */
+    public static final int [] GENOME_LENGTHS = {16, 256, 4096};
+
+    /**
+     * the population-sizes of the diversity- and generation-benchmarks
+     */
+    public static final int [] POPULATION_SIZES = {32, 256};
+
+    /**
+     * the genome-length of the diversity-benchmarks (the SubStringDiversity
+     * creates all sub-strings, so it needs quadratic memory)
+     */
+    public static final int DIVERSITY_GENOME_LENGTH = 64;
+
+    /**
+     * the genome-length of the generation-benchmarks
+     */
+    public static final int GENERATION_GENOME_LENGTH = 256;
+
+    /**
+     * the seed of all benchmarks, so every run measures the same work
+     */
+    protected static final long SEED = 42;
+
+    /**
+     * no instances of this class
+     */
+    private StandardMicroBenchmarks() { }
+
+    /**
+     * measures all standard benchmarks, whose name contains the filter
+     *
+     * @param runner the runner
+     * @param filter the filter (as example 'KPointCrossover'), null for all benchmarks
+     * @param stream the stream, the results are written in (as example System.out), can be null
+     * @return the results
+     */
+    public static List <MicroBenchmarkRunner.BenchmarkResult> run (MicroBenchmarkRunner runner, String filter, OutputStream stream) {
+        List <MicroBenchmark> benchmarks = new ArrayList();
+        for (MicroBenchmark benchmark : createAll())
+            if (filter == null || benchmark.getName().contains(filter))
+                benchmarks.add(benchmark);
+        return runner.runAll(benchmarks, stream);
+    }
+
+    /**
+     * creates all standard benchmarks
+     *
+     * @return the benchmarks
+     */
+    public static List <MicroBenchmark> createAll () {
+        List <MicroBenchmark> ret = new ArrayList();
+        ret.addAll(createOperatorBenchmarks());
+        ret.addAll(createInstantiationBenchmarks());
+        ret.addAll(createDiversityBenchmarks());
+        ret.addAll(createGenerationBenchmarks());
+        return ret;
+    }
+
+    /**
+     * creates the benchmarks of KPointCrossover, UniformCrossover,
+     * ArithmeticRecombination, OnePointMutation and BitFlipMutation with the
+     * types Boolean, Byte, Int, Double and packed Boolean and all genome-lengths
+     *
+     * @return the benchmarks
+     */
+    public static List <MicroBenchmark> createOperatorBenchmarks () {
+        List <MicroBenchmark> ret = new ArrayList();
+        for (int length : GENOME_LENGTHS)
+            for (GenRepresentation representation : createOperatorRepresentations(length)) {
+                for (RecombinationOp recombination : Arrays.asList(new KPointCrossover(2), new UniformCrossover(), new ArithmeticRecombination(0.5)))
+                    if (recombination.isCompatible(representation))
+                        ret.add(new RecombinationBenchmark(recombination, representation));
+                for (MutationOp mutation : Arrays.asList(new OnePointMutation(), new BitFlipMutation()))
+                    if (mutation.isCompatible(representation))
+                        ret.add(new MutationBenchmark(mutation, representation));
+            }
+        return ret;
+    }
+
+    /**
+     * creates the benchmarks of instantiateRandom of every *StaticLength-representation
+     * and all genome-lengths
+     *
+     * @return the benchmarks
+     */
+    public static List <MicroBenchmark> createInstantiationBenchmarks () {
+        List <MicroBenchmark> ret = new ArrayList();
+        for (int length : GENOME_LENGTHS)
+            for (GenRepresentation representation : Arrays.asList(new BooleanStaticLength(length), new ByteStaticLength(length), new CharStaticLength(length), new ShortStaticLength(length),
+                                                                    new IntStaticLength(length), new LongStaticLength(length), new FloatStaticLength(length), new DoubleStaticLength(length), new PackedBooleanStaticLength(length)))
+                ret.add(new InstantiationBenchmark(representation));
+        return ret;
+    }
+
+    /**
+     * creates the benchmarks of AverageDiversity, ShannonEntropyDiversity and
+     * SubStringDiversity with the types Boolean, Byte, Int, Double and packed
+     * Boolean and all population-sizes
+     *
+     * @return the benchmarks
+     */
+    public static List <MicroBenchmark> createDiversityBenchmarks () {
+        List <MicroBenchmark> ret = new ArrayList();
+        for (int populationSize : POPULATION_SIZES)
+            for (GenRepresentation representation : createOperatorRepresentations(DIVERSITY_GENOME_LENGTH))
+                for (AbstractDiversity diversity : Arrays.asList(new AverageDiversity(), new ShannonEntropyDiversity(), new SubStringDiversity()))
+                    if (diversity.isCompatible(representation))
+                        ret.add(new DiversityBenchmark(diversity, representation, populationSize));
+        return ret;
+    }
+
+    /**
+     * creates the benchmarks of one complete generation of the
+     * StaticGeneticAlgorithm (with its standard-operators) and of the
+     * OffHeapPopulation (with the same operators, that write directly into
+     * the slab) and all population-sizes
+     *
+     * @return the benchmarks
+     */
+    public static List <MicroBenchmark> createGenerationBenchmarks () {
+        List <MicroBenchmark> ret = new ArrayList();
+        for (int populationSize : POPULATION_SIZES) {
+            ret.add(new GenerationBenchmark(populationSize, GENERATION_GENOME_LENGTH));
+            ret.add(new OffHeapGenerationBenchmark(populationSize, GENERATION_GENOME_LENGTH));
+        }
+        return ret;
+    }
+
+    /**
+     * creates the representations of the types Boolean, Byte, Int, Double and
+     * packed Boolean
+     *
+     * @param length the genome-length
+     * @return the representations
+     */
+    protected static List <GenRepresentation> createOperatorRepresentations (int length) {
+        return Arrays.asList(new BooleanStaticLength(length), new ByteStaticLength(length), new IntStaticLength(length), new DoubleStaticLength(length), new PackedBooleanStaticLength(length));
+    }
+
+    /**
+     * creates a new algorithm-step with the seed of the benchmarks
+     *
+     * @return the algorithm-step
+     */
+    protected static AlgorithmStep createStep () {
+        return new StaticAlgorithmStep(new StaticAlgorithmPass(1, 1, 1, 0, SEED));
+    }
+
+    /**
+     * the name of a representation for the parameters of a benchmark
+     *
+     * @param representation the representation
+     * @return the name, as example 'BooleanStaticLength(256)'
+     */
+    protected static String describe (GenRepresentation representation) {
+        return representation.getClass().getSimpleName() + "(" + ((AnyTypeStaticLength)representation).getLength() + ")";
+    }
+
+    /**
+     * the benchmark of one recombination of two parents
+     */
+    private static class RecombinationBenchmark extends MicroBenchmark {
+
+        /**
+         * the measured operator
+         */
+        protected final RecombinationOp recombination;
+
+        /**
+         * the representation of the parents
+         */
+        protected final GenRepresentation representation;
+
+        /**
+         * the parents, created in setup()
+         */
+        protected GenInstance [] parents;
+
+        /**
+         * the algorithm-step, the operator gets
+         */
+        protected AlgorithmStep step;
+
+        /**
+         * the constructor
+         *
+         * @param _recombination the measured operator
+         * @param _representation the representation of the parents
+         */
+        public RecombinationBenchmark (RecombinationOp _recombination, GenRepresentation _representation) {
+            super(_recombination.getClass().getSimpleName(), describe(_representation));
+            recombination = _recombination;
+            representation = _representation;
+        }
+
+        @Override
+        public void setup () {
+            step = createStep();
+            parents = new GenInstance[] {representation.instantiateRandom(step), representation.instantiateRandom(step)};
+        }
+
+        @Override
+        public Object invoke () {
+            return recombination.recombinationOp(parents, step, 1);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "recombination", recombination),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "representation", representation),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "parents", parents),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "step", step));
+        }
+    }
+
+    /**
+     * the benchmark of one mutation
+     */
+    private static class MutationBenchmark extends MicroBenchmark {
+
+        /**
+         * the measured operator
+         */
+        protected final MutationOp mutation;
+
+        /**
+         * the representation of the parent
+         */
+        protected final GenRepresentation representation;
+
+        /**
+         * the parent, created in setup()
+         */
+        protected GenInstance parent;
+
+        /**
+         * the algorithm-step, the operator gets
+         */
+        protected AlgorithmStep step;
+
+        /**
+         * the constructor
+         *
+         * @param _mutation the measured operator
+         * @param _representation the representation of the parent
+         */
+        public MutationBenchmark (MutationOp _mutation, GenRepresentation _representation) {
+            super(_mutation.getClass().getSimpleName(), describe(_representation));
+            mutation = _mutation;
+            representation = _representation;
+        }
+
+        @Override
+        public void setup () {
+            step = createStep();
+            parent = representation.instantiateRandom(step);
+        }
+
+        @Override
+        public Object invoke () {
+            return mutation.mutationOp(parent, step);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "mutation", mutation),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "representation", representation),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "parent", parent),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "step", step));
+        }
+    }
+
+    /**
+     * the benchmark of one random instantiation
+     */
+    private static class InstantiationBenchmark extends MicroBenchmark {
+
+        /**
+         * the measured representation
+         */
+        protected final GenRepresentation representation;
+
+        /**
+         * the algorithm-step, the representation gets
+         */
+        protected AlgorithmStep step;
+
+        /**
+         * the constructor
+         *
+         * @param _representation the measured representation
+         */
+        public InstantiationBenchmark (GenRepresentation _representation) {
+            super("instantiateRandom", describe(_representation));
+            representation = _representation;
+        }
+
+        @Override
+        public void setup () {
+            step = createStep();
+        }
+
+        @Override
+        public Object invoke () {
+            return representation.instantiateRandom(step);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "representation", representation),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "step", step));
+        }
+    }
+
+    /**
+     * the benchmark of the diversity of one population
+     */
+    private static class DiversityBenchmark extends MicroBenchmark {
+
+        /**
+         * the measured diversity
+         */
+        protected final AbstractDiversity diversity;
+
+        /**
+         * the representation of the population
+         */
+        protected final GenRepresentation representation;
+
+        /**
+         * the size of the population
+         */
+        protected final int populationSize;
+
+        /**
+         * the population, created in setup()
+         */
+        protected List <GenInstance> population;
+
+        /**
+         * the algorithm-step, the diversity gets
+         */
+        protected AlgorithmStep step;
+
+        /**
+         * the constructor
+         *
+         * @param _diversity the measured diversity
+         * @param _representation the representation of the population
+         * @param _populationSize the size of the population
+         */
+        public DiversityBenchmark (AbstractDiversity _diversity, GenRepresentation _representation, int _populationSize) {
+            super(_diversity.getClass().getSimpleName(), describe(_representation) + " x " + _populationSize);
+            diversity = _diversity;
+            representation = _representation;
+            populationSize = _populationSize;
+        }
+
+        @Override
+        public void setup () {
+            step = createStep();
+            population = new ArrayList();
+            for (int i=0; i<populationSize; i++)
+                population.add(representation.instantiateRandom(step));
+        }
+
+        @Override
+        public Object invoke () {
+            return diversity.diversityOp(population, step);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "diversity", diversity),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "representation", representation),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "populationSize", populationSize),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "population", population),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "step", step));
+        }
+    }
+
+    /**
+     * the benchmark of one generation of the StaticGeneticAlgorithm (breeding,
+     * evaluation and ordering). The algorithm keeps its population, so every
+     * invocation measures the next generation.
+     */
+    private static class GenerationBenchmark extends MicroBenchmark {
+
+        /**
+         * the size of the population
+         */
+        protected final int populationSize;
+
+        /**
+         * the genome-length
+         */
+        protected final int length;
+
+        /**
+         * the algorithm, created in setup()
+         */
+        protected GenerationAlgorithm algorithm;
+
+        /**
+         * the algorithm-pass, the generations are done with
+         */
+        protected StaticAlgorithmPass pass;
+
+        /**
+         * the number of the next generation
+         */
+        protected int generation;
+
+        /**
+         * the constructor
+         *
+         * @param _populationSize the size of the population
+         * @param _length the genome-length
+         */
+        public GenerationBenchmark (int _populationSize, int _length) {
+            super("StaticGeneticAlgorithm", "BooleanStaticLength(" + _length + ") x " + _populationSize);
+            populationSize = _populationSize;
+            length = _length;
+        }
+
+        @Override
+        public void setup () {
+            algorithm = new GenerationAlgorithm();
+            algorithm.setGenoType(new BooleanStaticLength(length));
+            pass = new StaticAlgorithmPass(populationSize, populationSize/4, Integer.MAX_VALUE, 0.1, SEED);
+            //the first run creates the initial population
+            algorithm.run(new StaticAlgorithmPass(populationSize, populationSize/4, 1, 0.1, SEED));
+            generation = 1;
+        }
+
+        @Override
+        public Object invoke () {
+            algorithm.doGeneration(new StaticAlgorithmStep(pass, generation++));
+            return algorithm;
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "populationSize", populationSize),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "length", length),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "algorithm", algorithm),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "pass", pass),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "generation", generation));
+        }
+    }
+
+    /**
+     * the benchmark of one generation of an OffHeapPopulation of
+     * BooleanStaticLength with OneMax as fitness: the best quarter is retained,
+     * the other children are bred with tournament-selection, one-point-crossover
+     * and one-point-mutation directly in the rows of the next slab (see
+     * OffHeapPopulation.breed()).
+     */
+    private static class OffHeapGenerationBenchmark extends MicroBenchmark implements OffHeapPopulation.Breeder {
+
+        /**
+         * the size of the population
+         */
+        protected final int populationSize;
+
+        /**
+         * the genome-length
+         */
+        protected final int length;
+
+        /**
+         * the population, created in setup()
+         */
+        protected OffHeapPopulation population;
+
+        /**
+         * the indices of the current generation, the retained ones first
+         */
+        protected int [] ranking;
+
+        /**
+         * the algorithm-step, its random-generator is used
+         */
+        protected AlgorithmStep step;
+
+        /**
+         * the constructor
+         *
+         * @param _populationSize the size of the population
+         * @param _length the genome-length
+         */
+        public OffHeapGenerationBenchmark (int _populationSize, int _length) {
+            super("OffHeapPopulation", "BooleanStaticLength(" + _length + ") x " + _populationSize);
+            populationSize = _populationSize;
+            length = _length;
+        }
+
+        @Override
+        public void setup () {
+            step = createStep();
+            BooleanStaticLength representation = new BooleanStaticLength(length);
+            population = new OffHeapPopulation(representation, populationSize);
+            for (int i=0; i<populationSize; i++) {
+                AnyTypeStaticLengthInstance genoType = (AnyTypeStaticLengthInstance)representation.instantiateRandom(step);
+                int ones = 0;
+                for (int j=0; j<length; j++)
+                    ones += (int)genoType.getLongValue(j);
+                population.add(genoType, ones);
+            }
+        }
+
+        @Override
+        public Object invoke () {
+            ranking = population.getRanking(populationSize/4);
+            population.breed(populationSize, this, null);
+            return population;
+        }
+
+        @Override
+        public void breed (int index, OffHeapPopulation population) {
+            if (index < populationSize/4) {
+                population.copyToNext(ranking[index], index);
+                return;
+            }
+
+            Random random = step.getRandom();
+            int first = selectParent(population, random), second = selectParent(population, random);
+            int point = random.nextInt(length+1);
+            population.copyGenesToNext(first, index, 0, point);
+            population.copyGenesToNext(second, index, point, length);
+
+            ByteBuffer row = population.getNextRow(index);
+            int gene = random.nextInt(length);
+            row.put(gene, (byte)(1 - row.get(gene)));
+            int ones = 0;
+            for (int i=0; i<length; i++)
+                ones += row.get(i);
+            population.setNextFitness(index, ones);
+        }
+
+        /**
+         * selects a parent with a tournament of two individuums
+         *
+         * @param population the population
+         * @param random the random-generator
+         * @return the index of the parent in the current generation
+         */
+        protected int selectParent (OffHeapPopulation population, Random random) {
+            int first = random.nextInt(population.size()), second = random.nextInt(population.size());
+            return (population.getFitness(first) >= population.getFitness(second) ? first : second);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.MainAttribute), "populationSize", populationSize),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "length", length),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "population", population),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "ranking", ranking),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "step", step));
+        }
+    }
+
+    /**
+     * the StaticGeneticAlgorithm, that can do single generations
+     * after a run (with the population of the run)
+     */
+    private static class GenerationAlgorithm extends StaticGeneticAlgorithm {
+
+        /**
+         * does one generation without loggers
+         *
+         * @param step the algorithm-step of the generation
+         */
+        public void doGeneration (AlgorithmStep step) {
+            doStepAbstract(step, new Logger[0]);
+        }
+    }
+
+}
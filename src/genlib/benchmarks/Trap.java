@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * The concatenated deceptive trap-function: the genome is split in blocks of
+ * blockSize genes. A block with u genes, that are not 0, has the fitness
+ * blockSize, if all genes are not 0, otherwise blockSize-1-u. So every block
+ * leads away from its optimum. The fitness is the sum of the blocks, the
+ * optimum is the length of the genome (a last incomplete block is ignored).
+ *
+ * @author Hilmar
+ */
+public class Trap extends GenObject implements FitnessOp {
+
+    /**
+     * the number of genes of one block
+     */
+    protected final int blockSize;
+
+    /**
+     * the constructor with blocks of 4 genes
+     */
+    public Trap () {
+        this(4);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _blockSize the number of genes of one block
+     * @throws IllegalArgumentException if blockSize is smaller than 2
+     */
+    public Trap (int _blockSize) {
+        if (_blockSize < 2)
+            throw new IllegalArgumentException("invalid blockSize: '" + _blockSize + "'.");
+
+        blockSize = _blockSize;
+    }
+
+    /**
+     * returns the number of genes of one block
+     *
+     * @return the block-size
+     */
+    public int getBlockSize () {
+        return blockSize;
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        AnyTypeStaticLengthInstance instance = (AnyTypeStaticLengthInstance)input;
+        int blocks = ((AnyTypeStaticLength)instance.getRepresentation()).getLength() / blockSize;
+        int ret = 0;
+        for (int block=0; block<blocks; block++) {
+            int ones = 0;
+            for (int i=block*blockSize; i<(block+1)*blockSize; i++)
+                if (instance.getLongValue(i) != 0)
+                    ones++;
+            ret += (ones == blockSize ? blockSize : blockSize-1-ones);
+        }
+        return ret;
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return representation instanceof AnyTypeStaticLength && ((AnyTypeStaticLength)representation).isLongType();
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "blockSize", blockSize));
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.benchmarks;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.extended.distributions.LinearDistribution;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.DoubleStaticLength;
+import genlib.utils.Utils;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A travelling-salesman-instance: the cities are points in the plane, the
+ * tour visits every city once and returns to the first one. The genome uses
+ * random keys (one double per city, see createRepresentation()): the cities
+ * are visited in the order of their keys, so every genome is a valid tour
+ * and the standard-operators can be used. The fitness is the negative length
+ * of the tour.
+ *
+ * @author Hilmar
+ */
+public class TravellingSalesman extends GenObject implements FitnessOp {
+
+    /**
+     * the x- and y-coordinates of the cities
+     */
+    protected final double [] xs, ys;
+
+    /**
+     * the constructor for random cities in the unit-square
+     *
+     * @param cities the number of cities
+     * @param seed the seed of the coordinates, the same seed gives the same instance
+     * @throws IllegalArgumentException if cities is smaller than 2
+     */
+    public TravellingSalesman (int cities, long seed) {
+        if (cities < 2)
+            throw new IllegalArgumentException("invalid number of cities: '" + cities + "'.");
+
+        Random random = new Random(seed);
+        xs = new double[cities];
+        ys = new double[cities];
+        for (int i=0; i<cities; i++) {
+            xs[i] = random.nextDouble();
+            ys[i] = random.nextDouble();
+        }
+    }
+
+    /**
+     * the constructor for given cities
+     *
+     * @param _xs the x-coordinates of the cities
+     * @param _ys the y-coordinates of the cities
+     * @throws NullPointerException if one of the parameters is null
+     * @throws IllegalArgumentException if the arrays have different lengths or less than 2 cities
+     */
+    public TravellingSalesman (double [] _xs, double [] _ys) {
+        if (_xs == null || _ys == null)
+            throw new NullPointerException("the coordinates can't be null.");
+        if (_xs.length != _ys.length || _xs.length < 2)
+            throw new IllegalArgumentException("the coordinates need the same length and at least 2 cities.");
+
+        xs = _xs.clone();
+        ys = _ys.clone();
+    }
+
+    /**
+     * returns the number of cities
+     *
+     * @return the number of cities
+     */
+    public int getCities () {
+        return xs.length;
+    }
+
+    /**
+     * creates the random-key-representation (one key between 0 and 1 per city)
+     *
+     * @return the representation
+     */
+    public DoubleStaticLength createRepresentation () {
+        return new DoubleStaticLength(xs.length, new LinearDistribution(0.0, 1.0));
+    }
+
+    /**
+     * returns the tour of the random keys: the cities in the order of their keys
+     *
+     * @param keys the random keys, one per city
+     * @return the indices of the cities in the visiting order
+     */
+    public int [] decode (DoubleBuffer keys) {
+        Integer [] order = new Integer[keys.limit()];
+        for (int i=0; i<order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, (left, right) -> Double.compare(keys.get(left), keys.get(right)));
+
+        int [] ret = new int[order.length];
+        for (int i=0; i<ret.length; i++)
+            ret[i] = order[i];
+        return ret;
+    }
+
+    /**
+     * returns the length of a closed tour
+     *
+     * @param tour the indices of the cities in the visiting order
+     * @return the length
+     */
+    public double getTourLength (int [] tour) {
+        double ret = 0;
+        for (int i=0; i<tour.length; i++) {
+            int from = tour[i];
+            int to = tour[(i+1) % tour.length];
+            ret += Math.hypot(xs[from]-xs[to], ys[from]-ys[to]);
+        }
+        return ret;
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        return -getTourLength(decode(((AnyTypeStaticLengthInstance)input).asDoubleBuffer()));
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return representation instanceof AnyTypeStaticLength && ((AnyTypeStaticLength)representation).getLength() == xs.length;
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "xs", xs),
+                                new Attribute(new AttributeType(Type.MainAttribute), "ys", ys));
+    }
+
+}
@@ -31,6 +31,7 @@ import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenObject.AttributeType.Type;
 import genlib.abstractrepresentation.GenRepresentation;
 import genlib.abstractrepresentation.Operator;
+import genlib.utils.FlightRecorderEvents;
 import genlib.utils.Utils;
 import java.util.ArrayList;
 import java.util.List;
@@ -84,7 +85,10 @@ public abstract class AbstractDiversity extends GenObject implements Operator {
         while (copiedPopulation.size() > 0 && copiedPopulation.size() > percentPopulation*population.size())
             copiedPopulation.remove(step.getRandom().nextInt(copiedPopulation.size()));
 
-        return calculateDiversity(copiedPopulation, step);
+        Object event = FlightRecorderEvents.getInstance().beginDiversity(this, copiedPopulation.size());
+        double ret = calculateDiversity(copiedPopulation, step);
+        FlightRecorderEvents.getInstance().commitDiversity(event, ret);
+        return ret;
     }
 
     /**
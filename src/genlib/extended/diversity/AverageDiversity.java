@@ -155,7 +155,8 @@ public class AverageDiversity extends AbstractDiversity {
 
         /**
          * a standard-implementation for the individuum-distance-operator.
-         * The distance is the average of each distance between two entries.
+         * The distance is the average of each distance between two entries
+         * (see AnyTypeStaticLengthInstance.getDistanceL1()).
          */
         public static class StandardDistanceOp extends IndividuumDistanceOp {
 
@@ -163,12 +164,7 @@ public class AverageDiversity extends AbstractDiversity {
             public double distanceOp(GenInstance i1, GenInstance i2) {
                 AnyTypeStaticLengthInstance castedI1 = (AnyTypeStaticLengthInstance)i1;
                 AnyTypeStaticLengthInstance castedI2 = (AnyTypeStaticLengthInstance)i2;
-                double [] array1 = castedI1.getDoubleArray();
-                double [] array2 = castedI2.getDoubleArray();
-                double distance = 0;
-                for (int i=0; i<array1.length; i++)
-                    distance += Math.abs(array1[i]-array2[i]);
-                return distance/array1.length;
+                return castedI1.getDistanceL1(castedI2) / ((AnyTypeStaticLength)castedI1.getRepresentation()).getLength();
             }
 
             @Override
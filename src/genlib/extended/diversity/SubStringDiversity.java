@@ -31,6 +31,7 @@ import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
 import genlib.standard.representations.DoubleStaticLength;
 import genlib.standard.representations.DoubleStaticLength.DoubleStaticLengthInstance;
+import java.nio.DoubleBuffer;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -71,11 +72,12 @@ public class SubStringDiversity extends AbstractDiversity {
     protected Set <DoubleStaticLengthInstance> splitInSubStrings (AnyTypeStaticLengthInstance instance) {
 
         Set <DoubleStaticLengthInstance> ret = new HashSet();
-        double [] array = instance.getDoubleArray();
-        for (int length=1; length<=array.length; length++)
-            for (int i=0; i<=array.length-length; i++) {
+        DoubleBuffer values = instance.asDoubleBuffer();
+        for (int length=1; length<=values.limit(); length++)
+            for (int i=0; i<=values.limit()-length; i++) {
                 double [] subArray = new double[length];
-                System.arraycopy(array, i, subArray, 0, length);
+                values.position(i);
+                values.get(subArray);
                 ret.add(new DoubleStaticLengthInstance(new DoubleStaticLength( length ), subArray));
             }
 
@@ -0,0 +1,158 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.output;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.utils.Checkpoint;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.Utils;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * this logger writes a checkpoint of the algorithm every 'interval'
+ * generations (see Checkpoint). The algorithm-thread just takes a snapshot
+ * of the population, the file is written by a background-thread. If the
+ * writer is still busy, just the newest waiting checkpoint is kept. After
+ * the algorithm ended, the logger waits for the last write.
+ *
+ * If a run fails, the algorithm doesn't end the logger. Then the
+ * writer-thread ends by itself after WRITER_KEEP_ALIVE milliseconds without
+ * work, and a failed write is thrown at the end of the next run with this
+ * logger.
+ *
+ * @author Hilmar
+ */
+public class CheckpointLogger extends Logger {
+
+    /**
+     * the time in milliseconds, the idle writer-thread waits for the next
+     * checkpoint, before it ends
+     */
+    public static final long WRITER_KEEP_ALIVE = 1000;
+
+    /**
+     * the file of the checkpoints, it is replaced by every new checkpoint
+     */
+    protected final File file;
+
+    /**
+     * the number of generations between two checkpoints
+     */
+    protected final int interval;
+
+    /**
+     * the background-writer of the current run
+     */
+    protected ThreadPoolExecutor writer;
+
+    /**
+     * the first exception of the background-writer in the current run
+     */
+    protected volatile RuntimeException writeFailure;
+
+    /**
+     * the constructor
+     *
+     * @param _file the file of the checkpoints, it is replaced by every new checkpoint
+     * @param _interval the number of generations between two checkpoints
+     * @throws NullPointerException if file is null
+     * @throws IllegalArgumentException if interval is smaller than 1
+     */
+    public CheckpointLogger (File _file, int _interval) {
+        if (_file == null)
+            throw new NullPointerException("file can't be null.");
+        if (_interval < 1)
+            throw new IllegalArgumentException("invalid interval: '" + _interval + "'.");
+
+        file = _file;
+        interval = _interval;
+    }
+
+    @Override
+    public void compatibilityCheck(GeneticAlgorithm algorithm, AlgorithmPass pass) {
+        //the checkpoints keep the genoTypes, until they are written
+        if (algorithm.getGenoType() instanceof AnyTypeStaticLength && ((AnyTypeStaticLength)algorithm.getGenoType()).getArrayPool() != null)
+            throw new GeneticRuntimeException("the checkpoints are written in the background, so the genoType can't use an array-pool.");
+    }
+
+    @Override
+    protected void log (LogType logType, GeneticAlgorithm algorithm, AlgorithmStep step) {
+        if (logType != LogType.Generation || (algorithm.getCurrentGeneration()+1) % interval != 0)
+            return;
+
+        //the snapshot is taken now, the writing is done in the background
+        final Checkpoint checkpoint = Checkpoint.create(algorithm, step);
+        writer.execute(() -> {
+            try {
+                checkpoint.write(file);
+            } catch (RuntimeException e) {
+                if (writeFailure == null)
+                    writeFailure = e;
+            }
+        });
+    }
+
+    @Override
+    protected void starting() {
+        writeFailure = null;
+        writer = new ThreadPoolExecutor(1, 1, WRITER_KEEP_ALIVE, TimeUnit.MILLISECONDS, new ArrayBlockingQueue(1), (runnable) -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardOldestPolicy());
+        //a failed run doesn't invoke ending(), so the idle thread ends by itself
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    protected void ending() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+
+        if (writeFailure != null)
+            throw writeFailure;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "file", file),
+                                                        new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "interval", interval),
+                                                        new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "writer", writer),
+                                                        new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "writeFailure", writeFailure));
+    }
+
+}
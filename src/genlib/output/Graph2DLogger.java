@@ -39,6 +39,8 @@ import genlib.output.gui.Graph2D.Plot2DContinuousX;
 import genlib.output.gui.Graph2D.Plot2DDiscreteX;
 import genlib.utils.Exceptions.GeneticInternalException;
 import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.PhaseTimes;
+import genlib.utils.PhaseTimes.Phase;
 import genlib.utils.Utils;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -72,6 +74,18 @@ public class Graph2DLogger extends Logger {
      */
     protected List <Number> yValues = new ArrayList();
 
+    /**
+     * the phase-times of the algorithm at the last logged generation, just
+     * needed for the phase-axes (the algorithm sums them up, the axes show
+     * the times of one generation)
+     */
+    protected long [] lastNanos;
+
+    /**
+     * the fitness-evaluations of the algorithm at the last logged generation
+     */
+    protected long lastEvaluations;
+
     /**
      * the constructor
      *
@@ -304,6 +318,11 @@ public class Graph2DLogger extends Logger {
         }
     }
 
+    @Override
+    public boolean isTimingPhases () {
+        return xAxis.isTimingPhases() || yAxis.isTimingPhases();
+    }
+
     @Override
     public void compatibilityCheck(GeneticAlgorithm algorithm, AlgorithmPass pass) {
         xAxis.compatibilityCheck(algorithm, pass);
@@ -319,6 +338,13 @@ public class Graph2DLogger extends Logger {
 
             //if one of the values if null, this point will not be saved
             addPoint(xValue, yValue);
+
+            //the next generation of the phase-axes starts here
+            PhaseTimes phaseTimes = algorithm.getPhaseTimes();
+            if (phaseTimes != null) {
+                lastNanos = phaseTimes.getAllNanos();
+                lastEvaluations = algorithm.getFitnessEvaluations();
+            }
         }
     }
 
@@ -327,6 +353,8 @@ public class Graph2DLogger extends Logger {
         startMicroTime = System.nanoTime()/1000;
         xValues = new ArrayList();
         yValues = new ArrayList();
+        lastNanos = new long[Phase.values().length];
+        lastEvaluations = 0;
     }
 
     @Override
@@ -357,10 +385,10 @@ public class Graph2DLogger extends Logger {
             case AverageFitness:
             {
                 double avgFitness = 0;
-                Individuum [] population = algorithm.getCurrentPopulation();
-                for (Individuum individuum : population)
-                    avgFitness += individuum.getFitness();
-                return avgFitness / (population.length == 0 ? 1 : population.length);
+                double [] fitnessValues = algorithm.getCurrentFitnessValues();
+                for (double fitnessValue : fitnessValues)
+                    avgFitness += fitnessValue;
+                return avgFitness / (fitnessValues.length == 0 ? 1 : fitnessValues.length);
             }
 
             case BestKFitnessAverage:
@@ -368,15 +396,15 @@ public class Graph2DLogger extends Logger {
             {
                 double avgFitness = 0;
                 int avgCount = 0;
-                Individuum [] population = algorithm.getCurrentPopulation();
+                double [] fitnessValues = algorithm.getCurrentFitnessValues();
 
                 //get the best or worst k individuums and calculate the average fitness of them
                 for (int i=0; i<axisType.kFitness; i++) {
-                    int index = (axisType.basicType == BasicType.BestKFitnessAverage ? i : population.length-1-i);
-                    if (index < 0 || index >= population.length)
+                    int index = (axisType.basicType == BasicType.BestKFitnessAverage ? i : fitnessValues.length-1-i);
+                    if (index < 0 || index >= fitnessValues.length)
                         break;
                     avgCount++;
-                    avgFitness += population [index].getFitness();
+                    avgFitness += fitnessValues [index];
                 }
                 return avgFitness / (avgCount == 0 ? 1 : avgCount);
             }
@@ -393,6 +421,26 @@ public class Graph2DLogger extends Logger {
                 //we need a static random-type here, because we want to have a deterministic
                 return axisType.diversity.diversityOp(genInstances, step);
 
+            case PhaseTime:
+            {
+                PhaseTimes phaseTimes = algorithm.getPhaseTimes();
+                if (phaseTimes == null)
+                    return null;
+                //the timeFactor is per micro-second, the nanos are not truncated
+                double phaseMicros = (phaseTimes.getNanos(axisType.phase) - lastNanos[axisType.phase.ordinal()]) / 1000.0;
+                return phaseMicros * axisType.timeFactor;
+            }
+
+            case EvaluationsPerSecond:
+            {
+                PhaseTimes phaseTimes = algorithm.getPhaseTimes();
+                if (phaseTimes == null)
+                    return null;
+                long generationNanos = phaseTimes.getNanos(Phase.Generation) - lastNanos[Phase.Generation.ordinal()];
+                long evaluations = algorithm.getFitnessEvaluations() - lastEvaluations;
+                return (generationNanos <= 0 ? 0.0 : evaluations * 1e9 / generationNanos);
+            }
+
             default:
                 throw new AssertionError(axisType.basicType.name());
         }
@@ -404,7 +452,9 @@ public class Graph2DLogger extends Logger {
                                                         new Attribute(new AttributeType(Type.MainAttribute), "yAxis", yAxis),
                                                         new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "startMicroTime", startMicroTime),
                                                         new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "xValues", xValues),
-                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "yValues", yValues));
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "yValues", yValues),
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "lastNanos", lastNanos),
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "lastEvaluations", lastEvaluations));
     }
 
     /**
@@ -415,9 +465,10 @@ public class Graph2DLogger extends Logger {
         /**
          * The basic-type: Measure the Time, Generation (or just every k'th generation), the average fitness
          * or the average fitness of the k best or worst individuums, measure nothing but specify a name or
-         * measure the diversity of the geno- or pheno-type
+         * measure the diversity of the geno- or pheno-type, the time of one phase per generation (see PhaseTimes)
+         * or the fitness-evaluations per second
          */
-        protected enum BasicType {Time, KGeneration, AverageFitness, BestKFitnessAverage, WorstKFitnessAverage, JustName, DiversityGenoType, DiversityPhenoType};
+        protected enum BasicType {Time, KGeneration, AverageFitness, BestKFitnessAverage, WorstKFitnessAverage, JustName, DiversityGenoType, DiversityPhenoType, PhaseTime, EvaluationsPerSecond};
 
         /**
          * the basicType, see the javadoc of the BasicType for more information
@@ -453,6 +504,11 @@ public class Graph2DLogger extends Logger {
          */
         protected final AbstractDiversity diversity;
 
+        /**
+         * just needed if basicType is PhaseTime
+         */
+        protected final Phase phase;
+
         /**
          * the constructor, should just be invoked of the static creation-methods.
          *
@@ -463,12 +519,37 @@ public class Graph2DLogger extends Logger {
          * @param _individualName if it is not null, this will be the suggested name
          */
         private AxisType (BasicType _basicType, double _timeFactor, int _kGenerations, int _kFitness, String _individualName, AbstractDiversity _diversity) {
+            this(_basicType, _timeFactor, _kGenerations, _kFitness, _individualName, _diversity, null);
+        }
+
+        /**
+         * the constructor, should just be invoked of the static creation-methods.
+         *
+         * @param _basicType the basicType
+         * @param _timeFactor the timeFactor
+         * @param _kGenerations Just the k'th best or worst individuums will count.
+         * @param _kFitness Just the k'th best or worst individuums will count.
+         * @param _individualName if it is not null, this will be the suggested name
+         * @param _diversity the diversity
+         * @param _phase the measured phase
+         */
+        private AxisType (BasicType _basicType, double _timeFactor, int _kGenerations, int _kFitness, String _individualName, AbstractDiversity _diversity, Phase _phase) {
             basicType = _basicType;
             timeFactor = _timeFactor;
             kGenerations = _kGenerations;
             kFitness = _kFitness;
             individualName = _individualName;
             diversity = _diversity;
+            phase = _phase;
+        }
+
+        /**
+         * does this axis need the phase-times of the algorithm?
+         *
+         * @return true, if the phases should be timed
+         */
+        protected boolean isTimingPhases () {
+            return basicType == BasicType.PhaseTime || basicType == BasicType.EvaluationsPerSecond;
         }
 
         /**
@@ -516,6 +597,12 @@ public class Graph2DLogger extends Logger {
                 case DiversityPhenoType:
                     return "diversity of the phenoType ('" + diversity.getName() + "')";
 
+                case PhaseTime:
+                    return "time of the phase '" + phase.name() + "' per generation (in milli-seconds)";
+
+                case EvaluationsPerSecond:
+                    return "fitness-evaluations per second";
+
                 default:
                     throw new AssertionError(basicType.name());
             }
@@ -709,14 +796,50 @@ public class Graph2DLogger extends Logger {
             return new AxisType(BasicType.DiversityPhenoType, Double.NaN, -1, -1, null, _diversity);
         }
 
+        /**
+         * the creation-method for an axis, that will measure the time of
+         * one phase per generation in milli-seconds (see PhaseTimes)
+         *
+         * @param _phase the phase
+         * @return the requested axis-type
+         * @throws NullPointerException if the parameter is null
+         */
+        public static AxisType phaseTime (Phase _phase) {
+            if (_phase == null)
+                throw new NullPointerException("the phase can't be null.");
+
+            return new AxisType(BasicType.PhaseTime, 0.001, -1, -1, null, null, _phase);
+        }
+
+        /**
+         * the creation-method for an axis, that will measure the time of
+         * the fitness-operator per generation in milli-seconds
+         *
+         * @return the requested axis-type
+         */
+        public static AxisType fitnessTime () {
+            return phaseTime(Phase.Fitness);
+        }
+
+        /**
+         * the creation-method for an axis, that will measure the
+         * fitness-evaluations per second of every generation
+         *
+         * @return the requested axis-type
+         */
+        public static AxisType evaluationsPerSecond () {
+            return new AxisType(BasicType.EvaluationsPerSecond, Double.NaN, -1, -1, null, null);
+        }
+
         @Override
         public List <Attribute> getAttributes() {
             return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "basicType", basicType),
-                                    new Attribute(new AttributeType( (basicType == BasicType.Time ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "timeFactor", timeFactor),
+                                    new Attribute(new AttributeType( (basicType == BasicType.Time || basicType == BasicType.PhaseTime ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "timeFactor", timeFactor),
                                     new Attribute(new AttributeType( (basicType == BasicType.KGeneration ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "kGenerations", kGenerations),
                                     new Attribute(new AttributeType( (basicType == BasicType.BestKFitnessAverage || basicType == BasicType.WorstKFitnessAverage ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "kFitness", kFitness),
                                     new Attribute(new AttributeType( (basicType == BasicType.JustName ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "individualName", individualName),
-                                    new Attribute(new AttributeType( (basicType == BasicType.DiversityGenoType || basicType == BasicType.DiversityPhenoType ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "diversity", diversity));
+                                    new Attribute(new AttributeType( (basicType == BasicType.DiversityGenoType || basicType == BasicType.DiversityPhenoType ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "diversity", diversity),
+                                    new Attribute(new AttributeType( (basicType == BasicType.PhaseTime ? Type.NormalAttribute : Type.TemporaryOrUnimportant) ), "phase", phase));
         }
 
     }
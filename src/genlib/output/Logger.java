@@ -97,6 +97,17 @@ public abstract class Logger extends GenObject {
         log(LogType.Generation, algorithm, step);
     }
 
+    /**
+     * does this logger need the phase-times of the algorithm (see
+     * GeneticAlgorithm.getPhaseTimes())? The algorithm just measures them,
+     * if at least one of its loggers needs them.
+     *
+     * @return true, if the phases should be timed
+     */
+    public boolean isTimingPhases () {
+        return false;
+    }
+
     /**
      * this method does a compatibility check with the geneticAlgorithm.
      * The operators and representations of the algorithm should be set.
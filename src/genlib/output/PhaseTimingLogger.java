@@ -0,0 +1,317 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.output;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.PhaseTimes;
+import genlib.utils.PhaseTimes.Phase;
+import genlib.utils.Utils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * this logger saves the time, the algorithm has spent in every phase of a
+ * generation (see PhaseTimes) and the number of fitness-evaluations per
+ * generation. The algorithm just measures the phases, if a logger like this
+ * one is attached. Optionally, a summary is written at the end of the run.
+ *
+ * @author Hilmar
+ */
+public class PhaseTimingLogger extends Logger {
+
+    /**
+     * the stream, the summary will be written in. If it is null,
+     * nothing will be written.
+     */
+    protected final OutputStream stream;
+
+    /**
+     * the logged generations, in the order they were logged
+     */
+    protected List <GenerationTimes> generations;
+
+    /**
+     * the phase-times of the last logged generation per algorithm (the
+     * algorithm sums them up, so we need them to calculate the times of
+     * one generation)
+     */
+    protected Map <GeneticAlgorithm, long[]> lastNanos;
+
+    /**
+     * the fitness-evaluations of the last logged generation per algorithm
+     */
+    protected Map <GeneticAlgorithm, Long> lastEvaluations;
+
+    /**
+     * the constructor, nothing will be written
+     */
+    public PhaseTimingLogger () {
+        this(null);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _stream the stream, the summary will be written in at the end of the run (as example System.out), can be null
+     */
+    public PhaseTimingLogger (OutputStream _stream) {
+        stream = _stream;
+    }
+
+    @Override
+    public boolean isTimingPhases () {
+        return true;
+    }
+
+    @Override
+    public void compatibilityCheck(GeneticAlgorithm algorithm, AlgorithmPass pass) { }
+
+    @Override
+    protected void log (LogType logType, GeneticAlgorithm algorithm, AlgorithmStep step) {
+        if (logType == LogType.StartAlgorithm) {
+            lastNanos.put(algorithm, new long[Phase.values().length]);
+            lastEvaluations.put(algorithm, algorithm.getFitnessEvaluations());
+        }
+
+        PhaseTimes phaseTimes = algorithm.getPhaseTimes();
+        if (logType != LogType.Generation || phaseTimes == null)
+            return;
+
+        //the algorithm sums up the times, so the generation is the difference to the last one
+        long [] nanos = phaseTimes.getAllNanos();
+        long [] last = lastNanos.get(algorithm);
+        long evaluations = algorithm.getFitnessEvaluations();
+        long [] generationNanos = new long[nanos.length];
+        for (int i=0; i<nanos.length; i++)
+            generationNanos[i] = nanos[i] - last[i];
+        generations.add(new GenerationTimes(algorithm.getName(), algorithm.getCurrentGeneration(), generationNanos, evaluations - lastEvaluations.get(algorithm)));
+
+        lastNanos.put(algorithm, nanos);
+        lastEvaluations.put(algorithm, evaluations);
+    }
+
+    @Override
+    protected void starting () {
+        generations = new ArrayList();
+        lastNanos = new HashMap();
+        lastEvaluations = new HashMap();
+    }
+
+    @Override
+    protected void ending () {
+        if (stream == null)
+            return;
+
+        try {
+            stream.write(getSummary().getBytes());
+        } catch (IOException e) {
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * returns the logged generations of the last run
+     *
+     * @return the generations, in the order they were logged
+     */
+    public List <GenerationTimes> getGenerations () {
+        return new ArrayList(generations);
+    }
+
+    /**
+     * returns the nanoseconds of a phase, summed up over all logged generations
+     *
+     * @param phase the phase
+     * @return the nanoseconds
+     */
+    public long getTotalNanos (Phase phase) {
+        long ret = 0;
+        for (GenerationTimes generation : generations)
+            ret += generation.getNanos(phase);
+        return ret;
+    }
+
+    /**
+     * returns the number of fitness-evaluations of all logged generations
+     *
+     * @return the fitness-evaluations
+     */
+    public long getTotalEvaluations () {
+        long ret = 0;
+        for (GenerationTimes generation : generations)
+            ret += generation.getEvaluations();
+        return ret;
+    }
+
+    /**
+     * returns the fitness-evaluations per second of all logged generations
+     *
+     * @return the evaluations per second, 0.0 if no time was measured
+     */
+    public double getEvaluationsPerSecond () {
+        long nanos = getTotalNanos(Phase.Generation);
+        return (nanos == 0 ? 0.0 : getTotalEvaluations() * 1e9 / nanos);
+    }
+
+    /**
+     * returns the summary of the phases: the time per phase and its share
+     * of the generation-time.
+     *
+     * @return the summary as text
+     */
+    public String getSummary () {
+        long generationNanos = getTotalNanos(Phase.Generation);
+        StringBuilder ret = new StringBuilder();
+        ret.append("phase-times of ").append(generations.size()).append(" generations (")
+           .append(getTotalEvaluations()).append(" fitness-evaluations, ")
+           .append(String.format(Locale.ROOT, "%.1f", getEvaluationsPerSecond())).append(" per second):\n");
+        for (Phase phase : Phase.values()) {
+            long nanos = getTotalNanos(phase);
+            ret.append("    ").append(Utils.lengthAtLeast(phase.name(), 12, ' ', Utils.FillDirection.Right))
+               .append(String.format(Locale.ROOT, "%12.3f ms", nanos / 1e6));
+            if (phase != Phase.Generation && generationNanos > 0)
+                ret.append(String.format(Locale.ROOT, "  (%5.1f %%)", 100.0 * nanos / generationNanos));
+            ret.append("\n");
+        }
+        return ret.toString();
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "stream", stream),
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "generations", generations),
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "lastNanos", lastNanos),
+                                                        new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "lastEvaluations", lastEvaluations));
+    }
+
+    /**
+     * the phase-times and fitness-evaluations of one generation
+     */
+    public static class GenerationTimes extends GenObject {
+
+        /**
+         * the name of the algorithm
+         */
+        protected final String algorithmName;
+
+        /**
+         * the generation
+         */
+        protected final int generation;
+
+        /**
+         * the nanoseconds per phase, indexed by the ordinal of the phase
+         */
+        protected final long [] nanos;
+
+        /**
+         * the number of fitness-evaluations of this generation
+         */
+        protected final long evaluations;
+
+        /**
+         * the constructor
+         *
+         * @param _algorithmName the name of the algorithm
+         * @param _generation the generation
+         * @param _nanos the nanoseconds per phase, indexed by the ordinal of the phase
+         * @param _evaluations the number of fitness-evaluations of this generation
+         */
+        public GenerationTimes (String _algorithmName, int _generation, long [] _nanos, long _evaluations) {
+            algorithmName = _algorithmName;
+            generation = _generation;
+            nanos = _nanos;
+            evaluations = _evaluations;
+        }
+
+        /**
+         * returns the name of the algorithm
+         *
+         * @return the name
+         */
+        public String getAlgorithmName () {
+            return algorithmName;
+        }
+
+        /**
+         * returns the generation
+         *
+         * @return the generation
+         */
+        public int getGeneration () {
+            return generation;
+        }
+
+        /**
+         * returns the nanoseconds of a phase in this generation. The logging
+         * of a generation is measured after it was logged, so it is the one
+         * of the previous generation.
+         *
+         * @param phase the phase
+         * @return the nanoseconds
+         */
+        public long getNanos (Phase phase) {
+            return nanos[phase.ordinal()];
+        }
+
+        /**
+         * returns the number of fitness-evaluations of this generation
+         *
+         * @return the evaluations
+         */
+        public long getEvaluations () {
+            return evaluations;
+        }
+
+        /**
+         * returns the fitness-evaluations per second of this generation
+         *
+         * @return the evaluations per second, 0.0 if no time was measured
+         */
+        public double getEvaluationsPerSecond () {
+            long generationNanos = getNanos(Phase.Generation);
+            return (generationNanos == 0 ? 0.0 : evaluations * 1e9 / generationNanos);
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.createList( new Attribute(new AttributeType(Type.Descriptor), "algorithmName", algorithmName),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "generation", generation),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "nanos", nanos),
+                                    new Attribute(new AttributeType(Type.MainAttribute), "evaluations", evaluations));
+        }
+    }
+
+}
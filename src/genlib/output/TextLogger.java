@@ -26,6 +26,7 @@ package genlib.output;
 
 import genlib.abstractrepresentation.AlgorithmPass;
 import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.AlgorithmStep.StopReason;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GeneticAlgorithm;
 import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
@@ -124,15 +125,16 @@ public class TextLogger extends Logger {
                 addLogEntry("Started algorithm '" + algorithm.getName() + "': " + algorithm);
                 break;
             case EndAlgorithm:
-                addLogEntry("Finished algorithm '" + algorithm.getName() + "'");
+                //the standard end is not mentioned, just early terminations
+                StopReason stopReason = step.getStopReason();
+                addLogEntry("Finished algorithm '" + algorithm.getName() + "'" + (stopReason == null || stopReason == StopReason.Completed ? "" : " (" + stopReason + ")"));
                 break;
             case Generation:
                 StringBuilder entry = new StringBuilder();
                 entry.append("Generation '").append(algorithm.getCurrentGeneration()).append("' of algorithm '").append(algorithm.getName()).append("': ");
-                Individuum [] entries = algorithm.getCurrentPopulation();
-
                 //log the k best individuums in the population (the array is already sorted)
-                for (int i=0; (i < entries.length && (populationLogging.type == Type.PopulationAtMostK ? i < populationLogging.k : true)); i++)
+                Individuum [] entries = (populationLogging.type == Type.PopulationAtMostK ? algorithm.getBestIndividuums(populationLogging.k) : algorithm.getCurrentPopulation());
+                for (int i=0; i < entries.length; i++)
                     entry.append("\n               Individuum 'I").append(i).append("': ").append(entries[i]);
 
                 addLogEntry(entry.toString());
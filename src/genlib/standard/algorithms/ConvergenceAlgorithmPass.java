@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * a StaticAlgorithmPass, that can end before the last generation. The
+ * algorithm stops after the first generation, that fulfills one of the
+ * active conditions:
+ * - the best fitness didn't improve for 'stagnationGenerations' generations
+ * - the best fitness is larger or equal to 'targetFitness'
+ * - at least 'maxEvaluations' fitness-evaluations are done
+ * - at least 'timeLimit' milliseconds passed since the start
+ * The conditions are checked after every generation, so the last generation
+ * is always complete. The reason is available through getStopReason() of the
+ * last step.
+ *
+ * @author Hilmar
+ */
+public class ConvergenceAlgorithmPass extends StaticAlgorithmPass {
+
+    /**
+     * the number of generations without improvement of the best fitness,
+     * after that the algorithm stops. 0 if it is not checked.
+     */
+    protected final int stagnationGenerations;
+
+    /**
+     * the fitness, that stops the algorithm, if it is reached. NaN if it is
+     * not checked.
+     */
+    protected final double targetFitness;
+
+    /**
+     * the number of fitness-evaluations, after that the algorithm stops.
+     * 0 if it is not checked.
+     */
+    protected final long maxEvaluations;
+
+    /**
+     * the time in milliseconds, after that the algorithm stops. 0 if it is
+     * not checked.
+     */
+    protected final long timeLimit;
+
+    /**
+     * the constructor, the seed is taken from the current time
+     *
+     * @param _population the population size
+     * @param _retainedPopulation this is the size of the population, that will be the same. The worst individuums outside this size will be replaced through new individuums.
+     * @param _generations the maximal number of generations
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _stagnationGenerations the number of generations without improvement, after that the algorithm stops, 0 if not checked
+     * @param _targetFitness the fitness, that stops the algorithm, NaN if not checked
+     * @param _maxEvaluations the number of fitness-evaluations, after that the algorithm stops, 0 if not checked
+     * @param _timeLimit the time in milliseconds, after that the algorithm stops, 0 if not checked
+     */
+    public ConvergenceAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability, int _stagnationGenerations, double _targetFitness, long _maxEvaluations, long _timeLimit) {
+        this(_population, _retainedPopulation, _generations, _mutationProbability, _stagnationGenerations, _targetFitness, _maxEvaluations, _timeLimit, System.nanoTime());
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _population the population size
+     * @param _retainedPopulation this is the size of the population, that will be the same. The worst individuums outside this size will be replaced through new individuums.
+     * @param _generations the maximal number of generations
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _stagnationGenerations the number of generations without improvement, after that the algorithm stops, 0 if not checked
+     * @param _targetFitness the fitness, that stops the algorithm, NaN if not checked
+     * @param _maxEvaluations the number of fitness-evaluations, after that the algorithm stops, 0 if not checked
+     * @param _timeLimit the time in milliseconds, after that the algorithm stops, 0 if not checked
+     * @param _seed the seed of the random-objects
+     */
+    public ConvergenceAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability, int _stagnationGenerations, double _targetFitness, long _maxEvaluations, long _timeLimit, long _seed) {
+        super(_population, _retainedPopulation, _generations, _mutationProbability, _seed);
+        stagnationGenerations = _stagnationGenerations;
+        targetFitness = _targetFitness;
+        maxEvaluations = _maxEvaluations;
+        timeLimit = _timeLimit;
+
+        if (stagnationGenerations < 0)
+            throw new IllegalArgumentException("invalid stagnationGenerations: '" + stagnationGenerations + "'.");
+        if (maxEvaluations < 0)
+            throw new IllegalArgumentException("invalid maxEvaluations: '" + maxEvaluations + "'.");
+        if (timeLimit < 0)
+            throw new IllegalArgumentException("invalid timeLimit: '" + timeLimit + "'.");
+    }
+
+    /**
+     * getter for the number of generations without improvement, after that the algorithm stops
+     *
+     * @return the stagnation generations, 0 if not checked
+     */
+    public int getStagnationGenerations () {
+        return stagnationGenerations;
+    }
+
+    /**
+     * getter for the fitness, that stops the algorithm
+     *
+     * @return the target fitness, NaN if not checked
+     */
+    public double getTargetFitness () {
+        return targetFitness;
+    }
+
+    /**
+     * getter for the number of fitness-evaluations, after that the algorithm stops
+     *
+     * @return the maximal evaluations, 0 if not checked
+     */
+    public long getMaxEvaluations () {
+        return maxEvaluations;
+    }
+
+    /**
+     * getter for the time in milliseconds, after that the algorithm stops
+     *
+     * @return the time limit, 0 if not checked
+     */
+    public long getTimeLimit () {
+        return timeLimit;
+    }
+
+    @Override
+    public AlgorithmStep createInitial() {
+        return new ConvergenceAlgorithmStep(this);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "stagnationGenerations", stagnationGenerations),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "targetFitness", targetFitness),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "maxEvaluations", maxEvaluations),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "timeLimit", timeLimit));
+    }
+
+}
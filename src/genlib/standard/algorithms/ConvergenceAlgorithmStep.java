@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.utils.Utils;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.List;
+
+/**
+ * The corresponding AlgorithmStep of ConvergenceAlgorithmPass. It remembers
+ * the best fitness of the previous generations and checks the stop-conditions
+ * after the step is done.
+ *
+ * @author Hilmar
+ */
+public class ConvergenceAlgorithmStep extends StaticAlgorithmStep {
+
+    /**
+     * the start of the run (System.nanoTime())
+     */
+    protected long startTime;
+
+    /**
+     * the best fitness up to this generation
+     */
+    protected double bestFitness;
+
+    /**
+     * the last generation, the best fitness improved
+     */
+    protected int lastImprovement;
+
+    /**
+     * why the algorithm ends after this step, null if it goes on
+     */
+    protected StopReason stopReason;
+
+    /**
+     * the constructor of the first step, the time limit starts now
+     *
+     * @param _parent the parent
+     */
+    public ConvergenceAlgorithmStep (ConvergenceAlgorithmPass _parent) {
+        super(_parent);
+        startTime = System.nanoTime();
+        bestFitness = Double.NEGATIVE_INFINITY;
+        lastImprovement = 0;
+    }
+
+    /**
+     * the constructor of the next step
+     *
+     * @param previous the previous step
+     * @throws NullPointerException if previous is null
+     */
+    protected ConvergenceAlgorithmStep (ConvergenceAlgorithmStep previous) {
+        super(previous.parent, previous.generation+1);
+        startTime = previous.startTime;
+        bestFitness = previous.bestFitness;
+        lastImprovement = previous.lastImprovement;
+    }
+
+    /**
+     * the start-time of another JVM is meaningless, so the time limit
+     * starts again, if a step is deserialized (as example from a checkpoint)
+     *
+     * @param in the stream
+     * @throws IOException if the stream throws it
+     * @throws ClassNotFoundException if the stream throws it
+     */
+    private void readObject (ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public void stepDone(GeneticAlgorithm algorithm) {
+        ConvergenceAlgorithmPass pass = (ConvergenceAlgorithmPass)parent;
+
+        Individuum best = algorithm.getBestIndividuum();
+        if (best != null && best.getFitness() > bestFitness) {
+            bestFitness = best.getFitness();
+            lastImprovement = generation;
+        }
+
+        if (!Double.isNaN(pass.getTargetFitness()) && bestFitness >= pass.getTargetFitness())
+            stopReason = StopReason.TargetFitness;
+        else if (pass.getStagnationGenerations() > 0 && generation - lastImprovement >= pass.getStagnationGenerations())
+            stopReason = StopReason.Stagnation;
+        else if (pass.getMaxEvaluations() > 0 && algorithm.getFitnessEvaluations() >= pass.getMaxEvaluations())
+            stopReason = StopReason.MaxEvaluations;
+        else if (pass.getTimeLimit() > 0 && System.nanoTime() - startTime >= pass.getTimeLimit()*1000000L)
+            stopReason = StopReason.Deadline;
+    }
+
+    /**
+     * the getter for the best fitness up to this generation
+     *
+     * @return the best fitness
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * the getter for the last generation, the best fitness improved
+     *
+     * @return the generation
+     */
+    public int getLastImprovement() {
+        return lastImprovement;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return stopReason == null && super.hasNext();
+    }
+
+    @Override
+    public AlgorithmStep next() {
+        return new ConvergenceAlgorithmStep(this);
+    }
+
+    @Override
+    public StopReason getStopReason() {
+        return (stopReason != null ? stopReason : super.getStopReason());
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "startTime", startTime),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "bestFitness", bestFitness),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "lastImprovement", lastImprovement),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "stopReason", stopReason));
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * the algorithmPass of the island-model. Every island has its own population
+ * with the static population size of this pass. Every 'migrationInterval'
+ * generations the best 'migrationSize' individuums of an island are sent to
+ * other islands, the topology defines to which ones.
+ *
+ * @author Hilmar
+ */
+public class IslandAlgorithmPass extends StaticAlgorithmPass {
+
+    /**
+     * defines to which islands the migrants of an island are sent.
+     * Ring: to the next island (the last one sends to the first one)
+     * FullyConnected: to all other islands
+     * Random: to one random other island, chosen for every migration
+     */
+    public enum Topology {Ring, FullyConnected, Random};
+
+    /**
+     * the number of islands
+     */
+    protected final int islands;
+
+    /**
+     * the number of generations between two migrations
+     */
+    protected final int migrationInterval;
+
+    /**
+     * the number of the best individuums of an island, that migrate
+     */
+    protected final int migrationSize;
+
+    /**
+     * to which islands the migrants are sent
+     */
+    protected final Topology topology;
+
+    /**
+     * the constructor, the seed is taken from the current time
+     *
+     * @param _population the population size of every island
+     * @param _retainedPopulation the retained population of every island
+     * @param _generations the number of generations
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _islands the number of islands
+     * @param _migrationInterval the number of generations between two migrations
+     * @param _migrationSize the number of the best individuums of an island, that migrate
+     * @param _topology to which islands the migrants are sent
+     */
+    public IslandAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability, int _islands, int _migrationInterval, int _migrationSize, Topology _topology) {
+        this(_population, _retainedPopulation, _generations, _mutationProbability, _islands, _migrationInterval, _migrationSize, _topology, System.nanoTime());
+    }
+
+    /**
+     * the constructor. Every island gets its own seed, that is derived from the
+     * given seed.
+     *
+     * @param _population the population size of every island
+     * @param _retainedPopulation the retained population of every island
+     * @param _generations the number of generations
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _islands the number of islands
+     * @param _migrationInterval the number of generations between two migrations
+     * @param _migrationSize the number of the best individuums of an island, that migrate
+     * @param _topology to which islands the migrants are sent
+     * @param _seed the seed of the random-objects
+     * @throws NullPointerException if topology is null
+     */
+    public IslandAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability, int _islands, int _migrationInterval, int _migrationSize, Topology _topology, long _seed) {
+        super(_population, _retainedPopulation, _generations, _mutationProbability, _seed);
+        islands = _islands;
+        migrationInterval = _migrationInterval;
+        migrationSize = _migrationSize;
+        topology = _topology;
+
+        if (islands <= 0)
+            throw new IllegalArgumentException("invalid islands: '" + islands + "'.");
+        if (migrationInterval <= 0)
+            throw new IllegalArgumentException("invalid migrationInterval: '" + migrationInterval + "'.");
+        if (migrationSize < 0 || migrationSize > retainedPopulation)
+            throw new IllegalArgumentException("migrationSize have to be between 0 and retainedPopulation: '" + migrationSize + " / " + retainedPopulation + "'.");
+        if (topology == null)
+            throw new NullPointerException("topology can't be null.");
+    }
+
+    /**
+     * getter for the number of islands
+     *
+     * @return the number of islands
+     */
+    public int getIslands () {
+        return islands;
+    }
+
+    /**
+     * getter for the number of generations between two migrations
+     *
+     * @return the migration interval
+     */
+    public int getMigrationInterval () {
+        return migrationInterval;
+    }
+
+    /**
+     * getter for the number of individuums, that migrate
+     *
+     * @return the migration size
+     */
+    public int getMigrationSize () {
+        return migrationSize;
+    }
+
+    /**
+     * getter for the topology
+     *
+     * @return the topology
+     */
+    public Topology getTopology () {
+        return topology;
+    }
+
+    /**
+     * creates the pass of one island. It has the same sizes as this pass, but
+     * its own seed.
+     *
+     * @param island the number of the island
+     * @return the pass of the island
+     * @throws IllegalArgumentException if island is not between 0 and islands-1
+     */
+    public StaticAlgorithmPass createIslandPass (int island) {
+        if (island < 0 || island >= islands)
+            throw new IllegalArgumentException("invalid island: '" + island + "'.");
+
+        long islandSeed = Utils.finalizeFingerprint(Utils.fingerprint(Utils.fingerprint(Utils.FINGERPRINT_SEED, seed), island));
+        return new StaticAlgorithmPass(population, retainedPopulation, generations, mutationProbability, islandSeed);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "islands", islands),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "migrationInterval", migrationInterval),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "migrationSize", migrationSize),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "topology", topology));
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.standard.algorithms.IslandAlgorithmPass.Topology;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.Utils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * the island-model. Every island is a StaticGeneticAlgorithm with its own
+ * population and its own random-objects, it shares the representations,
+ * operators and settings (as example the executor and the incremental
+ * fitness) of this algorithm, the column-store is not supported. The
+ * islands run concurrently, every island in
+ * its own thread, and there is no barrier between the generations of the
+ * islands. Every 'migrationInterval' generations an island sends its best
+ * individuums through lock-free queues to other islands, there they replace
+ * the worst individuums of the next generation.
+ *
+ * The loggers see the aggregated generations: the population of a generation
+ * is the union of the populations of all islands in this generation. An
+ * island can be at most 'migrationInterval' generations ahead of the
+ * generation, that is logged.
+ *
+ * Because the migrants arrive, whenever the other island is ready, two runs
+ * with the same seed don't have to produce the same populations.
+ *
+ * @author Hilmar
+ */
+public class IslandGeneticAlgorithm extends GeneticAlgorithm {
+
+    /**
+     * the islands of the current run
+     */
+    protected Island [] islands;
+
+    /**
+     * the threads of the islands of the current run
+     */
+    protected Thread [] islandThreads;
+
+    /**
+     * the populations of every island per generation, that are not aggregated yet
+     */
+    protected BlockingQueue <Individuum[]> [] snapshots;
+
+    /**
+     * the first exception, that was thrown by an island
+     */
+    protected volatile Throwable islandFailure;
+
+    /**
+     * the constructor. The name of the algorithm is given automatically (A0, A1, A2, ..)
+     */
+    public IslandGeneticAlgorithm () {
+        super();
+    }
+
+    /**
+     * the constructor with an individual given name
+     * @param _name the name for the algorithm
+     */
+    public IslandGeneticAlgorithm (String _name) {
+        super(_name);
+    }
+
+    @Override
+    protected void doStep(AlgorithmStep step) {
+        IslandAlgorithmPass pass = (IslandAlgorithmPass)step.getParent();
+
+        if (population.isEmpty())
+            startIslands(pass);
+
+        try {
+            //the generation is complete, if every island has finished it
+            List <Individuum> aggregated = new ArrayList(pass.getIslands()*pass.getPopulation());
+            for (int i=0; i<islands.length; i++)
+                aggregated.addAll(Arrays.asList(takeSnapshot(i)));
+            population = aggregated;
+
+            if (!step.hasNext())
+                joinIslands();
+        } catch (RuntimeException | Error e) {
+            stopIslands();
+            throw e;
+        }
+    }
+
+    /**
+     * creates the islands and starts their threads
+     *
+     * @param pass the algorithm-pass
+     */
+    protected void startIslands (final IslandAlgorithmPass pass) {
+        islandFailure = null;
+        islands = new Island[pass.getIslands()];
+        islandThreads = new Thread[pass.getIslands()];
+        snapshots = new BlockingQueue[pass.getIslands()];
+
+        for (int i=0; i<islands.length; i++) {
+            islands[i] = new Island(i, pass.createIslandPass(i));
+            snapshots[i] = new ArrayBlockingQueue(pass.getMigrationInterval());
+        }
+
+        for (int i=0; i<islands.length; i++) {
+            final Island island = islands[i];
+            islandThreads[i] = new Thread(() -> {
+                try {
+                    island.runIsland(pass);
+                } catch (InterruptedException e) {
+                    //the run was stopped
+                } catch (Throwable e) {
+                    if (islandFailure == null)
+                        islandFailure = e;
+                }
+            }, getName() + "-island-" + i);
+            islandThreads[i].setDaemon(true);
+            islandThreads[i].start();
+        }
+    }
+
+    /**
+     * waits for the population of the next generation of an island
+     *
+     * @param island the number of the island
+     * @return the population of the island
+     * @throws GeneticRuntimeException if the waiting got interrupted
+     */
+    protected Individuum [] takeSnapshot (int island) {
+        try {
+            while (true) {
+                Individuum [] snapshot = snapshots[island].poll(100, TimeUnit.MILLISECONDS);
+                if (snapshot != null)
+                    return snapshot;
+
+                Throwable failure = islandFailure;
+                if (failure != null)
+                    throw Utils.rethrow(failure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * waits until every island-thread is finished
+     *
+     * @throws GeneticRuntimeException if the waiting got interrupted
+     */
+    protected void joinIslands () {
+        try {
+            for (Thread thread : islandThreads)
+                thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * stops every island-thread, that is still running
+     */
+    protected void stopIslands () {
+        if (islandThreads != null)
+            for (Thread thread : islandThreads)
+                thread.interrupt();
+    }
+
+    @Override
+    protected void endRun() {
+        //as example a logger threw an exception or the run stopped early => no island may keep running
+        stopIslands();
+        if (islandThreads != null)
+            try {
+                for (Thread thread : islandThreads)
+                    thread.join();
+            } catch (InterruptedException e) {
+                //don't hide the exception of the run, the threads are interrupted anyway
+                Thread.currentThread().interrupt();
+            }
+    }
+
+    @Override
+    public long getFitnessEvaluations() {
+        long ret = super.getFitnessEvaluations();
+        if (islands != null)
+            for (Island island : islands)
+                ret += island.getFitnessEvaluations();
+        return ret;
+    }
+
+    /**
+     * the column-store is not supported by the island-model: the snapshots
+     * and the migrants are shared with other threads, so the individuums
+     * can't be views into the store of an island.
+     *
+     * @param _columnarPopulation has to be false
+     * @throws IllegalArgumentException if columnarPopulation is true
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    @Override
+    public void setColumnarPopulation(boolean _columnarPopulation) {
+        if (_columnarPopulation)
+            throw new IllegalArgumentException("the island-model doesn't support the columnar population.");
+        super.setColumnarPopulation(_columnarPopulation);
+    }
+
+    @Override
+    protected GeneticAlgorithm newRunningInstance(String _name) {
+        return new IslandGeneticAlgorithm(_name);
+    }
+
+    @Override
+    protected AlgorithmPass getStandardAlgorithmPass() {
+        return new IslandAlgorithmPass(64, 16, 512, 0.1, 4, 16, 2, Topology.Ring);
+    }
+
+    @Override
+    protected boolean isCompatible(AlgorithmPass algorithmPass) {
+        return algorithmPass instanceof IslandAlgorithmPass;
+    }
+
+    @Override
+    protected int[] getRecombinationInputSize() {
+        return new int[] {2};
+    }
+
+    @Override
+    protected int[] getRecombinationOutputSize() {
+        return new int[] {1};
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "islands", islands),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "islandThreads", islandThreads),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "snapshots", snapshots),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "islandFailure", islandFailure));
+    }
+
+    /**
+     * one island of the island-model. It is a StaticGeneticAlgorithm, that is
+     * driven by its own thread instead of run().
+     */
+    protected class Island extends StaticGeneticAlgorithm {
+
+        /**
+         * the number of the island
+         */
+        protected final int index;
+
+        /**
+         * the pass of the island, it has its own seed
+         */
+        protected final StaticAlgorithmPass islandPass;
+
+        /**
+         * the migrants of other islands, that are not integrated yet
+         */
+        protected final Queue <Individuum> immigrants = new ConcurrentLinkedQueue();
+
+        /**
+         * the constructor, the island uses the representations, operators and
+         * settings of the surrounding algorithm, the fitness-cache is shared
+         * by all islands
+         *
+         * @param _index the number of the island
+         * @param _islandPass the pass of the island
+         */
+        protected Island (int _index, StaticAlgorithmPass _islandPass) {
+            super(IslandGeneticAlgorithm.this.getName() + "-I" + _index);
+            index = _index;
+            islandPass = _islandPass;
+
+            copyConfiguration(IslandGeneticAlgorithm.this);
+            //the islands evaluate with the same fitness-operator
+            fitnessCache = IslandGeneticAlgorithm.this.fitnessCache;
+        }
+
+        /**
+         * runs all generations of this island. After every generation the
+         * population is published for the aggregation.
+         *
+         * @param pass the pass of the island-model
+         * @throws InterruptedException if the thread got interrupted
+         */
+        protected void runIsland (IslandAlgorithmPass pass) throws InterruptedException {
+            isRunning = true;
+            AlgorithmStep step = islandPass.createInitial();
+
+            while (true) {
+                immigrate();
+                doStep(step);
+                orderPopulation(getOrderedPopulationSize(step));
+
+                int generation = ((StaticAlgorithmStep)step).getGeneration();
+                if (step.hasNext() && (generation+1) % pass.getMigrationInterval() == 0)
+                    emigrate(pass, step.getRandom());
+
+                snapshots[index].put(population.toArray(new Individuum[population.size()]));
+
+                if (!step.hasNext())
+                    break;
+                currentGeneration ++;
+                step = step.next();
+            }
+
+            isRunning = false;
+        }
+
+        /**
+         * the migrants take the places after the retained population, so they
+         * replace the worst individuums, if they are better than them.
+         */
+        protected void immigrate () {
+            int retained = islandPass.getRetainedPopulation();
+            int position = retained;
+
+            Individuum migrant;
+            while (position < population.size() && (migrant = immigrants.poll()) != null)
+                population.set(position++, migrant);
+
+            if (position > retained)
+                orderPopulation(retained);
+        }
+
+        @Override
+        protected boolean canRecycleGenoTypes() {
+            //migrants and snapshots are shared with the other islands
+            return false;
+        }
+
+        /**
+         * sends the best individuums to other islands, depending on the topology
+         *
+         * @param pass the pass of the island-model
+         * @param random the random-object of the current generation
+         */
+        protected void emigrate (IslandAlgorithmPass pass, Random random) {
+            if (islands.length <= 1 || pass.getMigrationSize() == 0)
+                return;
+
+            List <Individuum> migrants = new ArrayList(population.subList(0, pass.getMigrationSize()));
+            switch (pass.getTopology()) {
+                case Ring:
+                    islands[(index+1) % islands.length].immigrants.addAll(migrants);
+                    break;
+                case FullyConnected:
+                    for (Island island : islands)
+                        if (island != this)
+                            island.immigrants.addAll(migrants);
+                    break;
+                case Random:
+                    int target = random.nextInt(islands.length-1);
+                    islands[(target >= index ? target+1 : target)].immigrants.addAll(migrants);
+                    break;
+                default:
+                    throw new AssertionError(pass.getTopology().name());
+            }
+        }
+
+        @Override
+        public List <Attribute> getAttributes() {
+            return Utils.extendList(super.getAttributes(),
+                                    new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "index", index),
+                                    new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "islandPass", islandPass),
+                                    new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "immigrants", immigrants));
+        }
+
+    }
+
+}
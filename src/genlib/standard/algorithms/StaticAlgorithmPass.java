@@ -61,12 +61,13 @@ public class StaticAlgorithmPass extends AlgorithmPass {
     protected final double mutationProbability;
 
     /**
-     * the random-object
+     * the seed of this pass. Every algorithm-step gets its own random-object,
+     * that is derived from this seed, the generation and the sub-step.
      */
-    protected final Random random;
+    protected final long seed;
 
     /**
-     * the constructor
+     * the constructor, the seed is taken from the current time
      *
      * @param _population the population size
      * @param _retainedPopulation this is the size of the population, that will be the same. The worst individuums outside this size will be replaced through new individuums.
@@ -74,11 +75,25 @@ public class StaticAlgorithmPass extends AlgorithmPass {
      * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
      */
     public StaticAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability) {
+        this(_population, _retainedPopulation, _generations, _mutationProbability, System.nanoTime());
+    }
+
+    /**
+     * the constructor. Two runs with the same seed (and deterministic operators)
+     * will produce the same populations, independent of the executor.
+     *
+     * @param _population the population size
+     * @param _retainedPopulation this is the size of the population, that will be the same. The worst individuums outside this size will be replaced through new individuums.
+     * @param _generations the number of generations
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _seed the seed of the random-objects
+     */
+    public StaticAlgorithmPass (int _population, int _retainedPopulation, int _generations, double _mutationProbability, long _seed) {
         population = _population;
         retainedPopulation = _retainedPopulation;
         generations = _generations;
         mutationProbability = _mutationProbability;
-        random = new Random(System.nanoTime());
+        seed = _seed;
 
         if (population <= 0)
             throw new IllegalArgumentException("invalid population: '" + population + "'.");
@@ -130,6 +145,29 @@ public class StaticAlgorithmPass extends AlgorithmPass {
         return mutationProbability;
     }
 
+    /**
+     * getter for the seed
+     *
+     * @return the seed
+     */
+    public long getSeed () {
+        return seed;
+    }
+
+    /**
+     * creates the random-object for one algorithm-step. Every combination of
+     * generation and sub-step gets its own stream, so the steps can be
+     * processed in any order and in parallel without sharing a random-object.
+     *
+     * @param generation the generation
+     * @param operationStep the sub-step while being in one generation, -1 for the generation itself
+     * @return the random-object
+     */
+    public Random createRandom (int generation, int operationStep) {
+        long stepSeed = Utils.fingerprint(Utils.fingerprint(Utils.fingerprint(Utils.FINGERPRINT_SEED, seed), generation), operationStep);
+        return new Random(Utils.finalizeFingerprint(stepSeed));
+    }
+
     @Override
     public AlgorithmStep createInitial() {
         return new StaticAlgorithmStep(this);
@@ -141,7 +179,7 @@ public class StaticAlgorithmPass extends AlgorithmPass {
                                 new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "retainedPopulation", retainedPopulation),
                                 new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "generations", generations),
                                 new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "mutationProbability", mutationProbability),
-                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "random", random));
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "seed", seed));
     }
 
 }
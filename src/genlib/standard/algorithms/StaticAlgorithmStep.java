@@ -52,6 +52,11 @@ public class StaticAlgorithmStep extends AlgorithmStep {
      */
     protected final int operationStep;
 
+    /**
+     * the random-object of this step, it is not shared with other steps
+     */
+    protected final Random random;
+
     /**
      * the constructor
      *
@@ -75,6 +80,7 @@ public class StaticAlgorithmStep extends AlgorithmStep {
         parent = _parent;
         generation = _generation;
         operationStep = -1;
+        random = parent.createRandom(generation, operationStep);
     }
 
     /**
@@ -91,6 +97,7 @@ public class StaticAlgorithmStep extends AlgorithmStep {
         parent = from.parent;
         generation = from.generation;
         operationStep = _step;
+        random = parent.createRandom(generation, operationStep);
     }
 
     /**
@@ -128,14 +135,15 @@ public class StaticAlgorithmStep extends AlgorithmStep {
 
     @Override
     public Random getRandom() {
-        return parent.random;
+        return random;
     }
 
     @Override
     public List <Attribute> getAttributes() {
         return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.HierarchicalParent), "parent", parent),
                                 new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "generation", generation),
-                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "operationStep", operationStep));
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "operationStep", operationStep),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "random", random));
     }
 
 }
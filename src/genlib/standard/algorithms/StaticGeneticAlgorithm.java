@@ -27,17 +27,63 @@ package genlib.standard.algorithms;
 import genlib.abstractrepresentation.AlgorithmPass;
 import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GeneChanges;
 import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.abstractrepresentation.IncrementalFitnessOp;
+import genlib.abstractrepresentation.IncrementalMutationOp;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.FlightRecorderEvents;
+import genlib.utils.PhaseTimes.Phase;
+import genlib.utils.PopulationStore;
+import genlib.utils.Utils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * this algorithm has a static generation and population size. In every
  * generation the individuums outside the best 'retainedPopulation'-individuums
  * will be replaced through recombinated or mutated ones.
  *
+ * In the pipelined mode (pipelineDepth larger than 0) the children of a
+ * generation are bred from the retained population of 'pipelineDepth'
+ * generations before. So the breeding and evaluation of the next generations
+ * can run on the executor, while the stragglers of the current generation
+ * are still evaluated. The loggers see every generation, after all its
+ * children are inserted.
+ *
  * @author Hilmar
  */
 public class StaticGeneticAlgorithm extends GeneticAlgorithm {
 
+    /**
+     * the number of generations, that can be bred and evaluated in advance.
+     * 0 is the standard mode, where every generation is bred from the
+     * retained population of the generation before.
+     */
+    protected int pipelineDepth = 0;
+
+    /**
+     * the started generations of the pipelined mode, that are not inserted yet
+     */
+    protected Deque <List<FutureTask<Individuum>>> pipeline = new ArrayDeque();
+
+    /**
+     * the last started generation of the pipelined mode
+     */
+    protected int launchedGeneration = 0;
+
     /**
      * the constructor. The name of the algorithm is given automatically (A0, A1, A2, ..)
      */
@@ -53,40 +99,298 @@ public class StaticGeneticAlgorithm extends GeneticAlgorithm {
         super(_name);
     }
 
+    /**
+     * sets the number of generations, that can be bred and evaluated in
+     * advance. With more than 0, the children are bred from an older retained
+     * population, so the results differ from the standard mode. An executor
+     * should be set, otherwise nothing runs in parallel.
+     *
+     * @param _pipelineDepth the pipeline depth, 0 for the standard mode
+     * @throws IllegalArgumentException if pipelineDepth is negative
+     * @throws GeneticRuntimeException is thrown, if the algorithm is currently running
+     */
+    public void setPipelineDepth (int _pipelineDepth) {
+        if (isRunning)
+            throw new GeneticRuntimeException("you can't change the pipelineDepth, while the algorithm is running.");
+        if (_pipelineDepth < 0)
+            throw new IllegalArgumentException("invalid pipelineDepth: '" + _pipelineDepth + "'.");
+
+        pipelineDepth = _pipelineDepth;
+    }
+
+    /**
+     * returns the number of generations, that can be bred and evaluated in advance
+     *
+     * @return the pipeline depth
+     */
+    public int getPipelineDepth () {
+        return pipelineDepth;
+    }
+
+    @Override
+    protected GeneticAlgorithm newRunningInstance(String _name) {
+        return new StaticGeneticAlgorithm(_name);
+    }
+
+    @Override
+    protected void copyConfiguration(GeneticAlgorithm template) {
+        super.copyConfiguration(template);
+        if (template instanceof StaticGeneticAlgorithm)
+            pipelineDepth = ((StaticGeneticAlgorithm)template).pipelineDepth;
+    }
+
     @Override
     protected void doStep(AlgorithmStep step) {
 
-        StaticAlgorithmPass pass = (StaticAlgorithmPass)step.getParent();
+        final StaticAlgorithmPass pass = (StaticAlgorithmPass)step.getParent();
+
+        //the first step creates the whole population, the next steps just the individuums outside the retained population
+        final boolean firstStep = population.isEmpty();
+        if (firstStep)
+            cancelPipeline();
+        else if (pipelineDepth > 0) {
+            doPipelinedStep(pass, ((StaticAlgorithmStep)step).getGeneration());
+            return;
+        }
+        final GenInstance [] instances = new GenInstance[firstStep ? pass.getPopulation() : pass.getPopulation()-pass.getRetainedPopulation()];
+        final AlgorithmStep [] subSteps = new AlgorithmStep[instances.length];
+        final int [] firstParents = new int[instances.length];
+        //the mutations report their changes, if the children can be evaluated incrementally
+        final GeneChanges [] changes = (!firstStep && incrementalFitness && mutation instanceof IncrementalMutationOp && fitness instanceof IncrementalFitnessOp ?
+                                        new GeneChanges[instances.length] : null);
+
+        //every instance is created with the random-object of its own sub-step, so it can be done in parallel
+        List <Callable<Object>> tasks = new ArrayList(instances.length);
+        for (int i=0; i<instances.length; i++) {
+            final int index = i;
+            subSteps[i] = new StaticAlgorithmStep((StaticAlgorithmStep)step, i);
+            tasks.add(() -> instances[index] = (firstStep ? genoType.instantiateRandom(subSteps[index]) : breed(population, pass, subSteps[index], firstParents, index, changes)));
+        }
+        long breedingStart = phaseStart();
+        executeTasks(tasks);
+        phaseEnd(Phase.Breeding, breedingStart);
+
+        //the evaluation is done, after all individuums are created (can be done in parallel)
+        long evaluationStart = phaseStart();
+        Individuum [] individuums;
+        if (changes == null)
+            individuums = createIndividuums(instances, subSteps);
+        else {
+            Individuum [] mutatedParents = new Individuum[instances.length];
+            for (int i=0; i<instances.length; i++)
+                if (changes[i] != null)
+                    mutatedParents[i] = population.get(firstParents[i]);
+            individuums = createIndividuums(instances, subSteps, mutatedParents, changes);
+        }
+        phaseEnd(Phase.Evaluation, evaluationStart);
+        PopulationStore store = getPopulationStore();
+        if (firstStep)
+            population.addAll(Arrays.asList(individuums));
+        else if (store != null)
+            //the column-store also records the parents
+            for (int i=0; i<individuums.length; i++)
+                store.set(i+pass.getRetainedPopulation(), individuums[i], firstParents[i]);
+        else {
+            Individuum [] replaced = new Individuum[individuums.length];
+            for (int i=0; i<individuums.length; i++)
+                replaced[i] = population.set(i+pass.getRetainedPopulation(), individuums[i]);
+            recycleGenoTypes(replaced);
+        }
+    }
+
+    /**
+     * gives the arrays of the replaced individuums back to the array-pool of
+     * the genoType (see AnyTypeStaticLength.setArrayPool()). A genoType, that
+     * is still used in the population (as example an unchanged copy of an
+     * operator), is not recycled.
+     *
+     * @param replaced the individuums, that were removed of the population
+     */
+    protected void recycleGenoTypes (Individuum [] replaced) {
+        if (!(genoType instanceof AnyTypeStaticLength) || ((AnyTypeStaticLength)genoType).getArrayPool() == null || !canRecycleGenoTypes())
+            return;
 
-        //the first step?
-        if (population.isEmpty()) {
-            for (int i=0; i<pass.getPopulation(); i++) {
-                AlgorithmStep subStep = new StaticAlgorithmStep((StaticAlgorithmStep)step, i);
-                GenInstance instance = this.genoType.instantiateRandom(subStep);
-                population.add(new Individuum(instance, subStep));
-            }
+        Set <GenInstance> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Individuum individuum : population) {
+            used.add(individuum.getGenoType());
+            used.add(individuum.getPhenoType());
+        }
+        for (Individuum individuum : replaced)
+            if (individuum.getGenoType() instanceof AnyTypeStaticLengthInstance && used.add(individuum.getGenoType()))
+                ((AnyTypeStaticLength)genoType).recycle((AnyTypeStaticLengthInstance)individuum.getGenoType());
+    }
 
-        //the second, third, .. step (recombination & mutation)
+    /**
+     * can the replaced individuums be recycled? They must not be used
+     * anymore, after they are replaced. It is not possible in the pipelined
+     * mode (the started generations use older populations) and with the
+     * column-store (the population keeps no instances).
+     *
+     * @return true, if the replaced individuums can be recycled
+     */
+    protected boolean canRecycleGenoTypes () {
+        return pipelineDepth == 0 && getPopulationStore() == null;
+    }
+
+    /**
+     * the step of the pipelined mode: all generations up to the pipeline depth
+     * are started with the current retained population, then the children of
+     * the current generation are inserted, as soon as they are done.
+     *
+     * @param pass the algorithm-pass
+     * @param generation the current generation
+     * @throws GeneticRuntimeException if the waiting got interrupted
+     */
+    protected void doPipelinedStep (StaticAlgorithmPass pass, int generation) {
+        //the views of a column-store change with the next sorting, the started generations need copies
+        PopulationStore store = getPopulationStore();
+        List <Individuum> parents = new ArrayList(pass.getRetainedPopulation());
+        for (int i=0; i<pass.getRetainedPopulation(); i++)
+            parents.add(store == null ? population.get(i) : store.copyIndividuum(i));
+        int lastGeneration = Math.min(generation + pipelineDepth, pass.getGenerations()-1);
+        if (launchedGeneration < generation)
+            launchedGeneration = generation-1;
+        while (launchedGeneration < lastGeneration) {
+            launchedGeneration ++;
+            pipeline.add(launchGeneration(pass, new StaticAlgorithmStep(pass, launchedGeneration), parents));
+        }
+
+        try {
+            List <FutureTask<Individuum>> children = pipeline.poll();
+            for (int i=0; i<children.size(); i++)
+                population.set(i+pass.getRetainedPopulation(), children.get(i).get());
+        } catch (InterruptedException e) {
+            cancelPipeline();
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        } catch (ExecutionException e) {
+            cancelPipeline();
+            throw Utils.rethrowCause(e);
+        }
+    }
+
+    /**
+     * starts the breeding and evaluation of all children of a generation on
+     * the executor (or does it directly, if no executor is set). The fitness-
+     * operator is invoked per individuum, also if it is a BatchFitnessOp or an
+     * AsyncFitnessOp.
+     *
+     * @param pass the algorithm-pass
+     * @param generationStep the step of the generation
+     * @param parents the retained population, the children are bred from
+     * @return the children, in the order of their sub-steps
+     */
+    protected List <FutureTask<Individuum>> launchGeneration (final StaticAlgorithmPass pass, StaticAlgorithmStep generationStep, final List <Individuum> parents) {
+        List <FutureTask<Individuum>> ret = new ArrayList(pass.getPopulation()-pass.getRetainedPopulation());
+        for (int i=0; i<pass.getPopulation()-pass.getRetainedPopulation(); i++) {
+            final AlgorithmStep subStep = new StaticAlgorithmStep(generationStep, i);
+            FutureTask <Individuum> task = new FutureTask(() -> new Individuum(breed(parents, pass, subStep), subStep));
+            if (executor == null)
+                task.run();
+            else
+                executor.execute(task);
+            ret.add(task);
+        }
+        return ret;
+    }
+
+    @Override
+    protected void endRun() {
+        //a run, that stopped early, leaves started generations behind
+        cancelPipeline();
+    }
+
+    /**
+     * cancels all started generations of the pipelined mode
+     */
+    protected void cancelPipeline () {
+        for (List <FutureTask<Individuum>> children : pipeline)
+            for (FutureTask <Individuum> child : children)
+                child.cancel(true);
+        pipeline.clear();
+        launchedGeneration = 0;
+    }
+
+    /**
+     * creates one child through mutation or recombination of the retained population
+     *
+     * @param pass the algorithm-pass
+     * @param subStep the sub-step of the child, its random-object is used
+     * @return the child as genoType
+     */
+    protected GenInstance breed (StaticAlgorithmPass pass, AlgorithmStep subStep) {
+        return breed(population, pass, subStep);
+    }
+
+    /**
+     * creates one child through mutation or recombination of the given parents
+     *
+     * @param parents the population, its first 'retainedPopulation' individuums are the possible parents
+     * @param pass the algorithm-pass
+     * @param subStep the sub-step of the child, its random-object is used
+     * @return the child as genoType
+     */
+    protected GenInstance breed (List <Individuum> parents, StaticAlgorithmPass pass, AlgorithmStep subStep) {
+        return breed(parents, pass, subStep, null, 0, null);
+    }
+
+    /**
+     * creates one child through mutation or recombination of the given parents
+     * and records the index of its first parent. If the child is mutated by an
+     * IncrementalMutationOp, the changed genes are recorded too.
+     *
+     * @param parents the population, its first 'retainedPopulation' individuums are the possible parents
+     * @param pass the algorithm-pass
+     * @param subStep the sub-step of the child, its random-object is used
+     * @param firstParents the array, the index of the first parent is written in, can be null
+     * @param child the position in firstParents and changes
+     * @param changes the array, the changed genes of a mutation are written in, can be null
+     * @return the child as genoType
+     */
+    protected GenInstance breed (List <Individuum> parents, StaticAlgorithmPass pass, AlgorithmStep subStep, int [] firstParents, int child, GeneChanges [] changes) {
+        Random random = subStep.getRandom();
+
+        //the mutation-case
+        if (random.nextDouble() < pass.getMutationProbability() || pass.getMutationProbability() == 1.0) {
+            int parent = random.nextInt(pass.getRetainedPopulation());
+            if (firstParents != null)
+                firstParents[child] = parent;
+            GenInstance input = parents.get(parent).getGenoType();
+            Object event = FlightRecorderEvents.getInstance().beginMutation(mutation);
+            GenInstance ret;
+            if (changes != null && mutation instanceof IncrementalMutationOp) {
+                changes[child] = new GeneChanges();
+                ret = ((IncrementalMutationOp)mutation).mutationOp(input, subStep, changes[child]);
+            } else
+                ret = mutation.mutationOp(input, subStep);
+            FlightRecorderEvents.getInstance().commitOperator(event);
+            return ret;
+        //the recombination-case
         } else {
-            for (int i=0; i<pass.getPopulation()-pass.retainedPopulation; i++) {
-                AlgorithmStep subStep = new StaticAlgorithmStep((StaticAlgorithmStep)step, i);
-
-                //the mutation-case
-                if (step.getRandom().nextDouble() < pass.getMutationProbability() || pass.getMutationProbability() == 1.0) {
-                    GenInstance input = population.get(step.getRandom().nextInt(pass.getRetainedPopulation())).getGenoType();
-                    GenInstance result = mutation.mutationOp(input, subStep);
-                    population.set(i+pass.getRetainedPopulation(), new Individuum(result, subStep));
-                //the recombination-case
-                } else {
-                    GenInstance left = population.get(step.getRandom().nextInt(pass.getRetainedPopulation())).getGenoType();
-                    GenInstance right = population.get(step.getRandom().nextInt(pass.getRetainedPopulation())).getGenoType();
-                    GenInstance result = recombination.recombinationOp(new GenInstance[] {left, right}, subStep, 1)[0];
-                    population.set(i+pass.getRetainedPopulation(), new Individuum(result, subStep));
-                }
-            }
+            int parent = random.nextInt(pass.getRetainedPopulation());
+            if (firstParents != null)
+                firstParents[child] = parent;
+            GenInstance left = parents.get(parent).getGenoType();
+            GenInstance right = parents.get(random.nextInt(pass.getRetainedPopulation())).getGenoType();
+            Object event = FlightRecorderEvents.getInstance().beginRecombination(recombination, 2, 1);
+            GenInstance ret = recombination.recombinationOp(new GenInstance[] {left, right}, subStep, 1)[0];
+            FlightRecorderEvents.getInstance().commitOperator(event);
+            return ret;
         }
     }
 
+    @Override
+    protected int getOrderedPopulationSize(AlgorithmStep step) {
+        //the next step just needs the retained population
+        return ((StaticAlgorithmPass)step.getParent()).getRetainedPopulation();
+    }
+
+    @Override
+    protected boolean isResumable() {
+        //the started generations of the pipelined mode are not part of a checkpoint
+        return pipelineDepth == 0;
+    }
+
     @Override
     protected AlgorithmPass getStandardAlgorithmPass() {
         return new StaticAlgorithmPass(256, 64, 512, 0.1);
@@ -107,4 +411,12 @@ public class StaticGeneticAlgorithm extends GeneticAlgorithm {
         return new int[] {1};
     }
 
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "pipelineDepth", pipelineDepth),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "pipeline", pipeline),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "launchedGeneration", launchedGeneration));
+    }
+
 }
@@ -0,0 +1,200 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * the algorithmPass of the steady-state algorithm. There are no real
+ * generations, every new individuum replaces the worst one as soon as it is
+ * evaluated. For the loggers every 'evaluationsPerGeneration' evaluations
+ * form a virtual generation.
+ *
+ * @author Hilmar
+ */
+public class SteadyStateAlgorithmPass extends AlgorithmPass {
+
+    /**
+     * the population size
+     */
+    protected final int population;
+
+    /**
+     * the number of virtual generations, the first one is the initial population
+     */
+    protected final int generations;
+
+    /**
+     * the number of evaluations of a virtual generation
+     */
+    protected final int evaluationsPerGeneration;
+
+    /**
+     * the probability of a mutation. A mutation replaces a
+     * recombination.
+     */
+    protected final double mutationProbability;
+
+    /**
+     * the number of worker-threads, that breed and evaluate the individuums
+     */
+    protected final int workers;
+
+    /**
+     * the seed of this pass. Every evaluation gets its own random-object,
+     * that is derived from this seed, the virtual generation and the evaluation.
+     */
+    protected final long seed;
+
+    /**
+     * the constructor, the seed is taken from the current time
+     *
+     * @param _population the population size
+     * @param _generations the number of virtual generations, the first one is the initial population
+     * @param _evaluationsPerGeneration the number of evaluations of a virtual generation
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _workers the number of worker-threads
+     */
+    public SteadyStateAlgorithmPass (int _population, int _generations, int _evaluationsPerGeneration, double _mutationProbability, int _workers) {
+        this(_population, _generations, _evaluationsPerGeneration, _mutationProbability, _workers, System.nanoTime());
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _population the population size
+     * @param _generations the number of virtual generations, the first one is the initial population
+     * @param _evaluationsPerGeneration the number of evaluations of a virtual generation
+     * @param _mutationProbability the probability of a mutation. A mutation replaces a recombination
+     * @param _workers the number of worker-threads
+     * @param _seed the seed of the random-objects
+     */
+    public SteadyStateAlgorithmPass (int _population, int _generations, int _evaluationsPerGeneration, double _mutationProbability, int _workers, long _seed) {
+        population = _population;
+        generations = _generations;
+        evaluationsPerGeneration = _evaluationsPerGeneration;
+        mutationProbability = _mutationProbability;
+        workers = _workers;
+        seed = _seed;
+
+        if (population <= 0)
+            throw new IllegalArgumentException("invalid population: '" + population + "'.");
+        if (generations <= 0)
+            throw new IllegalArgumentException("invalid generations: '" + generations + "'.");
+        if (evaluationsPerGeneration <= 0)
+            throw new IllegalArgumentException("invalid evaluationsPerGeneration: '" + evaluationsPerGeneration + "'.");
+        if (mutationProbability < 0 || mutationProbability > 1)
+            throw new IllegalArgumentException("invalid mutationProbability: '" + mutationProbability + "'.");
+        if (workers <= 0)
+            throw new IllegalArgumentException("invalid workers: '" + workers + "'.");
+    }
+
+    /**
+     * getter for the population size
+     *
+     * @return the population size
+     */
+    public int getPopulation () {
+        return population;
+    }
+
+    /**
+     * getter for the number of virtual generations
+     *
+     * @return the number of virtual generations
+     */
+    public int getGenerations () {
+        return generations;
+    }
+
+    /**
+     * getter for the number of evaluations of a virtual generation
+     *
+     * @return the evaluations per virtual generation
+     */
+    public int getEvaluationsPerGeneration () {
+        return evaluationsPerGeneration;
+    }
+
+    /**
+     * getter for the mutation probability
+     *
+     * @return the mutation probability
+     */
+    public double getMutationProbability () {
+        return mutationProbability;
+    }
+
+    /**
+     * getter for the number of worker-threads
+     *
+     * @return the number of worker-threads
+     */
+    public int getWorkers () {
+        return workers;
+    }
+
+    /**
+     * getter for the seed
+     *
+     * @return the seed
+     */
+    public long getSeed () {
+        return seed;
+    }
+
+    /**
+     * creates the random-object for one algorithm-step. Every combination of
+     * virtual generation and evaluation gets its own stream.
+     *
+     * @param generation the virtual generation
+     * @param operationStep the evaluation while being in one virtual generation, -1 for the generation itself
+     * @return the random-object
+     */
+    public Random createRandom (int generation, int operationStep) {
+        long stepSeed = Utils.fingerprint(Utils.fingerprint(Utils.fingerprint(Utils.FINGERPRINT_SEED, seed), generation), operationStep);
+        return new Random(Utils.finalizeFingerprint(stepSeed));
+    }
+
+    @Override
+    public AlgorithmStep createInitial() {
+        return new SteadyStateAlgorithmStep(this);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "population", population),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "generations", generations),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "evaluationsPerGeneration", evaluationsPerGeneration),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "mutationProbability", mutationProbability),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "workers", workers),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "seed", seed));
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The corresponding AlgorithmStep of SteadyStateAlgorithmPass
+ *
+ * @author Hilmar
+ */
+public class SteadyStateAlgorithmStep extends AlgorithmStep {
+
+    /**
+     * the parent
+     */
+    protected final SteadyStateAlgorithmPass parent;
+
+    /**
+     * the current virtual generation
+     */
+    protected final int generation;
+
+    /**
+     * the evaluation while being in one virtual generation
+     */
+    protected final int operationStep;
+
+    /**
+     * the random-object of this step, it is not shared with other steps
+     */
+    protected final Random random;
+
+    /**
+     * the constructor
+     *
+     * @param _parent the parent
+     */
+    public SteadyStateAlgorithmStep (SteadyStateAlgorithmPass _parent) {
+        this(_parent, 0, -1);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _parent the parent
+     * @param _generation the virtual generation
+     * @param _operationStep the evaluation while being in one virtual generation, -1 for the generation itself
+     * @throws NullPointerException if _parent is null
+     */
+    public SteadyStateAlgorithmStep (SteadyStateAlgorithmPass _parent, int _generation, int _operationStep) {
+        if (_parent == null)
+            throw new NullPointerException("_parent can't be null.");
+
+        parent = _parent;
+        generation = _generation;
+        operationStep = _operationStep;
+        random = parent.createRandom(generation, operationStep);
+    }
+
+    /**
+     * the getter for the virtual generation
+     *
+     * @return the virtual generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * getter for the evaluation while being in one virtual generation
+     *
+     * @return the evaluation
+     */
+    public int getOperationStep() {
+        return operationStep;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return generation < parent.getGenerations()-1;
+    }
+
+    @Override
+    public AlgorithmStep next() {
+        return new SteadyStateAlgorithmStep(parent, generation+1, -1);
+    }
+
+    @Override
+    public AlgorithmPass getParent() {
+        return parent;
+    }
+
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.HierarchicalParent), "parent", parent),
+                                new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "generation", generation),
+                                new Attribute(new AttributeType(AttributeType.Type.NormalAttribute), "operationStep", operationStep),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "random", random));
+    }
+
+}
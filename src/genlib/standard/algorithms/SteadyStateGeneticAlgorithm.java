@@ -0,0 +1,361 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.algorithms;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.FlightRecorderEvents;
+import genlib.utils.Utils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * the steady-state algorithm. After the initial population is created, the
+ * worker-threads breed, evaluate and insert one individuum after another into
+ * the ordered population, where it replaces the worst individuum. No worker
+ * waits for the evaluations of the others, so slow evaluations don't block
+ * the algorithm.
+ *
+ * Every 'evaluationsPerGeneration' finished evaluations the loggers get the
+ * current population as a virtual generation, while the workers go on. With
+ * more than one worker, two runs with the same seed don't have to produce the
+ * same populations.
+ *
+ * @author Hilmar
+ */
+public class SteadyStateGeneticAlgorithm extends GeneticAlgorithm {
+
+    /**
+     * the population of the workers, ordered by decreasing fitness.
+     * It is guarded by populationLock.
+     */
+    protected Individuum [] orderedPopulation;
+
+    /**
+     * the lock of orderedPopulation and completedEvaluations
+     */
+    protected final Object populationLock = new Object();
+
+    /**
+     * the number of evaluations, that are already inserted into the population
+     */
+    protected int completedEvaluations;
+
+    /**
+     * the number of evaluations, that are taken by a worker
+     */
+    protected AtomicInteger claimedEvaluations;
+
+    /**
+     * the worker-threads of the current run
+     */
+    protected Thread [] workerThreads;
+
+    /**
+     * should the workers stop before all evaluations are done?
+     */
+    protected volatile boolean stopWorkers;
+
+    /**
+     * the first exception, that was thrown by a worker
+     */
+    protected volatile Throwable workerFailure;
+
+    /**
+     * the constructor. The name of the algorithm is given automatically (A0, A1, A2, ..)
+     */
+    public SteadyStateGeneticAlgorithm () {
+        super();
+    }
+
+    /**
+     * the constructor with an individual given name
+     * @param _name the name for the algorithm
+     */
+    public SteadyStateGeneticAlgorithm (String _name) {
+        super(_name);
+    }
+
+    @Override
+    protected void doStep(AlgorithmStep step) {
+        SteadyStateAlgorithmPass pass = (SteadyStateAlgorithmPass)step.getParent();
+        int generation = ((SteadyStateAlgorithmStep)step).getGeneration();
+
+        try {
+            if (population.isEmpty()) {
+                createInitialPopulation(pass);
+                if (step.hasNext())
+                    startWorkers(pass);
+            } else
+                waitForEvaluations(generation*pass.getEvaluationsPerGeneration());
+
+            //the loggers get a copy, the workers go on
+            synchronized (populationLock) {
+                population = new ArrayList(Arrays.asList(orderedPopulation));
+            }
+
+            if (!step.hasNext())
+                joinWorkers();
+        } catch (RuntimeException | Error e) {
+            stopWorkers = true;
+            throw e;
+        }
+    }
+
+    /**
+     * creates and evaluates the initial population (can be done in parallel with the executor)
+     *
+     * @param pass the algorithm-pass
+     */
+    protected void createInitialPopulation (SteadyStateAlgorithmPass pass) {
+        final GenInstance [] instances = new GenInstance[pass.getPopulation()];
+        final AlgorithmStep [] subSteps = new AlgorithmStep[instances.length];
+
+        List <Callable<Object>> tasks = new ArrayList(instances.length);
+        for (int i=0; i<instances.length; i++) {
+            final int index = i;
+            subSteps[i] = new SteadyStateAlgorithmStep(pass, 0, i);
+            tasks.add(() -> instances[index] = genoType.instantiateRandom(subSteps[index]));
+        }
+        executeTasks(tasks);
+
+        Individuum [] individuums = createIndividuums(instances, subSteps);
+        Arrays.sort(individuums);
+
+        synchronized (populationLock) {
+            orderedPopulation = individuums;
+            completedEvaluations = 0;
+        }
+    }
+
+    /**
+     * starts the worker-threads
+     *
+     * @param pass the algorithm-pass
+     */
+    protected void startWorkers (final SteadyStateAlgorithmPass pass) {
+        claimedEvaluations = new AtomicInteger();
+        stopWorkers = false;
+        workerFailure = null;
+        workerThreads = new Thread[pass.getWorkers()];
+
+        for (int i=0; i<workerThreads.length; i++) {
+            workerThreads[i] = new Thread(() -> {
+                try {
+                    work(pass);
+                } catch (Throwable e) {
+                    if (workerFailure == null)
+                        workerFailure = e;
+                    synchronized (populationLock) {
+                        populationLock.notifyAll();
+                    }
+                }
+            }, getName() + "-worker-" + i);
+            workerThreads[i].setDaemon(true);
+            workerThreads[i].start();
+        }
+    }
+
+    /**
+     * the loop of a worker: take the next evaluation, breed, evaluate and insert
+     * the child, until all evaluations are taken.
+     *
+     * @param pass the algorithm-pass
+     */
+    protected void work (SteadyStateAlgorithmPass pass) {
+        int evaluationsPerGeneration = pass.getEvaluationsPerGeneration();
+        int totalEvaluations = (pass.getGenerations()-1)*evaluationsPerGeneration;
+
+        int evaluation;
+        while (!stopWorkers && workerFailure == null && (evaluation = claimedEvaluations.getAndIncrement()) < totalEvaluations) {
+            AlgorithmStep subStep = new SteadyStateAlgorithmStep(pass, 1 + evaluation/evaluationsPerGeneration, evaluation % evaluationsPerGeneration);
+            insert(new Individuum(breed(pass, subStep), subStep), evaluationsPerGeneration);
+        }
+    }
+
+    /**
+     * creates one child through mutation or recombination of the current population
+     *
+     * @param pass the algorithm-pass
+     * @param subStep the sub-step of the child, its random-object is used
+     * @return the child as genoType
+     */
+    protected GenInstance breed (SteadyStateAlgorithmPass pass, AlgorithmStep subStep) {
+        Random random = subStep.getRandom();
+
+        //the parents are chosen under the lock, the operators work without it
+        boolean isMutation = random.nextDouble() < pass.getMutationProbability() || pass.getMutationProbability() == 1.0;
+        GenInstance left, right;
+        synchronized (populationLock) {
+            left = orderedPopulation[random.nextInt(orderedPopulation.length)].getGenoType();
+            right = (isMutation ? null : orderedPopulation[random.nextInt(orderedPopulation.length)].getGenoType());
+        }
+
+        if (isMutation) {
+            Object event = FlightRecorderEvents.getInstance().beginMutation(mutation);
+            GenInstance ret = mutation.mutationOp(left, subStep);
+            FlightRecorderEvents.getInstance().commitOperator(event);
+            return ret;
+        } else {
+            Object event = FlightRecorderEvents.getInstance().beginRecombination(recombination, 2, 1);
+            GenInstance ret = recombination.recombinationOp(new GenInstance[] {left, right}, subStep, 1)[0];
+            FlightRecorderEvents.getInstance().commitOperator(event);
+            return ret;
+        }
+    }
+
+    /**
+     * inserts an individuum at its position in the ordered population, the worst
+     * individuum gets removed. Individuums with equal fitness keep their order,
+     * so a new individuum never replaces an equal one.
+     *
+     * @param individuum the new individuum
+     * @param evaluationsPerGeneration the evaluations of a virtual generation
+     */
+    protected void insert (Individuum individuum, int evaluationsPerGeneration) {
+        synchronized (populationLock) {
+            int low = 0, high = orderedPopulation.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (orderedPopulation[mid].compareTo(individuum) <= 0)
+                    low = mid + 1;
+                else
+                    high = mid;
+            }
+
+            if (low < orderedPopulation.length) {
+                System.arraycopy(orderedPopulation, low, orderedPopulation, low+1, orderedPopulation.length-low-1);
+                orderedPopulation[low] = individuum;
+            }
+
+            //the algorithm waits just for complete virtual generations
+            completedEvaluations ++;
+            if (completedEvaluations % evaluationsPerGeneration == 0)
+                populationLock.notifyAll();
+        }
+    }
+
+    /**
+     * waits until the given number of evaluations is inserted into the population
+     *
+     * @param evaluations the number of evaluations
+     * @throws GeneticRuntimeException if the waiting got interrupted
+     */
+    protected void waitForEvaluations (int evaluations) {
+        try {
+            synchronized (populationLock) {
+                while (completedEvaluations < evaluations) {
+                    Throwable failure = workerFailure;
+                    if (failure != null)
+                        throw Utils.rethrow(failure);
+
+                    populationLock.wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * waits until every worker-thread is finished
+     *
+     * @throws GeneticRuntimeException if the waiting got interrupted
+     */
+    protected void joinWorkers () {
+        if (workerThreads == null)
+            return;
+
+        try {
+            for (Thread thread : workerThreads)
+                thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+        workerThreads = null;
+    }
+
+    @Override
+    protected void endRun() {
+        //as example a logger threw an exception or the run stopped early => no worker may keep running
+        stopWorkers = true;
+        if (workerThreads != null)
+            try {
+                for (Thread thread : workerThreads)
+                    thread.join();
+                workerThreads = null;
+            } catch (InterruptedException e) {
+                //don't hide the exception of the run, the workers stop after their current evaluation
+                Thread.currentThread().interrupt();
+            }
+    }
+
+    @Override
+    protected GeneticAlgorithm newRunningInstance(String _name) {
+        return new SteadyStateGeneticAlgorithm(_name);
+    }
+
+    @Override
+    protected AlgorithmPass getStandardAlgorithmPass() {
+        return new SteadyStateAlgorithmPass(256, 512, 192, 0.1, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    protected boolean isCompatible(AlgorithmPass algorithmPass) {
+        return algorithmPass instanceof SteadyStateAlgorithmPass;
+    }
+
+    @Override
+    protected int[] getRecombinationInputSize() {
+        return new int[] {2};
+    }
+
+    @Override
+    protected int[] getRecombinationOutputSize() {
+        return new int[] {1};
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.extendList(super.getAttributes(),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "orderedPopulation", orderedPopulation),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "populationLock", populationLock),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "completedEvaluations", completedEvaluations),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "claimedEvaluations", claimedEvaluations),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "workerThreads", workerThreads),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "stopWorkers", stopWorkers),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "workerFailure", workerFailure));
+    }
+
+}
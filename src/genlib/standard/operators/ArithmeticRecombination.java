@@ -30,9 +30,9 @@ import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenObject.AttributeType.Type;
 import genlib.abstractrepresentation.GenRepresentation;
-import genlib.abstractrepresentation.RecombinationOp;
 import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.ArrayKernels;
 import genlib.utils.Utils;
 import java.util.List;
 import java.util.Random;
@@ -43,7 +43,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class ArithmeticRecombination extends GenObject implements RecombinationOp {
+public class ArithmeticRecombination extends GenObject implements StaticLengthRecombinationOp {
 
     /**
      * the maximum-factor, we can reach. If it is smaller than 1.0,
@@ -65,6 +65,11 @@ public class ArithmeticRecombination extends GenObject implements RecombinationO
      */
     protected final double differenceFactor;
 
+    /**
+     * the reused buffers of the genes
+     */
+    protected final GenomeBuffers buffers = new GenomeBuffers();
+
     /**
      * the constructor, with _percentReachable 1.0 and _differenceFactor 0.5
      *
@@ -113,22 +118,60 @@ public class ArithmeticRecombination extends GenObject implements RecombinationO
         AnyTypeStaticLengthInstance instL = (AnyTypeStaticLengthInstance)input[0];
         AnyTypeStaticLengthInstance instR = (AnyTypeStaticLengthInstance)input[1];
         AnyTypeStaticLength representation = (AnyTypeStaticLength)instL.getRepresentation();
+        int length = representation.getLength();
+
+        if (representation.isLongType()) {
+            long [][] parents = {buffers.getLongs(0, length), buffers.getLongs(1, length)};
+            instL.copyLongsTo(parents[0]);
+            instR.copyLongsTo(parents[1]);
+            long [] resultArray = buffers.getResultLongs(representation, 2);
+            recombineLongs(parents, resultArray, representation, step);
+            return new GenInstance[] { representation.wrapLongs(resultArray) };
+        } else {
+            double [][] parents = {buffers.getDoubles(0, length), buffers.getDoubles(1, length)};
+            instL.copyDoublesTo(parents[0]);
+            instR.copyDoublesTo(parents[1]);
+            double [] resultArray = buffers.getResultDoubles(representation, 2);
+            recombineDoubles(parents, resultArray, representation, step);
+            return new GenInstance[] { representation.wrapDoubles(resultArray) };
+        }
+    }
 
+    /**
+     * returns the factors of all entries, the left parent is weighted with
+     *
+     * @param factors the buffer, the factors are written in
+     * @param rand the random-object
+     */
+    protected void getFactors (double [] factors, Random rand) {
         //we will later combine this value with a localValue, depending of the differenceFactor
-        double globalValue = getRandomValue(step.getRandom());
+        double globalValue = getRandomValue(rand);
 
-        double [] resultArray = new double[representation.getLength()];
-        for (int i=0; i<representation.getLength(); i++) {
-            double localValue = getRandomValue(step.getRandom());
+        for (int i=0; i<factors.length; i++) {
+            double localValue = getRandomValue(rand);
             double actualValue = localValue*differenceFactor + globalValue*(1.0-differenceFactor);
 
             //let's do a random-invert here, so there is definitive no difference, if we define the order of the input
-            if (step.getRandom().nextBoolean())
+            if (rand.nextBoolean())
                 actualValue = 1.0 - actualValue;
-            resultArray[i] = representation.applyBounds(instL.getDoubleValue(i) * actualValue + instR.getDoubleValue(i) * (1.0-actualValue));
+            factors[i] = actualValue;
         }
+    }
 
-        return new GenInstance[] { representation.instantiateFromDoubles(resultArray) };
+    @Override
+    public void recombineLongs(long[][] parents, long[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        double [] factors = buffers.getDoubles(0, child.length);
+        getFactors(factors, step.getRandom());
+        for (int i=0; i<child.length; i++)
+            child[i] = (long)representation.applyBounds(parents[0][i] * factors[i] + parents[1][i] * (1.0-factors[i]));
+    }
+
+    @Override
+    public void recombineDoubles(double[][] parents, double[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        //the factors are written into the child, the parents are still needed
+        getFactors(child, step.getRandom());
+        ArrayKernels.getInstance().interpolate(parents[0], parents[1], child, child, child.length);
+        representation.applyBounds(child);
     }
 
     @Override
@@ -156,7 +199,8 @@ public class ArithmeticRecombination extends GenObject implements RecombinationO
         return Utils.createList(
                 new Attribute(new AttributeType(Type.MainAttribute), "maxFactor", maxFactor),
                 new Attribute(new AttributeType(Type.MainAttribute), "percentReachable", percentReachable),
-                new Attribute(new AttributeType(Type.MainAttribute), "differenceFactor", differenceFactor));
+                new Attribute(new AttributeType(Type.MainAttribute), "differenceFactor", differenceFactor),
+                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "buffers", buffers));
     }
 
 }
@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.AsyncFitnessOp;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This operator adapts a blocking single-instance fitness-operator (as
+ * example one, that waits for a simulator-process) to an AsyncFitnessOp.
+ * Every evaluation runs in its own virtual thread, if the JVM supports them,
+ * otherwise in a pooled daemon-thread. At most 'maxConcurrency' evaluations
+ * are in flight at once, fitnessOpAsync() waits for a free place.
+ * The executor is created with the first evaluation. shutdown() stops it
+ * after the last run, a later evaluation creates a new one.
+ *
+ * @author Hilmar
+ */
+public class AsyncFitnessAdapter extends GenObject implements AsyncFitnessOp {
+
+    /**
+     * the adapted fitness-operator
+     */
+    protected final FitnessOp fitnessOp;
+
+    /**
+     * the maximal number of evaluations in flight
+     */
+    protected final int maxConcurrency;
+
+    /**
+     * the places for evaluations in flight
+     */
+    protected final Semaphore places;
+
+    /**
+     * the executor of the evaluations, null until the first evaluation or
+     * after shutdown()
+     */
+    protected transient ExecutorService executor;
+
+    /**
+     * the constructor
+     *
+     * @param _fitnessOp the adapted fitness-operator
+     * @param _maxConcurrency the maximal number of evaluations in flight
+     * @throws NullPointerException if _fitnessOp is null
+     * @throws IllegalArgumentException if maxConcurrency is smaller than 1
+     */
+    public AsyncFitnessAdapter (FitnessOp _fitnessOp, int _maxConcurrency) {
+        if (_fitnessOp == null)
+            throw new NullPointerException("fitnessOp can't be null.");
+        if (_maxConcurrency < 1)
+            throw new IllegalArgumentException("invalid maxConcurrency: '" + _maxConcurrency + "'.");
+
+        fitnessOp = _fitnessOp;
+        maxConcurrency = _maxConcurrency;
+        places = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * creates an executor with one virtual thread per task. The JVM-method is
+     * looked up at runtime, so the library still runs on JVMs without virtual
+     * threads. There the executor uses cached daemon-threads instead.
+     *
+     * @return the executor
+     */
+    protected static ExecutorService createExecutor () {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //no (or just preview-) virtual threads
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue(), (runnable) -> {
+                Thread thread = new Thread(runnable, "async-fitness");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * returns the executor of the evaluations and creates it, if necessary
+     *
+     * @return the executor
+     */
+    protected synchronized ExecutorService getExecutor () {
+        if (executor == null)
+            executor = createExecutor();
+        return executor;
+    }
+
+    /**
+     * shuts the executor down. The evaluations in flight are finished first.
+     * Must not be invoked while an algorithm is still running with this
+     * operator.
+     */
+    public synchronized void shutdown () {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * returns the adapted fitness-operator
+     *
+     * @return the adapted fitness-operator
+     */
+    public FitnessOp getFitnessOp () {
+        return fitnessOp;
+    }
+
+    /**
+     * returns the maximal number of evaluations in flight
+     *
+     * @return the maximal concurrency
+     */
+    public int getMaxConcurrency () {
+        return maxConcurrency;
+    }
+
+    @Override
+    public CompletableFuture <Double> fitnessOpAsync(final GenInstance input, final AlgorithmStep step) {
+        try {
+            places.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneticRuntimeException(e);
+        }
+
+        final CompletableFuture <Double> ret = new CompletableFuture();
+        try {
+            getExecutor().execute(() -> {
+                try {
+                    ret.complete(fitnessOp.fitnessOp(input, step));
+                } catch (Throwable e) {
+                    ret.completeExceptionally(e);
+                } finally {
+                    places.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            places.release();
+            throw e;
+        }
+        return ret;
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        return fitnessOp.fitnessOp(input, step);
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return fitnessOp.isCompatible(representation);
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return fitnessOp.isCompatible(algorithmPass);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "fitnessOp", fitnessOp),
+                                new Attribute(new AttributeType(Type.MainAttribute), "maxConcurrency", maxConcurrency),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "places", places),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "executor", executor));
+    }
+
+}
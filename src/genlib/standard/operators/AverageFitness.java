@@ -26,34 +26,55 @@ package genlib.standard.operators;
 
 import genlib.abstractrepresentation.AlgorithmPass;
 import genlib.abstractrepresentation.AlgorithmStep;
-import genlib.abstractrepresentation.FitnessOp;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenRepresentation;
+import genlib.abstractrepresentation.GeneChanges;
+import genlib.abstractrepresentation.IncrementalFitnessOp;
 import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
 import genlib.utils.Utils;
 import java.util.List;
 
 /**
- * a fitness-operator, that calculates an average value of the instance
+ * a fitness-operator, that calculates an average value of the instance. For
+ * integer-genes the sum of the values is divided once by the length, so the
+ * incremental evaluation can rebuild the exact sum of the parent and gets the
+ * same result as the full one. For floating-point-genes every value is
+ * divided before it is added (see getAverage()), so the sum can't overflow,
+ * there the incremental result drifts with the rounding errors.
  *
  * @author Hilmar
  */
-public class AverageFitness extends GenObject implements FitnessOp {
+public class AverageFitness extends GenObject implements IncrementalFitnessOp {
 
     @Override
     public double fitnessOp(GenInstance input, AlgorithmStep step) {
-        double ret = 0;
-        /*boolean [] array = ((BinaryStaticLengthInstance)input).getArray();
-        for (int i=0; i<array.length; i++)
-            if (array[i])
-                ret++;*/
-        double [] array = ((AnyTypeStaticLengthInstance)input).getDoubleArray();
-        for (int i=0; i<array.length; i++)
-            ret += array[i]/array.length;
+        AnyTypeStaticLengthInstance instance = (AnyTypeStaticLengthInstance)input;
+        AnyTypeStaticLength representation = (AnyTypeStaticLength)instance.getRepresentation();
+        if (representation.isLongType())
+            return instance.getSum() / representation.getLength();
+        return instance.getAverage();
+    }
+
+    @Override
+    public double fitnessOp(double parentFitness, GenInstance parent, GenInstance input, GeneChanges changes, AlgorithmStep step) {
+        AnyTypeStaticLength representation = (AnyTypeStaticLength)input.getRepresentation();
+        int length = representation.getLength();
+        if (representation.isLongType()) {
+            //the sum of integer-genes is an integer, so rounding removes the error of the parent-fitness
+            //(as long as the sum is smaller than 2^51)
+            double sum = Math.rint(parentFitness * length);
+            for (int i=0; i<changes.size(); i++)
+                sum += changes.getNewValue(i) - changes.getOldValue(i);
+            return sum / length;
+        }
+
+        //every entry contributes its value divided by the length
+        double ret = parentFitness;
+        for (int i=0; i<changes.size(); i++)
+            ret += changes.getNewValue(i)/length - changes.getOldValue(i)/length;
         return ret;
-        //return ret / array.length;
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.BatchFitnessOp;
+import genlib.abstractrepresentation.FitnessOp;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.utils.Utils;
+import java.util.List;
+
+/**
+ * This operator adapts a single-instance fitness-operator (as example
+ * AverageFitness) to a BatchFitnessOp. Every instance of the batch will
+ * be passed to the adapted operator one after another.
+ *
+ * @author Hilmar
+ */
+public class BatchFitnessAdapter extends GenObject implements BatchFitnessOp {
+
+    /**
+     * the adapted fitness-operator
+     */
+    protected final FitnessOp fitnessOp;
+
+    /**
+     * the constructor
+     *
+     * @param _fitnessOp the adapted fitness-operator
+     * @throws NullPointerException if _fitnessOp is null
+     */
+    public BatchFitnessAdapter (FitnessOp _fitnessOp) {
+        if (_fitnessOp == null)
+            throw new NullPointerException("fitnessOp can't be null.");
+
+        fitnessOp = _fitnessOp;
+    }
+
+    /**
+     * returns the adapted fitness-operator
+     *
+     * @return the adapted fitness-operator
+     */
+    public FitnessOp getFitnessOp () {
+        return fitnessOp;
+    }
+
+    @Override
+    public void fitnessOp(GenInstance[] input, AlgorithmStep[] steps, double[] fitnessValues) {
+        for (int i=0; i<input.length; i++)
+            fitnessValues[i] = fitnessOp.fitnessOp(input[i], steps[i]);
+    }
+
+    @Override
+    public double fitnessOp(GenInstance input, AlgorithmStep step) {
+        return fitnessOp.fitnessOp(input, step);
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return fitnessOp.isCompatible(representation);
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return fitnessOp.isCompatible(algorithmPass);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "fitnessOp", fitnessOp) );
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.AlgorithmPass;
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.abstractrepresentation.GeneChanges;
+import genlib.abstractrepresentation.IncrementalMutationOp;
+import genlib.standard.representations.PackedBooleanStaticLength;
+import genlib.standard.representations.PackedBooleanStaticLength.PackedBooleanStaticLengthInstance;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This mutation-operator flips every bit of a PackedBooleanStaticLength
+ * with a probability. The words are copied as a whole and just the flipped
+ * bits are visited: the distance to the next flipped bit is drawn out of
+ * the geometric distribution, so the costs don't depend on the length of
+ * the bit-string, but on the number of flips.
+ *
+ * @author Hilmar
+ */
+public class BitFlipMutation extends GenObject implements IncrementalMutationOp {
+
+    /**
+     * the probability, that a bit is flipped. 0, if it is 1/length (one flip is expected).
+     */
+    protected final double probability;
+
+    /**
+     * the constructor, every bit is flipped with the probability 1/length
+     */
+    public BitFlipMutation () {
+        this(0);
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _probability the probability, that a bit is flipped. 0, if it should be 1/length.
+     * @throws IllegalArgumentException if the probability is not between 0 and 1
+     */
+    public BitFlipMutation (double _probability) {
+        if (!(_probability >= 0 && _probability <= 1))
+            throw new IllegalArgumentException("invalid probability: '" + _probability + "'.");
+        probability = _probability;
+    }
+
+    @Override
+    public GenInstance mutationOp(GenInstance input, AlgorithmStep step) {
+        return mutationOp(input, step, null);
+    }
+
+    @Override
+    public GenInstance mutationOp(GenInstance input, AlgorithmStep step, GeneChanges changes) {
+        PackedBooleanStaticLengthInstance instance = (PackedBooleanStaticLengthInstance)input;
+        PackedBooleanStaticLength representation = (PackedBooleanStaticLength)instance.getRepresentation();
+        int length = representation.getLength();
+        double p = (probability == 0 ? 1.0 / length : probability);
+
+        long [] words = representation.createWordArray();
+        instance.copyWordsTo(words);
+
+        for (long index = nextSkip(p, step.getRandom()); index < length; index += 1 + nextSkip(p, step.getRandom())) {
+            int bit = (int)index;
+            long mask = 1L << (bit % PackedBooleanStaticLength.BITS_PER_WORD);
+            words[bit / PackedBooleanStaticLength.BITS_PER_WORD] ^= mask;
+            if (changes != null) {
+                boolean newValue = (words[bit / PackedBooleanStaticLength.BITS_PER_WORD] & mask) != 0;
+                changes.add(bit, (newValue ? 0 : 1), (newValue ? 1 : 0));
+            }
+        }
+
+        return representation.wrap(words);
+    }
+
+    /**
+     * returns the number of bits, that are not flipped before the next
+     * flipped one (geometric distribution). log1p() keeps tiny probabilities
+     * apart from 0, a skip, that is not finite, means no more flips.
+     *
+     * @param p the probability of a flip
+     * @param random the random-object
+     * @return the number of skipped bits, at most Integer.MAX_VALUE
+     */
+    protected static long nextSkip (double p, Random random) {
+        if (p >= 1)
+            return 0;
+        double skip = Math.floor(Math.log1p(-random.nextDouble()) / Math.log1p(-p));
+        return (!(skip < Integer.MAX_VALUE) ? Integer.MAX_VALUE : (long)skip);
+    }
+
+    @Override
+    public boolean isCompatible(GenRepresentation representation) {
+        return representation instanceof PackedBooleanStaticLength;
+    }
+
+    @Override
+    public boolean isCompatible(AlgorithmPass algorithmPass) {
+        return true;
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "probability", probability) );
+    }
+
+}
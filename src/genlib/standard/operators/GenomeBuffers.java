@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.utils.Utils;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable primitive buffers for the genes of static-length representations
+ * (see StaticLengthMutationOp and StaticLengthRecombinationOp). Every thread
+ * has its own buffers, so one operator can be used by all threads of an
+ * executor. A buffer of a slot is reused by the next call with the same
+ * slot in the same thread. The buffers are not serialized, a deserialized
+ * operator starts with new ones.
+ *
+ * @author Hilmar
+ */
+public class GenomeBuffers extends GenObject {
+
+    /**
+     * the long-buffers of the current thread, one per slot
+     */
+    protected transient ThreadLocal <long[][]> longBuffers = createLongBuffers();
+
+    /**
+     * the double-buffers of the current thread, one per slot
+     */
+    protected transient ThreadLocal <double[][]> doubleBuffers = createDoubleBuffers();
+
+    /**
+     * creates the thread-local long-buffers without slots
+     *
+     * @return the thread-local buffers
+     */
+    protected static ThreadLocal <long[][]> createLongBuffers () {
+        return ThreadLocal.withInitial(() -> new long[0][]);
+    }
+
+    /**
+     * creates the thread-local double-buffers without slots
+     *
+     * @return the thread-local buffers
+     */
+    protected static ThreadLocal <double[][]> createDoubleBuffers () {
+        return ThreadLocal.withInitial(() -> new double[0][]);
+    }
+
+    /**
+     * the thread-local buffers can't be serialized, so they are created
+     * again, if the operator is deserialized
+     *
+     * @param in the stream
+     * @throws IOException if the stream throws it
+     * @throws ClassNotFoundException if the stream throws it
+     */
+    private void readObject (ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        longBuffers = createLongBuffers();
+        doubleBuffers = createDoubleBuffers();
+    }
+
+    /**
+     * returns the long-buffer of a slot for the current thread. The
+     * content is undefined.
+     *
+     * @param slot the slot, 0 or larger
+     * @param length the length of the buffer
+     * @return the buffer with exactly the given length
+     */
+    public long [] getLongs (int slot, int length) {
+        long [][] buffers = longBuffers.get();
+        if (slot >= buffers.length) {
+            buffers = Arrays.copyOf(buffers, slot+1);
+            longBuffers.set(buffers);
+        }
+        if (buffers[slot] == null || buffers[slot].length != length)
+            buffers[slot] = new long[length];
+        return buffers[slot];
+    }
+
+    /**
+     * returns the double-buffer of a slot for the current thread. The
+     * content is undefined.
+     *
+     * @param slot the slot, 0 or larger
+     * @param length the length of the buffer
+     * @return the buffer with exactly the given length
+     */
+    public double [] getDoubles (int slot, int length) {
+        double [][] buffers = doubleBuffers.get();
+        if (slot >= buffers.length) {
+            buffers = Arrays.copyOf(buffers, slot+1);
+            doubleBuffers.set(buffers);
+        }
+        if (buffers[slot] == null || buffers[slot].length != length)
+            buffers[slot] = new double[length];
+        return buffers[slot];
+    }
+
+    /**
+     * returns a buffer for the genes of a result, that will be handed over
+     * to representation.wrapLongs(). If the representation takes the array
+     * without copying it, it is a new array (see createLongBuffer()), otherwise the reused buffer of the slot.
+     *
+     * @param representation the representation of the result
+     * @param slot the slot, 0 or larger
+     * @return the buffer
+     */
+    public long [] getResultLongs (AnyTypeStaticLength representation, int slot) {
+        return (representation.wrapsWithoutCopy() ? representation.createLongBuffer() : getLongs(slot, representation.getLength()));
+    }
+
+    /**
+     * returns a buffer for the genes of a result, that will be handed over
+     * to representation.wrapDoubles(). If the representation takes the array
+     * without copying it, it is a new array (see createDoubleBuffer()), otherwise the reused buffer of the slot.
+     *
+     * @param representation the representation of the result
+     * @param slot the slot, 0 or larger
+     * @return the buffer
+     */
+    public double [] getResultDoubles (AnyTypeStaticLength representation, int slot) {
+        return (representation.wrapsWithoutCopy() ? representation.createDoubleBuffer() : getDoubles(slot, representation.getLength()));
+    }
+
+    @Override
+    public List<Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "longBuffers", longBuffers),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "doubleBuffers", doubleBuffers));
+    }
+
+}
@@ -29,29 +29,39 @@ import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenRepresentation;
-import genlib.abstractrepresentation.RecombinationOp;
 import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.GenomeArrayRepresentation;
+import genlib.standard.representations.PackedBooleanStaticLength;
+import genlib.standard.representations.PackedBooleanStaticLength.PackedBooleanStaticLengthInstance;
 import genlib.utils.Utils;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * the k-point-crossover is a recombination-operator, that gets two input-
  * individuums and defines k points randomly, where it changes to receive
  * the input from. As example input AAA and BBB with k=2 can produce:
- * AAA, BBB, ABB, ABA, BAB, etc..
+ * AAA, BBB, ABB, ABA, BAB, etc.. The segments are copied with
+ * System.arraycopy() out of the genome-arrays of the parents without
+ * converting the genes, so the costs depend on k and not on the length.
+ * A PackedBooleanStaticLength is recombined word by word, just the words
+ * with a crossover-point are masked.
  *
  * @author Hilmar
  */
-public class KPointCrossover extends GenObject implements RecombinationOp {
+public class KPointCrossover extends GenObject implements StaticLengthRecombinationOp {
 
     /**
      * the k
      */
     protected final int k;
 
+    /**
+     * the reused buffers of the genes
+     */
+    protected final GenomeBuffers buffers = new GenomeBuffers();
+
     /**
      * the constructor
      *
@@ -73,38 +83,96 @@ public class KPointCrossover extends GenObject implements RecombinationOp {
             AnyTypeStaticLength representation = ((AnyTypeStaticLength)((AnyTypeStaticLengthInstance)input[0]).getRepresentation());
             int length = representation.getLength();
 
-            //get random crossover-points and sort them
-            List <Integer> crossoverPoints = new ArrayList(k);
-            for (int i=0; i<k; i++)
-                crossoverPoints.add(step.getRandom().nextInt( length ));
-            Collections.sort(crossoverPoints);
-
-            long [] resultLong = null;
-            double [] resultDouble = null;
-            if (representation.isLongType())
-                resultLong = new long[length];
-            else
-                resultDouble = new double[length];
-
-            //odd defines, if we currently read in the first or in the second instance
-            boolean odd = false;
-            //let's add a pseudo-point, so the list will be never empty and .get(0) won't throw an exception
-            crossoverPoints.add(-1);
-            for (int i=0; i<length; i++) {
-                while (crossoverPoints.get(0) == i) {
-                    odd = !odd;
-                    crossoverPoints.remove(0);
-                }
-                if (representation.isLongType())
-                    resultLong[i] = ((AnyTypeStaticLengthInstance)input[(odd ? 1 : 0)]).getLongValue(i);
-                else
-                    resultDouble[i] = ((AnyTypeStaticLengthInstance)input[(odd ? 1 : 0)]).getDoubleValue(i);
+            if (representation instanceof PackedBooleanStaticLength) {
+                PackedBooleanStaticLength packed = (PackedBooleanStaticLength)representation;
+                long [][] parents = {buffers.getLongs(0, packed.getWordCount()), buffers.getLongs(1, packed.getWordCount())};
+                ((PackedBooleanStaticLengthInstance)input[0]).copyWordsTo(parents[0]);
+                ((PackedBooleanStaticLengthInstance)input[1]).copyWordsTo(parents[1]);
+                long [] child = packed.createWordArray();
+                recombineWords(parents, child, length, step);
+                return new GenInstance[] {packed.wrap(child)};
+            } else if (representation instanceof GenomeArrayRepresentation) {
+                GenomeArrayRepresentation genomeArrays = (GenomeArrayRepresentation)representation;
+                Object child = genomeArrays.createGenomeArray();
+                copySegments(length, step, (parent, from, to) -> ((AnyTypeStaticLengthInstance)input[parent]).copyGenesTo(child, from, to));
+                return new GenInstance[] {genomeArrays.wrapGenomeArray(child)};
+            } else if (representation.isLongType()) {
+                long [][] parents = {buffers.getLongs(0, length), buffers.getLongs(1, length)};
+                ((AnyTypeStaticLengthInstance)input[0]).copyLongsTo(parents[0]);
+                ((AnyTypeStaticLengthInstance)input[1]).copyLongsTo(parents[1]);
+                long [] child = buffers.getResultLongs(representation, 2);
+                recombineLongs(parents, child, representation, step);
+                return new GenInstance[] {representation.wrapLongs(child)};
+            } else {
+                double [][] parents = {buffers.getDoubles(0, length), buffers.getDoubles(1, length)};
+                ((AnyTypeStaticLengthInstance)input[0]).copyDoublesTo(parents[0]);
+                ((AnyTypeStaticLengthInstance)input[1]).copyDoublesTo(parents[1]);
+                double [] child = buffers.getResultDoubles(representation, 2);
+                recombineDoubles(parents, child, representation, step);
+                return new GenInstance[] {representation.wrapDoubles(child)};
             }
-            return new GenInstance[] { representation.isLongType() ? representation.instantiateFromLongs(resultLong) : representation.instantiateFromDoubles(resultDouble)};
         }
 
     }
 
+    /**
+     * returns k random crossover-points in increasing order
+     *
+     * @param length the length of the representation
+     * @param step the algorithm-step, its random-object is used
+     * @return the crossover-points
+     */
+    protected int [] getCrossoverPoints (int length, AlgorithmStep step) {
+        int [] crossoverPoints = new int[k];
+        for (int i=0; i<k; i++)
+            crossoverPoints[i] = step.getRandom().nextInt( length );
+        Arrays.sort(crossoverPoints);
+        return crossoverPoints;
+    }
+
+    /**
+     * copies the segments between k random crossover-points alternately
+     * from the first and the second parent
+     *
+     * @param length the length of the representation
+     * @param step the algorithm-step, its random-object is used
+     * @param copier copies one segment of a parent into the child
+     */
+    protected void copySegments (int length, AlgorithmStep step, SegmentCopier copier) {
+        //odd defines, if we currently read in the first or in the second parent
+        boolean odd = false;
+        int position = 0;
+        for (int point : getCrossoverPoints(length, step)) {
+            copier.copy((odd ? 1 : 0), position, point);
+            odd = !odd;
+            position = point;
+        }
+        copier.copy((odd ? 1 : 0), position, length);
+    }
+
+    @Override
+    public void recombineLongs(long[][] parents, long[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        copySegments(child.length, step, (parent, from, to) -> System.arraycopy(parents[parent], from, child, from, to-from));
+    }
+
+    /**
+     * recombines the words of a PackedBooleanStaticLength, with the same
+     * crossover-points as recombineLongs()
+     *
+     * @param parents the words of the parents, they are not changed
+     * @param child the buffer, the words of the child are written in
+     * @param length the number of bits
+     * @param step the algorithm-step, its random-object is used
+     */
+    public void recombineWords(long[][] parents, long[] child, int length, AlgorithmStep step) {
+        copySegments(length, step, (parent, from, to) -> PackedBooleanStaticLength.copyBits(parents[parent], child, from, to));
+    }
+
+    @Override
+    public void recombineDoubles(double[][] parents, double[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        copySegments(child.length, step, (parent, from, to) -> System.arraycopy(parents[parent], from, child, from, to-from));
+    }
+
     @Override
     public boolean isInputSizeCompatible(int size) {
         return (size == 1 || size == 2);
@@ -127,7 +195,24 @@ public class KPointCrossover extends GenObject implements RecombinationOp {
 
     @Override
     public List <GenObject.Attribute> getAttributes() {
-        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "k", k) );
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "k", k),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "buffers", buffers) );
+    }
+
+    /**
+     * copies one segment of a parent into the child (see copySegments())
+     */
+    protected interface SegmentCopier {
+
+        /**
+         * copies the genes of a segment
+         *
+         * @param parent the index of the parent, 0 or 1
+         * @param from the first gene of the segment
+         * @param to the gene after the last one
+         */
+        public void copy (int parent, int from, int to);
+
     }
 
 }
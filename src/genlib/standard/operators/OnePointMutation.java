@@ -29,43 +29,121 @@ import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenRepresentation;
-import genlib.abstractrepresentation.MutationOp;
+import genlib.abstractrepresentation.GeneChanges;
+import genlib.abstractrepresentation.IncrementalMutationOp;
 import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.GenomeArrayRepresentation;
 import genlib.utils.Utils;
 import java.util.List;
 
 /**
- * This mutation-operator changes one entry of the sequence randomly.
+ * This mutation-operator changes one entry of the sequence randomly. If the
+ * representation has genome-arrays, the genes are copied with
+ * System.arraycopy() and just the changed gene is converted.
  *
  * @author Hilmar
  */
-public class OnePointMutation extends GenObject implements MutationOp {
+public class OnePointMutation extends GenObject implements StaticLengthMutationOp, IncrementalMutationOp {
+
+    /**
+     * the reused buffers of the genes
+     */
+    protected final GenomeBuffers buffers = new GenomeBuffers();
 
     @Override
     public GenInstance mutationOp(GenInstance input, AlgorithmStep step) {
+        return mutationOp(input, step, null);
+    }
+
+    @Override
+    public GenInstance mutationOp(GenInstance input, AlgorithmStep step, GeneChanges changes) {
         AnyTypeStaticLengthInstance instance = ((AnyTypeStaticLengthInstance)input);
         AnyTypeStaticLength representation = (AnyTypeStaticLength)instance.getRepresentation();
-        if (representation.isLongType()) {
-            long [] array = instance.getLongArray();
-            int index = step.getRandom().nextInt(array.length);
-            long newValue = array[index];
-            for (int i=0; i<16 && newValue == array[index]; i++)
-                newValue = representation.getRandomLong(step.getRandom());
-            array[index] = newValue;
-            return representation.instantiateFromLongs(array);
+        AnyTypeStaticLengthInstance ret;
+        int index;
+        if (representation instanceof GenomeArrayRepresentation) {
+            GenomeArrayRepresentation genomeArrays = (GenomeArrayRepresentation)representation;
+            Object genes = genomeArrays.createGenomeArray();
+            instance.copyGenesTo(genes, 0, representation.getLength());
+            index = step.getRandom().nextInt(representation.getLength());
+            if (representation.isLongType())
+                genomeArrays.setLongGene(genes, index, getNewLongValue(instance.getLongValue(index), representation, step));
+            else
+                genomeArrays.setDoubleGene(genes, index, representation.getRandomDouble(step.getRandom()));
+            ret = genomeArrays.wrapGenomeArray(genes);
+        } else if (representation.isLongType()) {
+            long [] genes = buffers.getResultLongs(representation, 0);
+            instance.copyLongsTo(genes);
+            index = step.getRandom().nextInt(genes.length);
+            mutateLongAt(genes, index, representation, step);
+            ret = representation.wrapLongs(genes);
         } else {
-            double [] array = instance.getDoubleArray();
-            int index = step.getRandom().nextInt(array.length);
-            array[index] = representation.getRandomDouble(step.getRandom());
-            return representation.instantiateFromDoubles(array);
+            double [] genes = buffers.getResultDoubles(representation, 0);
+            instance.copyDoublesTo(genes);
+            index = step.getRandom().nextInt(genes.length);
+            mutateDoubleAt(genes, index, representation, step);
+            ret = representation.wrapDoubles(genes);
         }
+        if (changes != null)
+            changes.add(index, instance.getDoubleValue(index), ret.getDoubleValue(index));
+        return ret;
         /*boolean [] array = ((BinaryStaticLengthInstance)input).getArray();
         int index = step.getRandom().nextInt(array.length);
         array[index] = !array[index];
         return new BinaryStaticLengthInstance((BinaryStaticLength)input.getRepresentation(), array);*/
     }
 
+    @Override
+    public void mutateLongs(long[] genes, AnyTypeStaticLength representation, AlgorithmStep step) {
+        mutateLongAt(genes, step.getRandom().nextInt(genes.length), representation, step);
+    }
+
+    @Override
+    public void mutateDoubles(double[] genes, AnyTypeStaticLength representation, AlgorithmStep step) {
+        mutateDoubleAt(genes, step.getRandom().nextInt(genes.length), representation, step);
+    }
+
+    /**
+     * changes one gene of a long-type representation to a new random value
+     *
+     * @param genes the genes
+     * @param index the index of the changed gene
+     * @param representation the representation of the genes
+     * @param step the algorithm-step, its random-object is used
+     */
+    protected void mutateLongAt (long [] genes, int index, AnyTypeStaticLength representation, AlgorithmStep step) {
+        genes[index] = getNewLongValue(genes[index], representation, step);
+    }
+
+    /**
+     * returns a new random value for a gene of a long-type representation,
+     * that differs from the old one if possible
+     *
+     * @param oldValue the old value of the gene
+     * @param representation the representation of the genes
+     * @param step the algorithm-step, its random-object is used
+     * @return the new value
+     */
+    protected long getNewLongValue (long oldValue, AnyTypeStaticLength representation, AlgorithmStep step) {
+        long newValue = oldValue;
+        for (int i=0; i<16 && newValue == oldValue; i++)
+            newValue = representation.getRandomLong(step.getRandom());
+        return newValue;
+    }
+
+    /**
+     * changes one gene of a double-type representation to a new random value
+     *
+     * @param genes the genes
+     * @param index the index of the changed gene
+     * @param representation the representation of the genes
+     * @param step the algorithm-step, its random-object is used
+     */
+    protected void mutateDoubleAt (double [] genes, int index, AnyTypeStaticLength representation, AlgorithmStep step) {
+        genes[index] = representation.getRandomDouble(step.getRandom());
+    }
+
     @Override
     public boolean isCompatible(GenRepresentation representation) {
         return representation instanceof AnyTypeStaticLength;
@@ -78,7 +156,7 @@ public class OnePointMutation extends GenObject implements MutationOp {
 
     @Override
     public List <Attribute> getAttributes() {
-        return Utils.createList( );
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "buffers", buffers) );
     }
 
 }
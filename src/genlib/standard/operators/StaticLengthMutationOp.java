@@ -0,0 +1,61 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.MutationOp;
+import genlib.standard.representations.AnyTypeStaticLength;
+
+/**
+ * A mutation-operator for the static-length representations, that changes
+ * the genes in a buffer of the caller instead of creating new arrays. The
+ * caller copies the input into the buffer (see AnyTypeStaticLengthInstance.copyLongsTo())
+ * and creates the new instance of it (see AnyTypeStaticLength.wrapLongs()),
+ * so the buffers can be reused for every mutation. The mutationOp() of the
+ * operator has to calculate the same result.
+ *
+ * @author Hilmar
+ */
+public interface StaticLengthMutationOp extends MutationOp {
+
+    /**
+     * mutates the genes of a long-type representation in place
+     *
+     * @param genes the genes of the input, they are changed to the genes of the result
+     * @param representation the representation of the genes
+     * @param step the state of the running algorithm, its random-object is used
+     */
+    public void mutateLongs (long [] genes, AnyTypeStaticLength representation, AlgorithmStep step);
+
+    /**
+     * mutates the genes of a double-type representation in place
+     *
+     * @param genes the genes of the input, they are changed to the genes of the result
+     * @param representation the representation of the genes
+     * @param step the state of the running algorithm, its random-object is used
+     */
+    public void mutateDoubles (double [] genes, AnyTypeStaticLength representation, AlgorithmStep step);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.operators;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.RecombinationOp;
+import genlib.standard.representations.AnyTypeStaticLength;
+
+/**
+ * A recombination-operator for the static-length representations with one
+ * output, that writes the child into a buffer of the caller instead of
+ * creating new arrays. The parents are given as buffers too, so the
+ * buffers can be reused for every recombination. The recombinationOp()
+ * of the operator has to calculate the same result.
+ *
+ * @author Hilmar
+ */
+public interface StaticLengthRecombinationOp extends RecombinationOp {
+
+    /**
+     * recombines the genes of a long-type representation
+     *
+     * @param parents the genes of the parents, they are not changed
+     * @param child the buffer, the genes of the child are written in
+     * @param representation the representation of the genes
+     * @param step the state of the running algorithm, its random-object is used
+     */
+    public void recombineLongs (long [][] parents, long [] child, AnyTypeStaticLength representation, AlgorithmStep step);
+
+    /**
+     * recombines the genes of a double-type representation
+     *
+     * @param parents the genes of the parents, they are not changed
+     * @param child the buffer, the genes of the child are written in
+     * @param representation the representation of the genes
+     * @param step the state of the running algorithm, its random-object is used
+     */
+    public void recombineDoubles (double [][] parents, double [] child, AnyTypeStaticLength representation, AlgorithmStep step);
+
+}
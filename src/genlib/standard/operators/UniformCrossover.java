@@ -29,38 +29,110 @@ import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenRepresentation;
-import genlib.abstractrepresentation.RecombinationOp;
 import genlib.standard.representations.AnyTypeStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.GenomeArrayRepresentation;
+import genlib.standard.representations.PackedBooleanStaticLength;
+import genlib.standard.representations.PackedBooleanStaticLength.PackedBooleanStaticLengthInstance;
 import genlib.utils.Utils;
 import java.util.List;
 
 /**
  * This operator recombinates 1-n input-representations. Every entry of the child
- * is randomly selected of one of the entries of the parents.
+ * is randomly selected of one of the entries of the parents. The runs of
+ * genes of the same parent are copied with System.arraycopy() out of the
+ * genome-arrays without converting the genes. Two parents of a
+ * PackedBooleanStaticLength are recombined word by word with a random mask.
  *
  * @author Hilmar
  */
-public class UniformCrossover extends GenObject implements RecombinationOp {
+public class UniformCrossover extends GenObject implements StaticLengthRecombinationOp {
+
+    /**
+     * the reused buffers of the genes
+     */
+    protected final GenomeBuffers buffers = new GenomeBuffers();
 
     @Override
     public GenInstance[] recombinationOp(GenInstance[] input, AlgorithmStep step, int outputSize) {
         AnyTypeStaticLength representation = (AnyTypeStaticLength)input[0].getRepresentation();
+        int length = representation.getLength();
+
+        if (representation instanceof PackedBooleanStaticLength && input.length == 2) {
+            PackedBooleanStaticLength packed = (PackedBooleanStaticLength)representation;
+            long [][] parents = {buffers.getLongs(0, packed.getWordCount()), buffers.getLongs(1, packed.getWordCount())};
+            ((PackedBooleanStaticLengthInstance)input[0]).copyWordsTo(parents[0]);
+            ((PackedBooleanStaticLengthInstance)input[1]).copyWordsTo(parents[1]);
+            long [] child = packed.createWordArray();
+            recombineWords(parents, child, step);
+            return new GenInstance[] {packed.wrap(child)};
+
+        } else if (representation instanceof GenomeArrayRepresentation) {
+            GenomeArrayRepresentation genomeArrays = (GenomeArrayRepresentation)representation;
+            Object child = genomeArrays.createGenomeArray();
+            //the same random-values as in recombineLongs(), but the genes are copied run by run
+            int parent = step.getRandom().nextInt(input.length);
+            int position = 0;
+            for (int i=1; i<length; i++) {
+                int nextParent = step.getRandom().nextInt(input.length);
+                if (nextParent != parent) {
+                    ((AnyTypeStaticLengthInstance)input[parent]).copyGenesTo(child, position, i);
+                    parent = nextParent;
+                    position = i;
+                }
+            }
+            ((AnyTypeStaticLengthInstance)input[parent]).copyGenesTo(child, position, length);
+            return new GenInstance[] {genomeArrays.wrapGenomeArray(child)};
 
-        if (representation.isLongType()) {
-            long [] outputValues = new long [representation.getLength()];
-            for (int i=0; i<outputValues.length; i++)
-                outputValues[i] = ((AnyTypeStaticLengthInstance)input[step.getRandom().nextInt(input.length)]).getLongValue(i);
-            return new GenInstance[] {representation.instantiateFromLongs(outputValues)};
+        } else if (representation.isLongType()) {
+            long [][] parents = new long[input.length][];
+            for (int i=0; i<input.length; i++) {
+                parents[i] = buffers.getLongs(i, length);
+                ((AnyTypeStaticLengthInstance)input[i]).copyLongsTo(parents[i]);
+            }
+            long [] outputValues = buffers.getResultLongs(representation, input.length);
+            recombineLongs(parents, outputValues, representation, step);
+            return new GenInstance[] {representation.wrapLongs(outputValues)};
 
         } else {
-            double [] outputValues = new double [representation.getLength()];
-            for (int i=0; i<outputValues.length; i++)
-                outputValues[i] = ((AnyTypeStaticLengthInstance)input[step.getRandom().nextInt(input.length)]).getDoubleValue(i);
-            return new GenInstance[] {representation.instantiateFromDoubles(outputValues)};
+            double [][] parents = new double[input.length][];
+            for (int i=0; i<input.length; i++) {
+                parents[i] = buffers.getDoubles(i, length);
+                ((AnyTypeStaticLengthInstance)input[i]).copyDoublesTo(parents[i]);
+            }
+            double [] outputValues = buffers.getResultDoubles(representation, input.length);
+            recombineDoubles(parents, outputValues, representation, step);
+            return new GenInstance[] {representation.wrapDoubles(outputValues)};
+        }
+    }
+
+    @Override
+    public void recombineLongs(long[][] parents, long[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        for (int i=0; i<child.length; i++)
+            child[i] = parents[step.getRandom().nextInt(parents.length)][i];
+    }
+
+    /**
+     * recombines the words of two parents of a PackedBooleanStaticLength:
+     * every bit is taken of the second parent, if it is set in a random mask
+     *
+     * @param parents the words of the two parents, they are not changed
+     * @param child the buffer, the words of the child are written in
+     * @param step the algorithm-step, its random-object is used
+     */
+    public void recombineWords(long[][] parents, long[] child, AlgorithmStep step) {
+        for (int i=0; i<child.length; i++) {
+            long mask = step.getRandom().nextLong();
+            child[i] = (parents[0][i] & ~mask) | (parents[1][i] & mask);
         }
     }
 
+    @Override
+    public void recombineDoubles(double[][] parents, double[] child, AnyTypeStaticLength representation, AlgorithmStep step) {
+        for (int i=0; i<child.length; i++)
+            child[i] = parents[step.getRandom().nextInt(parents.length)][i];
+    }
+
     @Override
     public boolean isInputSizeCompatible(int size) {
         return size >= 1;
@@ -83,7 +155,7 @@ public class UniformCrossover extends GenObject implements RecombinationOp {
 
     @Override
     public List<Attribute> getAttributes() {
-        return Utils.createList();
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "buffers", buffers) );
     }
 
 }
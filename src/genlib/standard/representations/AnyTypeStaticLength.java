@@ -27,6 +27,9 @@ package genlib.standard.representations;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenRepresentation;
 import genlib.utils.Utils;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -45,6 +48,11 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
      */
     protected final int length;
 
+    /**
+     * the pool, the arrays of new instances are taken of, null if every array is new
+     */
+    protected GenomeArrayPool arrayPool;
+
     /**
      * The constructor
      *
@@ -65,6 +73,55 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
         return length;
     }
 
+    /**
+     * sets the pool for the arrays of the instances. An algorithm, that
+     * knows, that a replaced individuum is not used anymore, gives its array
+     * back with recycle(). Instances, that are still used somewhere else (as
+     * example by a logger, that keeps the genoTypes) must not be recycled.
+     *
+     * @param _arrayPool the pool, null if every array should be new
+     */
+    public void setArrayPool (GenomeArrayPool _arrayPool) {
+        arrayPool = _arrayPool;
+    }
+
+    /**
+     * returns the pool for the arrays of the instances
+     *
+     * @return the pool, null if there is no pool
+     */
+    public GenomeArrayPool getArrayPool () {
+        return arrayPool;
+    }
+
+    /**
+     * takes an array for a new instance out of the pool
+     *
+     * @return the array, null if there is no pool or it is empty
+     */
+    protected Object acquireArray () {
+        GenomeArrayPool pool = arrayPool;
+        return (pool == null ? null : pool.acquire());
+    }
+
+    /**
+     * gives the array of an instance of this representation back to the
+     * pool. The instance must not be used anymore afterwards.
+     *
+     * @param instance the instance
+     * @return true, if the array was given back, false if there is no pool
+     */
+    public boolean recycle (AnyTypeStaticLengthInstance instance) {
+        GenomeArrayPool pool = arrayPool;
+        if (pool == null || instance.getRepresentation() != this)
+            return false;
+        Object array = instance.getBackingArray();
+        if (array == null)
+            return false;
+        pool.release(array);
+        return true;
+    }
+
     @Override
     protected boolean isEquals(GenRepresentation other) {
         return getClass().equals(other.getClass()) && ((AnyTypeStaticLength)other).length == length;
@@ -72,7 +129,8 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
 
     @Override
     public List<Attribute> getAttributes() {
-        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "length", length) );
+        return Utils.createList( new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "length", length),
+                                new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "arrayPool", arrayPool) );
     }
 
     /**
@@ -99,6 +157,63 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
      */
     public abstract AnyTypeStaticLengthInstance instantiateFromDoubles (double [] _array);
 
+    /**
+     * creates an instance of a long-array, that the caller does not use
+     * anymore. If the representation stores longs, it takes the ownership of
+     * the array without copying it (see wrapsWithoutCopy()), otherwise the
+     * values are converted like in instantiateFromLongs().
+     *
+     * @param _array the array, it must not be changed afterwards
+     * @return the instance
+     */
+    public AnyTypeStaticLengthInstance wrapLongs (long [] _array) {
+        return instantiateFromLongs(_array);
+    }
+
+    /**
+     * creates an instance of a double-array, that the caller does not use
+     * anymore. If the representation stores doubles, it takes the ownership of
+     * the array without copying it (see wrapsWithoutCopy()), otherwise the
+     * values are converted like in instantiateFromDoubles().
+     *
+     * @param _array the array, it must not be changed afterwards
+     * @return the instance
+     */
+    public AnyTypeStaticLengthInstance wrapDoubles (double [] _array) {
+        return instantiateFromDoubles(_array);
+    }
+
+    /**
+     * creates a long-array for wrapLongs(). If the representation wraps the
+     * array without copying it, it is taken out of the array-pool if possible.
+     *
+     * @return the array with the length of the representation, its content is undefined
+     */
+    public long [] createLongBuffer () {
+        return new long[length];
+    }
+
+    /**
+     * creates a double-array for wrapDoubles(). If the representation wraps the
+     * array without copying it, it is taken out of the array-pool if possible.
+     *
+     * @return the array with the length of the representation, its content is undefined
+     */
+    public double [] createDoubleBuffer () {
+        return new double[length];
+    }
+
+    /**
+     * does wrapLongs() (for long-types) or wrapDoubles() (for double-types)
+     * take the array itself? If not, the caller can reuse the array after
+     * the call.
+     *
+     * @return true, if the array is taken without a copy
+     */
+    public boolean wrapsWithoutCopy () {
+        return false;
+    }
+
     /**
      * get a random value as long, matching with the basic-type of the array
      *
@@ -133,6 +248,16 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
      */
     public abstract double applyBounds(double value);
 
+    /**
+     * converts every value of an array in a value in bounds (see applyBounds(double))
+     *
+     * @param values the values, they are changed
+     */
+    public void applyBounds(double [] values) {
+        for (int i=0; i<values.length; i++)
+            values[i] = applyBounds(values[i]);
+    }
+
     /**
      * this class represents AnyTypeStaticLength, when the basic type of
      * the array is a long
@@ -257,6 +382,143 @@ public abstract class AnyTypeStaticLength extends GenRepresentation {
          */
         public abstract double [] getDoubleArray ();
 
+        /**
+         * returns a read-only view of the array, the values are stored in,
+         * without copying it: a ByteBuffer for a byte-array, an IntBuffer for
+         * an int-array, etc.. The view must not be used anymore, after the
+         * instance was given back to the array-pool (see AnyTypeStaticLength.recycle()).
+         *
+         * @return the view, null if the values are not stored in an array with a buffer-type (as example booleans)
+         */
+        public Buffer asReadOnlyBuffer () {
+            return null;
+        }
+
+        /**
+         * returns the values as read-only DoubleBuffer. If they are stored as
+         * doubles, it is a view without a copy (see asReadOnlyBuffer()),
+         * otherwise the converted values like in getDoubleArray().
+         *
+         * @return the buffer
+         */
+        public DoubleBuffer asDoubleBuffer () {
+            return DoubleBuffer.wrap(getDoubleArray()).asReadOnlyBuffer();
+        }
+
+        /**
+         * returns the values as read-only LongBuffer. If they are stored as
+         * longs, it is a view without a copy (see asReadOnlyBuffer()),
+         * otherwise the converted values like in getLongArray().
+         *
+         * @return the buffer
+         */
+        public LongBuffer asLongBuffer () {
+            return LongBuffer.wrap(getLongArray()).asReadOnlyBuffer();
+        }
+
+        /**
+         * copies the values as longs into a buffer of the caller, without
+         * creating a new array
+         *
+         * @param buffer the buffer, at least as long as the representation
+         */
+        public void copyLongsTo (long [] buffer) {
+            int length = ((AnyTypeStaticLength)getRepresentation()).getLength();
+            for (int i=0; i<length; i++)
+                buffer[i] = getLongValue(i);
+        }
+
+        /**
+         * copies the values as doubles into a buffer of the caller, without
+         * creating a new array
+         *
+         * @param buffer the buffer, at least as long as the representation
+         */
+        public void copyDoublesTo (double [] buffer) {
+            int length = ((AnyTypeStaticLength)getRepresentation()).getLength();
+            for (int i=0; i<length; i++)
+                buffer[i] = getDoubleValue(i);
+        }
+
+        /**
+         * copies the genes [from, to) into the same positions of a genome-array
+         * of the representation (see GenomeArrayRepresentation). The genes of
+         * an own genome-array are copied without converting them, otherwise
+         * gene by gene.
+         *
+         * @param target the genome-array, the representation has to be a GenomeArrayRepresentation
+         * @param from the index of the first copied gene
+         * @param to the index after the last copied gene
+         */
+        public void copyGenesTo (Object target, int from, int to) {
+            Object array = getBackingArray();
+            if (array != null && array.getClass() == target.getClass()) {
+                System.arraycopy(array, from, target, from, to-from);
+                return;
+            }
+
+            AnyTypeStaticLength representation = (AnyTypeStaticLength)getRepresentation();
+            GenomeArrayRepresentation genomeArrays = (GenomeArrayRepresentation)representation;
+            for (int i=from; i<to; i++) {
+                if (representation.isLongType())
+                    genomeArrays.setLongGene(target, i, getLongValue(i));
+                else
+                    genomeArrays.setDoubleGene(target, i, getDoubleValue(i));
+            }
+        }
+
+        /**
+         * returns the sum of the values
+         *
+         * @return the sum
+         */
+        public double getSum () {
+            int length = ((AnyTypeStaticLength)getRepresentation()).getLength();
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += getDoubleValue(i);
+            return ret;
+        }
+
+        /**
+         * returns the average of the values, every value is divided by the
+         * length before it is added
+         *
+         * @return the average
+         */
+        public double getAverage () {
+            int length = ((AnyTypeStaticLength)getRepresentation()).getLength();
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += getDoubleValue(i)/length;
+            return ret;
+        }
+
+        /**
+         * returns the L1-distance (the sum of the absolute differences of
+         * the values) to another instance of the same length
+         *
+         * @param other the other instance
+         * @return the distance
+         */
+        public double getDistanceL1 (AnyTypeStaticLengthInstance other) {
+            int length = ((AnyTypeStaticLength)getRepresentation()).getLength();
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += Math.abs(getDoubleValue(i)-other.getDoubleValue(i));
+            return ret;
+        }
+
+        /**
+         * returns the array, the values are stored in, so it can be given
+         * back to the array-pool of the representation
+         *
+         * @return the array, null if the instance can't be recycled
+         */
+        protected Object getBackingArray () {
+            return null;
+        }
+
         /**
          * The subclass of AnyTypeStaticLengthInstance, if the basic-type is long
          */
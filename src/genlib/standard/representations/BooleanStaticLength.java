@@ -38,7 +38,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class BooleanStaticLength extends AnyLongStaticLength {
+public class BooleanStaticLength extends AnyLongStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the constructor
@@ -51,10 +51,52 @@ public class BooleanStaticLength extends AnyLongStaticLength {
 
     @Override
     public AnyTypeStaticLengthInstance instantiateFromLongs(long[] _array) {
-        boolean [] convertedArray = new boolean [_array.length];
+        boolean [] convertedArray = createArray();
         for (int i=0; i<convertedArray.length; i++)
             convertedArray[i] = _array[i] != 0;
-        return new BooleanStaticLengthInstance(this, convertedArray);
+        return new BooleanStaticLengthInstance(this, convertedArray, false);
+    }
+
+    /**
+     * creates a boolean-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected boolean [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new boolean[length] : (boolean[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the boolean-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public BooleanStaticLengthInstance wrap (boolean [] _array) {
+        return new BooleanStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((boolean[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        ((boolean[])array)[index] = value != 0;
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        setLongGene(array, index, (long)value);
     }
 
     @Override
@@ -64,10 +106,10 @@ public class BooleanStaticLength extends AnyLongStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        boolean [] randomArray = new boolean[length];
+        boolean [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = step.getRandom().nextBoolean();
-        return new BooleanStaticLengthInstance(this, randomArray);
+        return new BooleanStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -93,13 +135,28 @@ public class BooleanStaticLength extends AnyLongStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public BooleanStaticLengthInstance(BooleanStaticLength _parent, boolean ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the boolean-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected BooleanStaticLengthInstance(BooleanStaticLength _parent, boolean [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new boolean[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -118,6 +175,25 @@ public class BooleanStaticLength extends AnyLongStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            for (int i=0; i<array.length; i++)
+                buffer[i] = (array[i] ? 1 : 0);
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (boolean value : array)
+                fingerprint = Utils.fingerprint(fingerprint, (value ? 1 : 0));
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
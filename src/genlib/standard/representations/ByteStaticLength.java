@@ -32,6 +32,7 @@ import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
 import genlib.utils.Utils;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -41,7 +42,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class ByteStaticLength extends AnyLongStaticLength {
+public class ByteStaticLength extends AnyLongStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -77,10 +78,52 @@ public class ByteStaticLength extends AnyLongStaticLength {
 
     @Override
     public AnyTypeStaticLengthInstance instantiateFromLongs(long[] _array) {
-        byte [] convertedArray = new byte [_array.length];
+        byte [] convertedArray = createArray();
         for (int i=0; i<convertedArray.length; i++)
             convertedArray[i] = (byte)_array[i];
-        return new ByteStaticLengthInstance(this, convertedArray);
+        return new ByteStaticLengthInstance(this, convertedArray, false);
+    }
+
+    /**
+     * creates a byte-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected byte [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new byte[length] : (byte[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the byte-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public ByteStaticLengthInstance wrap (byte [] _array) {
+        return new ByteStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((byte[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        ((byte[])array)[index] = (byte)value;
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        setLongGene(array, index, (long)value);
     }
 
     @Override
@@ -90,10 +133,10 @@ public class ByteStaticLength extends AnyLongStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        byte [] randomArray = new byte[length];
+        byte [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = distribution.getRandomByte(step.getRandom());
-        return new ByteStaticLengthInstance(this, randomArray);
+        return new ByteStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -124,13 +167,28 @@ public class ByteStaticLength extends AnyLongStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public ByteStaticLengthInstance(ByteStaticLength _parent, byte ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the byte-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected ByteStaticLengthInstance(ByteStaticLength _parent, byte [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new byte[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -149,6 +207,30 @@ public class ByteStaticLength extends AnyLongStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            for (int i=0; i<array.length; i++)
+                buffer[i] = array[i];
+        }
+
+        @Override
+        public ByteBuffer asReadOnlyBuffer() {
+            return ByteBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (byte value : array)
+                fingerprint = Utils.fingerprint(fingerprint, value);
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
@@ -27,12 +27,15 @@ package genlib.standard.representations;
 import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.extended.distributions.BasicTypeDistributions.DoubleDistribution;
+import genlib.extended.distributions.BasicTypeDistributions.MinMaxDouble;
 import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyDoubleStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyDoubleStaticLengthInstance;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
+import genlib.utils.ArrayKernels;
 import genlib.utils.Utils;
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -43,7 +46,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class DoubleStaticLength extends AnyDoubleStaticLength {
+public class DoubleStaticLength extends AnyDoubleStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -82,6 +85,63 @@ public class DoubleStaticLength extends AnyDoubleStaticLength {
         return new DoubleStaticLengthInstance(this, _array);
     }
 
+    /**
+     * creates a double-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected double [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new double[length] : (double[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the double-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public DoubleStaticLengthInstance wrap (double [] _array) {
+        return new DoubleStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((double[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        setDoubleGene(array, index, (double)value);
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        ((double[])array)[index] = value;
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapDoubles(double[] _array) {
+        return wrap(_array);
+    }
+
+    @Override
+    public double[] createDoubleBuffer() {
+        return createArray();
+    }
+
+    @Override
+    public boolean wrapsWithoutCopy() {
+        return true;
+    }
+
     @Override
     public double getRandomDouble(Random random) {
         return distribution.getRandomDouble(random);
@@ -89,10 +149,10 @@ public class DoubleStaticLength extends AnyDoubleStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        double [] randomArray = new double[length];
+        double [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = getRandomDouble(step.getRandom());
-        return new DoubleStaticLengthInstance(this, randomArray);
+        return new DoubleStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -100,6 +160,12 @@ public class DoubleStaticLength extends AnyDoubleStaticLength {
         return distribution.getMinMaxDouble().applyBounds(value);
     }
 
+    @Override
+    public void applyBounds(double[] values) {
+        MinMaxDouble bounds = distribution.getMinMaxDouble();
+        ArrayKernels.getInstance().clamp(values, bounds.getMin(), bounds.getMax(), values.length);
+    }
+
     @Override
     public List<Attribute> getAttributes() {
         return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "distribution", distribution) );
@@ -123,13 +189,28 @@ public class DoubleStaticLength extends AnyDoubleStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public DoubleStaticLengthInstance(DoubleStaticLength _parent, double ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the double-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected DoubleStaticLengthInstance(DoubleStaticLength _parent, double [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new double[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -147,6 +228,46 @@ public class DoubleStaticLength extends AnyDoubleStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyDoublesTo(double[] buffer) {
+            System.arraycopy(array, 0, buffer, 0, array.length);
+        }
+
+        @Override
+        public double getAverage() {
+            return ArrayKernels.getSumInstance().average(array, array.length);
+        }
+
+        @Override
+        public double getDistanceL1(AnyTypeStaticLengthInstance other) {
+            if (other instanceof DoubleStaticLengthInstance)
+                return ArrayKernels.getSumInstance().distanceL1(array, ((DoubleStaticLengthInstance)other).array, array.length);
+            return super.getDistanceL1(other);
+        }
+
+        @Override
+        public DoubleBuffer asReadOnlyBuffer() {
+            return DoubleBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        public DoubleBuffer asDoubleBuffer() {
+            return asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (double value : array)
+                fingerprint = Utils.fingerprint(fingerprint, Double.doubleToLongBits(value));
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
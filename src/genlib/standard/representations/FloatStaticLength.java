@@ -28,12 +28,15 @@ import genlib.abstractrepresentation.AlgorithmStep;
 import genlib.abstractrepresentation.GenInstance;
 import genlib.extended.distributions.BasicTypeDistributions.DoubleDistribution;
 import genlib.extended.distributions.BasicTypeDistributions.FloatDistribution;
+import genlib.extended.distributions.BasicTypeDistributions.MinMaxDouble;
 import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyDoubleStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyDoubleStaticLengthInstance;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
+import genlib.utils.ArrayKernels;
 import genlib.utils.Utils;
+import java.nio.FloatBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -43,7 +46,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class FloatStaticLength extends AnyDoubleStaticLength {
+public class FloatStaticLength extends AnyDoubleStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -79,10 +82,52 @@ public class FloatStaticLength extends AnyDoubleStaticLength {
 
     @Override
     public AnyTypeStaticLengthInstance instantiateFromDoubles(double[] _array) {
-        float [] convertedArray = new float [_array.length];
+        float [] convertedArray = createArray();
         for (int i=0; i<convertedArray.length; i++)
             convertedArray[i] = (float)_array[i];
-        return new FloatStaticLengthInstance(this, convertedArray);
+        return new FloatStaticLengthInstance(this, convertedArray, false);
+    }
+
+    /**
+     * creates a float-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected float [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new float[length] : (float[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the float-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public FloatStaticLengthInstance wrap (float [] _array) {
+        return new FloatStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((float[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        setDoubleGene(array, index, (double)value);
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        ((float[])array)[index] = (float)value;
     }
 
     @Override
@@ -92,10 +137,10 @@ public class FloatStaticLength extends AnyDoubleStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        float [] randomArray = new float[length];
+        float [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = distribution.getRandomFloat(step.getRandom());
-        return new FloatStaticLengthInstance(this, randomArray);
+        return new FloatStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -103,6 +148,12 @@ public class FloatStaticLength extends AnyDoubleStaticLength {
         return distribution.getMinMaxDouble().applyBounds(value);
     }
 
+    @Override
+    public void applyBounds(double[] values) {
+        MinMaxDouble bounds = distribution.getMinMaxDouble();
+        ArrayKernels.getInstance().clamp(values, bounds.getMin(), bounds.getMax(), values.length);
+    }
+
     @Override
     public List<Attribute> getAttributes() {
         return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "distribution", distribution) );
@@ -126,13 +177,28 @@ public class FloatStaticLength extends AnyDoubleStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public FloatStaticLengthInstance(FloatStaticLength _parent, float ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the float-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected FloatStaticLengthInstance(FloatStaticLength _parent, float [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new float[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -151,6 +217,42 @@ public class FloatStaticLength extends AnyDoubleStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyDoublesTo(double[] buffer) {
+            for (int i=0; i<array.length; i++)
+                buffer[i] = array[i];
+        }
+
+        @Override
+        public double getAverage() {
+            return ArrayKernels.getSumInstance().average(array, array.length);
+        }
+
+        @Override
+        public double getDistanceL1(AnyTypeStaticLengthInstance other) {
+            if (other instanceof FloatStaticLengthInstance)
+                return ArrayKernels.getSumInstance().distanceL1(array, ((FloatStaticLengthInstance)other).array, array.length);
+            return super.getDistanceL1(other);
+        }
+
+        @Override
+        public FloatBuffer asReadOnlyBuffer() {
+            return FloatBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (float value : array)
+                fingerprint = Utils.fingerprint(fingerprint, Float.floatToIntBits(value));
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
@@ -0,0 +1,223 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.representations;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.utils.Utils;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool for the arrays of a static-length representation (see
+ * AnyTypeStaticLength.setArrayPool()). The arrays of replaced individuums
+ * are given back to the pool and the representation creates the arrays of
+ * new instances out of it, so less garbage is created per generation.
+ *
+ * The pool is striped: the arrays are given back round robin to the
+ * stripes and every thread takes them of its own stripe first, so the
+ * evaluating threads of an executor don't block each other. One pool
+ * should just be used by one representation.
+ *
+ * @author Hilmar
+ */
+public class GenomeArrayPool extends GenObject {
+
+    /**
+     * the maximum number of arrays per stripe
+     */
+    protected final int stripeCapacity;
+
+    /**
+     * the stacks of arrays, one per stripe. Every stripe is locked itself.
+     */
+    protected final Object [][] stripes;
+
+    /**
+     * the number of arrays per stripe
+     */
+    protected final int [] stripeSizes;
+
+    /**
+     * the stripe, the next array is given back to
+     */
+    protected final AtomicInteger nextStripe = new AtomicInteger();
+
+    /**
+     * the number of arrays, that were taken out of the pool
+     */
+    protected final LongAdder hits = new LongAdder();
+
+    /**
+     * the number of requests, that found no array
+     */
+    protected final LongAdder misses = new LongAdder();
+
+    /**
+     * the number of arrays, that were given back
+     */
+    protected final LongAdder releases = new LongAdder();
+
+    /**
+     * the number of arrays, that were given back to a full stripe and are dropped
+     */
+    protected final LongAdder drops = new LongAdder();
+
+    /**
+     * the constructor, with one stripe per available processor
+     *
+     * @param _capacity the maximum number of pooled arrays, as example the number of replaced individuums per generation
+     * @throws IllegalArgumentException if capacity is smaller than 1
+     */
+    public GenomeArrayPool (int _capacity) {
+        this(_capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * the constructor
+     *
+     * @param _capacity the maximum number of pooled arrays, as example the number of replaced individuums per generation
+     * @param _stripes the number of stripes
+     * @throws IllegalArgumentException if capacity or stripes is smaller than 1
+     */
+    public GenomeArrayPool (int _capacity, int _stripes) {
+        if (_capacity < 1)
+            throw new IllegalArgumentException("invalid capacity: '" + _capacity + "'.");
+        if (_stripes < 1)
+            throw new IllegalArgumentException("invalid stripes: '" + _stripes + "'.");
+
+        stripeCapacity = (_capacity + _stripes - 1) / _stripes;
+        stripes = new Object[_stripes][stripeCapacity];
+        stripeSizes = new int[_stripes];
+    }
+
+    /**
+     * takes an array out of the pool. The own stripe of the thread is
+     * searched first, then the other ones.
+     *
+     * @return the array, null if the pool is empty
+     */
+    public Object acquire () {
+        int first = (int)(Thread.currentThread().getId() % stripes.length);
+        for (int i=0; i<stripes.length; i++) {
+            int stripe = (first + i) % stripes.length;
+            synchronized (stripes[stripe]) {
+                if (stripeSizes[stripe] > 0) {
+                    stripeSizes[stripe] --;
+                    Object ret = stripes[stripe][stripeSizes[stripe]];
+                    stripes[stripe][stripeSizes[stripe]] = null;
+                    hits.increment();
+                    return ret;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * gives an array back to the pool. It must not be used anymore by the
+     * caller or by any instance.
+     *
+     * @param array the array
+     * @throws NullPointerException if array is null
+     */
+    public void release (Object array) {
+        if (array == null)
+            throw new NullPointerException("array can't be null.");
+
+        releases.increment();
+        int stripe = Math.floorMod(nextStripe.getAndIncrement(), stripes.length);
+        synchronized (stripes[stripe]) {
+            if (stripeSizes[stripe] < stripeCapacity) {
+                stripes[stripe][stripeSizes[stripe]] = array;
+                stripeSizes[stripe] ++;
+                return;
+            }
+        }
+        drops.increment();
+    }
+
+    /**
+     * returns the number of arrays, that were taken out of the pool
+     *
+     * @return the hits
+     */
+    public long getHits () {
+        return hits.sum();
+    }
+
+    /**
+     * returns the number of requests, that found no array and had to create a new one
+     *
+     * @return the misses
+     */
+    public long getMisses () {
+        return misses.sum();
+    }
+
+    /**
+     * returns the number of arrays, that were given back
+     *
+     * @return the releases
+     */
+    public long getReleases () {
+        return releases.sum();
+    }
+
+    /**
+     * returns the number of arrays, that were given back to a full stripe
+     *
+     * @return the dropped arrays
+     */
+    public long getDrops () {
+        return drops.sum();
+    }
+
+    /**
+     * returns the part of the requests, that were served out of the pool
+     *
+     * @return the hit-rate between 0 and 1, NaN if there was no request yet
+     */
+    public double getHitRate () {
+        long hitCount = hits.sum();
+        long requests = hitCount + misses.sum();
+        return (requests == 0 ? Double.NaN : (double)hitCount / requests);
+    }
+
+    @Override
+    public List<Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "stripeCapacity", stripeCapacity),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "stripes", stripes),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "stripeSizes", stripeSizes),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "nextStripe", nextStripe),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "hits", hits),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "misses", misses),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "releases", releases),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "drops", drops));
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.representations;
+
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+
+/**
+ * A static-length representation, that stores the genes of its instances in
+ * a primitive array with one entry per gene (boolean[], byte[], .., double[]),
+ * the genome-array. The operators can copy the genes between such arrays with
+ * System.arraycopy() without converting them (see
+ * AnyTypeStaticLengthInstance.copyGenesTo()).
+ *
+ * @author Hilmar
+ */
+public interface GenomeArrayRepresentation {
+
+    /**
+     * creates a genome-array, it is taken out of the array-pool if possible
+     *
+     * @return the array with the length of the representation, its content is undefined
+     */
+    public Object createGenomeArray ();
+
+    /**
+     * creates an instance, that takes the ownership of a genome-array
+     * without copying it. The array must not be changed afterwards.
+     *
+     * @param _array the genome-array, as example created with createGenomeArray()
+     * @return the instance
+     */
+    public AnyTypeStaticLengthInstance wrapGenomeArray (Object _array);
+
+    /**
+     * sets one gene of a genome-array, the value is converted like in
+     * instantiateFromLongs()
+     *
+     * @param array the genome-array
+     * @param index the index of the gene
+     * @param value the new value
+     */
+    public void setLongGene (Object array, int index, long value);
+
+    /**
+     * sets one gene of a genome-array, the value is converted like in
+     * instantiateFromDoubles()
+     *
+     * @param array the genome-array
+     * @param index the index of the gene
+     * @param value the new value
+     */
+    public void setDoubleGene (Object array, int index, double value);
+
+}
@@ -31,6 +31,7 @@ import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
 import genlib.utils.Utils;
+import java.nio.IntBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -40,7 +41,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class IntStaticLength extends AnyLongStaticLength {
+public class IntStaticLength extends AnyLongStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -76,10 +77,52 @@ public class IntStaticLength extends AnyLongStaticLength {
 
     @Override
     public AnyTypeStaticLengthInstance instantiateFromLongs(long[] _array) {
-        int [] convertedArray = new int [_array.length];
+        int [] convertedArray = createArray();
         for (int i=0; i<convertedArray.length; i++)
             convertedArray[i] = (int)_array[i];
-        return new IntStaticLengthInstance(this, convertedArray);
+        return new IntStaticLengthInstance(this, convertedArray, false);
+    }
+
+    /**
+     * creates a int-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected int [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new int[length] : (int[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the int-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public IntStaticLengthInstance wrap (int [] _array) {
+        return new IntStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((int[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        ((int[])array)[index] = (int)value;
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        setLongGene(array, index, (long)value);
     }
 
     @Override
@@ -89,10 +132,10 @@ public class IntStaticLength extends AnyLongStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        int [] randomArray = new int[length];
+        int [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = distribution.getRandomInt(step.getRandom());
-        return new IntStaticLengthInstance(this, randomArray);
+        return new IntStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -123,13 +166,28 @@ public class IntStaticLength extends AnyLongStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public IntStaticLengthInstance(IntStaticLength _parent, int ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the int-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected IntStaticLengthInstance(IntStaticLength _parent, int [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new int[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -148,6 +206,30 @@ public class IntStaticLength extends AnyLongStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            for (int i=0; i<array.length; i++)
+                buffer[i] = array[i];
+        }
+
+        @Override
+        public IntBuffer asReadOnlyBuffer() {
+            return IntBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (int value : array)
+                fingerprint = Utils.fingerprint(fingerprint, value);
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
@@ -31,6 +31,7 @@ import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
 import genlib.utils.Utils;
+import java.nio.LongBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -40,7 +41,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class LongStaticLength extends AnyLongStaticLength {
+public class LongStaticLength extends AnyLongStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -79,6 +80,63 @@ public class LongStaticLength extends AnyLongStaticLength {
         return new LongStaticLengthInstance(this, _array);
     }
 
+    /**
+     * creates a long-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected long [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new long[length] : (long[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the long-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public LongStaticLengthInstance wrap (long [] _array) {
+        return new LongStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((long[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        ((long[])array)[index] = value;
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        setLongGene(array, index, (long)value);
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapLongs(long[] _array) {
+        return wrap(_array);
+    }
+
+    @Override
+    public long[] createLongBuffer() {
+        return createArray();
+    }
+
+    @Override
+    public boolean wrapsWithoutCopy() {
+        return true;
+    }
+
     @Override
     public long getRandomLong(Random random) {
         return distribution.getRandomLong(random);
@@ -86,10 +144,10 @@ public class LongStaticLength extends AnyLongStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        long [] randomArray = new long[length];
+        long [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = getRandomLong(step.getRandom());
-        return new LongStaticLengthInstance(this, randomArray);
+        return new LongStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -121,13 +179,28 @@ public class LongStaticLength extends AnyLongStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public LongStaticLengthInstance(LongStaticLength _parent, long ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the long-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected LongStaticLengthInstance(LongStaticLength _parent, long [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new long[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -145,6 +218,34 @@ public class LongStaticLength extends AnyLongStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            System.arraycopy(array, 0, buffer, 0, array.length);
+        }
+
+        @Override
+        public LongBuffer asReadOnlyBuffer() {
+            return LongBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        public LongBuffer asLongBuffer() {
+            return asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (long value : array)
+                fingerprint = Utils.fingerprint(fingerprint, value);
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
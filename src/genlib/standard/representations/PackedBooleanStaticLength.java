@@ -0,0 +1,373 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.standard.representations;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
+import genlib.utils.Utils;
+import java.nio.LongBuffer;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * With this class, your GenRepresentation will be represented through a
+ * bit-string with static length, that stores 64 genes per long (the gene
+ * with the index i is the bit i%64 of the word i/64). The unused bits of the
+ * last word are always 0. Compared to BooleanStaticLength it needs an eighth
+ * of the memory and the operators can work on whole words (see
+ * KPointCrossover, UniformCrossover, BitFlipMutation and getDistanceL1()).
+ *
+ * @author Hilmar
+ */
+public class PackedBooleanStaticLength extends AnyLongStaticLength {
+
+    /**
+     * the number of genes per word
+     */
+    public static final int BITS_PER_WORD = 64;
+
+    /**
+     * the number of words of the instances
+     */
+    protected final int wordCount;
+
+    /**
+     * the constructor
+     *
+     * @param _length the static length (number of bits) of the instances
+     */
+    public PackedBooleanStaticLength(int _length) {
+        super(_length);
+        wordCount = getWordCount(_length);
+    }
+
+    /**
+     * returns the number of words, that are needed for a number of bits
+     *
+     * @param bits the number of bits
+     * @return the number of words
+     */
+    public static int getWordCount (int bits) {
+        return (bits + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    /**
+     * returns the number of words of the instances
+     *
+     * @return the number of words
+     */
+    public int getWordCount () {
+        return wordCount;
+    }
+
+    /**
+     * returns the mask of the used bits of the last word
+     *
+     * @return the mask
+     */
+    public long getLastWordMask () {
+        return (length % BITS_PER_WORD == 0 ? -1L : (1L << (length % BITS_PER_WORD)) - 1);
+    }
+
+    /**
+     * creates a word-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    public long [] createWordArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new long[wordCount] : (long[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the word-array without
+     * copying it. The array must not be changed afterwards. The unused bits of
+     * the last word are cleared.
+     *
+     * @param _words the words
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the word-count of the representation
+     */
+    public PackedBooleanStaticLengthInstance wrap (long [] _words) {
+        return new PackedBooleanStaticLengthInstance(this, _words, false);
+    }
+
+    /**
+     * copies the bits [from, to) of one word-array into another one, the
+     * other bits of the target are not changed. Whole words are copied with
+     * System.arraycopy, just the first and the last word are masked.
+     *
+     * @param source the words, the bits are copied of
+     * @param target the words, the bits are copied in
+     * @param from the index of the first copied bit
+     * @param to the index after the last copied bit
+     */
+    public static void copyBits (long [] source, long [] target, int from, int to) {
+        if (from >= to)
+            return;
+
+        int fromWord = from / BITS_PER_WORD;
+        int toWord = (to-1) / BITS_PER_WORD;
+        long fromMask = -1L << (from % BITS_PER_WORD);
+        long toMask = -1L >>> (BITS_PER_WORD - 1 - (to-1) % BITS_PER_WORD);
+
+        if (fromWord == toWord) {
+            long mask = fromMask & toMask;
+            target[fromWord] = (target[fromWord] & ~mask) | (source[fromWord] & mask);
+        } else {
+            target[fromWord] = (target[fromWord] & ~fromMask) | (source[fromWord] & fromMask);
+            System.arraycopy(source, fromWord+1, target, fromWord+1, toWord-fromWord-1);
+            target[toWord] = (target[toWord] & ~toMask) | (source[toWord] & toMask);
+        }
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance instantiateFromLongs(long[] _array) {
+        long [] words = createWordArray();
+        for (int w=0; w<wordCount; w++) {
+            long word = 0;
+            int end = Math.min(BITS_PER_WORD, length - w*BITS_PER_WORD);
+            for (int b=0; b<end; b++)
+                if (_array[w*BITS_PER_WORD + b] != 0)
+                    word |= 1L << b;
+            words[w] = word;
+        }
+        return new PackedBooleanStaticLengthInstance(this, words, false);
+    }
+
+    @Override
+    public long getRandomLong(Random random) {
+        return random.nextBoolean() ? 1 : 0;
+    }
+
+    @Override
+    public GenInstance instantiateRandom(AlgorithmStep step) {
+        long [] words = createWordArray();
+        for (int w=0; w<wordCount; w++)
+            words[w] = step.getRandom().nextLong();
+        return new PackedBooleanStaticLengthInstance(this, words, false);
+    }
+
+    @Override
+    public long applyBounds(long value) {
+        return (value <= 0 ? 0 : 1);
+    }
+
+    @Override
+    public List<Attribute> getAttributes() {
+        return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.TemporaryOrUnimportant), "wordCount", wordCount) );
+    }
+
+    /**
+     * this class represents an PackedBooleanStaticLength - instance
+     */
+    public static class PackedBooleanStaticLengthInstance extends AnyLongStaticLengthInstance {
+
+        /**
+         * the words, the bits are stored in
+         */
+        protected final long [] words;
+
+        /**
+         * the constructor
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _bits the bits
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        public PackedBooleanStaticLengthInstance(PackedBooleanStaticLength _parent, boolean ... _bits) {
+            super(_parent);
+
+            if (_bits == null || _bits.length != _parent.getLength())
+                throw new IllegalArgumentException("length of array not as expected, is: " + (_bits == null ? "null" : _bits.length) + ", expected: " + _parent.getLength());
+
+            words = _parent.createWordArray();
+            for (int w=0; w<words.length; w++)
+                words[w] = 0;
+            for (int i=0; i<_bits.length; i++)
+                if (_bits[i])
+                    words[i / BITS_PER_WORD] |= 1L << (i % BITS_PER_WORD);
+        }
+
+        /**
+         * the constructor, that can take the word-array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _words the words, the unused bits of the last word are cleared
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the word-count of the parent
+         */
+        protected PackedBooleanStaticLengthInstance(PackedBooleanStaticLength _parent, long [] _words, boolean _copy) {
+            super(_parent);
+
+            if (_words == null || _words.length != _parent.getWordCount())
+                throw new IllegalArgumentException("length of array not as expected, is: " + (_words == null ? "null" : _words.length) + ", expected: " + _parent.getWordCount());
+
+            if (_copy) {
+                words = _parent.createWordArray();
+                System.arraycopy(_words, 0, words, 0, words.length);
+            } else
+                words = _words;
+            words[words.length-1] &= _parent.getLastWordMask();
+        }
+
+        /**
+         * returns one bit
+         *
+         * @param index the index of the bit
+         * @return the bit
+         * @throws IllegalArgumentException if the index is out of bounds
+         */
+        public boolean getBit (int index) {
+            if (index < 0 || index >= ((PackedBooleanStaticLength)getRepresentation()).getLength())
+                throw new IllegalArgumentException("index out of bounds");
+
+            return (words[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
+        }
+
+        /**
+         * returns one word of the bit-string
+         *
+         * @param wordIndex the index of the word
+         * @return the word
+         */
+        public long getWord (int wordIndex) {
+            return words[wordIndex];
+        }
+
+        /**
+         * returns a copy of the words
+         *
+         * @return the words
+         */
+        public long [] getWords () {
+            return words.clone();
+        }
+
+        /**
+         * copies the words into a buffer of the caller
+         *
+         * @param buffer the buffer, at least as long as the word-count of the representation
+         */
+        public void copyWordsTo (long [] buffer) {
+            System.arraycopy(words, 0, buffer, 0, words.length);
+        }
+
+        /**
+         * returns the number of set bits
+         *
+         * @return the number of ones
+         */
+        public int getCardinality () {
+            int ret = 0;
+            for (long word : words)
+                ret += Long.bitCount(word);
+            return ret;
+        }
+
+        /**
+         * returns the hamming-distance to another instance of the same length
+         *
+         * @param other the other instance
+         * @return the number of different bits
+         */
+        public int getHammingDistance (PackedBooleanStaticLengthInstance other) {
+            int ret = 0;
+            for (int w=0; w<words.length; w++)
+                ret += Long.bitCount(words[w] ^ other.words[w]);
+            return ret;
+        }
+
+        @Override
+        public double getSum() {
+            return getCardinality();
+        }
+
+        @Override
+        public double getAverage() {
+            return (double)getCardinality() / ((PackedBooleanStaticLength)getRepresentation()).getLength();
+        }
+
+        @Override
+        public double getDistanceL1(AnyTypeStaticLengthInstance other) {
+            if (other instanceof PackedBooleanStaticLengthInstance)
+                return getHammingDistance((PackedBooleanStaticLengthInstance)other);
+            return super.getDistanceL1(other);
+        }
+
+        @Override
+        public long getLongValue(int index) {
+            return (getBit(index) ? 1 : 0);
+        }
+
+        @Override
+        public long[] getLongArray() {
+            long [] convertedArray = new long [((PackedBooleanStaticLength)getRepresentation()).getLength()];
+            copyLongsTo(convertedArray);
+            return convertedArray;
+        }
+
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            int length = ((PackedBooleanStaticLength)getRepresentation()).getLength();
+            for (int i=0; i<length; i++)
+                buffer[i] = (words[i / BITS_PER_WORD] >>> (i % BITS_PER_WORD)) & 1;
+        }
+
+        /**
+         * returns a read-only view of the words without copying them. The
+         * view must not be used anymore, after the instance was given back
+         * to the array-pool.
+         *
+         * @return the view of the words
+         */
+        @Override
+        public LongBuffer asReadOnlyBuffer() {
+            return LongBuffer.wrap(words).asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return words;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, ((PackedBooleanStaticLength)getRepresentation()).getLength());
+            for (long word : words)
+                fingerprint = Utils.fingerprint(fingerprint, word);
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
+        @Override
+        public List<Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "words", words) );
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ import genlib.extended.distributions.LinearDistribution;
 import genlib.standard.representations.AnyTypeStaticLength.AnyLongStaticLength;
 import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance.AnyLongStaticLengthInstance;
 import genlib.utils.Utils;
+import java.nio.ShortBuffer;
 import java.util.List;
 import java.util.Random;
 
@@ -40,7 +41,7 @@ import java.util.Random;
  *
  * @author Hilmar
  */
-public class ShortStaticLength extends AnyLongStaticLength {
+public class ShortStaticLength extends AnyLongStaticLength implements GenomeArrayRepresentation {
 
     /**
      * the random-values will be generated with this distribution
@@ -76,10 +77,52 @@ public class ShortStaticLength extends AnyLongStaticLength {
 
     @Override
     public AnyTypeStaticLengthInstance instantiateFromLongs(long[] _array) {
-        short [] convertedArray = new short [_array.length];
+        short [] convertedArray = createArray();
         for (int i=0; i<convertedArray.length; i++)
             convertedArray[i] = (short)_array[i];
-        return new ShortStaticLengthInstance(this, convertedArray);
+        return new ShortStaticLengthInstance(this, convertedArray, false);
+    }
+
+    /**
+     * creates a short-array for a new instance, it is taken out of the array-pool if possible
+     *
+     * @return the array, its content is undefined
+     */
+    protected short [] createArray () {
+        Object pooled = acquireArray();
+        return (pooled == null ? new short[length] : (short[])pooled);
+    }
+
+    /**
+     * creates an instance, that takes the ownership of the array without
+     * copying it. The array must not be changed afterwards.
+     *
+     * @param _array the short-array
+     * @return the instance
+     * @throws IllegalArgumentException if the length of the array is not matching with the length of the representation
+     */
+    public ShortStaticLengthInstance wrap (short [] _array) {
+        return new ShortStaticLengthInstance(this, _array, false);
+    }
+
+    @Override
+    public Object createGenomeArray() {
+        return createArray();
+    }
+
+    @Override
+    public AnyTypeStaticLengthInstance wrapGenomeArray(Object _array) {
+        return wrap((short[])_array);
+    }
+
+    @Override
+    public void setLongGene(Object array, int index, long value) {
+        ((short[])array)[index] = (short)value;
+    }
+
+    @Override
+    public void setDoubleGene(Object array, int index, double value) {
+        setLongGene(array, index, (long)value);
     }
 
     @Override
@@ -89,10 +132,10 @@ public class ShortStaticLength extends AnyLongStaticLength {
 
     @Override
     public GenInstance instantiateRandom(AlgorithmStep step) {
-        short [] randomArray = new short[length];
+        short [] randomArray = createArray();
         for (int i=0; i<randomArray.length; i++)
             randomArray[i] = distribution.getRandomShort(step.getRandom());
-        return new ShortStaticLengthInstance(this, randomArray);
+        return new ShortStaticLengthInstance(this, randomArray, false);
     }
 
     @Override
@@ -123,13 +166,28 @@ public class ShortStaticLength extends AnyLongStaticLength {
          * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
          */
         public ShortStaticLengthInstance(ShortStaticLength _parent, short ... _array) {
+            this(_parent, _array, true);
+        }
+
+        /**
+         * the constructor, that can take the array without copying it
+         *
+         * @param _parent the parent (GenRepresentation) of this instance
+         * @param _array the short-array
+         * @param _copy false, if the instance takes the ownership of the array. It must not be changed afterwards.
+         * @throws IllegalArgumentException if the length of the array is not matching with the length of the parent
+         */
+        protected ShortStaticLengthInstance(ShortStaticLength _parent, short [] _array, boolean _copy) {
             super(_parent);
 
             if (_array == null || _array.length != _parent.getLength())
                 throw new IllegalArgumentException("length of array not as expected, is: " + _array.length + ", expected: " + _parent.getLength());
 
-            array = new short[_array.length];
-            System.arraycopy(_array, 0, array, 0, array.length);
+            if (_copy) {
+                array = _parent.createArray();
+                System.arraycopy(_array, 0, array, 0, array.length);
+            } else
+                array = _array;
         }
 
         @Override
@@ -148,6 +206,30 @@ public class ShortStaticLength extends AnyLongStaticLength {
             return convertedArray;
         }
 
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            for (int i=0; i<array.length; i++)
+                buffer[i] = array[i];
+        }
+
+        @Override
+        public ShortBuffer asReadOnlyBuffer() {
+            return ShortBuffer.wrap(array).asReadOnlyBuffer();
+        }
+
+        @Override
+        protected Object getBackingArray() {
+            return array;
+        }
+
+        @Override
+        public long getFingerprint () {
+            long fingerprint = Utils.fingerprint(Utils.FINGERPRINT_SEED, array.length);
+            for (short value : array)
+                fingerprint = Utils.fingerprint(fingerprint, value);
+            return Utils.finalizeFingerprint(fingerprint);
+        }
+
         @Override
         public List<Attribute> getAttributes() {
             return Utils.extendList( super.getAttributes(), new Attribute(new AttributeType(AttributeType.Type.MainAttribute), "array", array) );
@@ -0,0 +1,285 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+/**
+ * The loops over the gene-arrays of the double- and float-representations
+ * (interpolation, bound-clamping, average and L1-distance). The standard
+ * implementation is scalar. If the JVM is started with the incubator-module
+ * jdk.incubator.vector (--add-modules jdk.incubator.vector) and the class
+ * genlib.utils.VectorArrayKernels (out of the source-directory src-vector)
+ * is in the classpath, getInstance() returns the implementation with the
+ * Vector-API. It can be switched off with -Dgenlib.vectorKernels=false.
+ *
+ * The interpolation and the clamping calculate exactly the same values with
+ * both implementations, the sums can differ in the last bits, because the
+ * order of the additions is different. So the sums (as example the
+ * AverageFitness) just use the vectorized implementation, if it is switched
+ * on separately with -Dgenlib.vectorSums=true (see getSumInstance()),
+ * otherwise a seed gives the same results on every JVM.
+ *
+ * @author Hilmar
+ */
+public abstract class ArrayKernels {
+
+    /**
+     * the name of the vectorized implementation
+     */
+    public static final String VECTOR_KERNELS_CLASS = "genlib.utils.VectorArrayKernels";
+
+    /**
+     * a class of the incubator-module of the Vector-API, it can just be
+     * loaded, if the module is available
+     */
+    public static final String VECTOR_API_CLASS = "jdk.incubator.vector.DoubleVector";
+
+    /**
+     * the scalar implementation
+     */
+    private static final ArrayKernels SCALAR = new ScalarArrayKernels();
+
+    /**
+     * the implementation, that is used
+     */
+    private static final ArrayKernels INSTANCE = create();
+
+    /**
+     * the implementation of the sums
+     */
+    private static final ArrayKernels SUM_INSTANCE = (Boolean.parseBoolean(System.getProperty("genlib.vectorSums", "false")) ? INSTANCE : SCALAR);
+
+    /**
+     * returns the implementation, that is used: the vectorized one, if it is available
+     *
+     * @return the implementation
+     */
+    public static ArrayKernels getInstance () {
+        return INSTANCE;
+    }
+
+    /**
+     * returns the implementation of sum(), average() and distanceL1(): the
+     * scalar one, unless -Dgenlib.vectorSums=true is set (then the same as
+     * getInstance()). The interpolation and the clamping can always use
+     * getInstance(), their values don't depend on the implementation.
+     *
+     * @return the implementation
+     */
+    public static ArrayKernels getSumInstance () {
+        return SUM_INSTANCE;
+    }
+
+    /**
+     * returns the scalar implementation
+     *
+     * @return the implementation
+     */
+    public static ArrayKernels getScalarInstance () {
+        return SCALAR;
+    }
+
+    /**
+     * creates the vectorized implementation, if the module and the class are
+     * available, otherwise the scalar one
+     *
+     * @return the implementation
+     */
+    private static ArrayKernels create () {
+        if (!Boolean.parseBoolean(System.getProperty("genlib.vectorKernels", "true")))
+            return SCALAR;
+        try {
+            //the module is looked up by one of its classes, so this runs on JVMs without modules too
+            Class.forName(VECTOR_API_CLASS);
+            return (ArrayKernels)Class.forName(VECTOR_KERNELS_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    /**
+     * is this implementation vectorized?
+     *
+     * @return true, if it uses the Vector-API
+     */
+    public abstract boolean isVectorized ();
+
+    /**
+     * interpolates two arrays: result[i] = left[i]*factors[i] + right[i]*(1-factors[i]).
+     * The result can be the same array as factors.
+     *
+     * @param left the left array
+     * @param right the right array
+     * @param factors the factors, the left array is weighted with
+     * @param result the array, the result is written in
+     * @param length the number of entries
+     */
+    public abstract void interpolate (double [] left, double [] right, double [] factors, double [] result, int length);
+
+    /**
+     * sets every value smaller than min to min and every value larger than
+     * max to max (like MinMaxDouble.applyBounds())
+     *
+     * @param values the values, they are changed
+     * @param min the minimum
+     * @param max the maximum
+     * @param length the number of entries
+     */
+    public abstract void clamp (double [] values, double min, double max, int length);
+
+    /**
+     * returns the sum of the values
+     *
+     * @param values the values
+     * @param length the number of entries
+     * @return the sum
+     */
+    public abstract double sum (double [] values, int length);
+
+    /**
+     * returns the sum of the values
+     *
+     * @param values the values
+     * @param length the number of entries
+     * @return the sum, calculated with doubles
+     */
+    public abstract double sum (float [] values, int length);
+
+    /**
+     * returns the average of the values, every value is divided by the length
+     * before it is added (like AverageFitness)
+     *
+     * @param values the values
+     * @param length the number of entries
+     * @return the average
+     */
+    public abstract double average (double [] values, int length);
+
+    /**
+     * returns the average of the values, every value is divided by the length
+     * before it is added (like AverageFitness)
+     *
+     * @param values the values
+     * @param length the number of entries
+     * @return the average, calculated with doubles
+     */
+    public abstract double average (float [] values, int length);
+
+    /**
+     * returns the L1-distance (sum of the absolute differences) of two arrays
+     *
+     * @param a the first array
+     * @param b the second array
+     * @param length the number of entries
+     * @return the distance
+     */
+    public abstract double distanceL1 (double [] a, double [] b, int length);
+
+    /**
+     * returns the L1-distance (sum of the absolute differences) of two arrays
+     *
+     * @param a the first array
+     * @param b the second array
+     * @param length the number of entries
+     * @return the distance, calculated with doubles
+     */
+    public abstract double distanceL1 (float [] a, float [] b, int length);
+
+    /**
+     * the scalar implementation
+     */
+    protected static class ScalarArrayKernels extends ArrayKernels {
+
+        @Override
+        public boolean isVectorized() {
+            return false;
+        }
+
+        @Override
+        public void interpolate(double[] left, double[] right, double[] factors, double[] result, int length) {
+            for (int i=0; i<length; i++)
+                result[i] = left[i] * factors[i] + right[i] * (1.0-factors[i]);
+        }
+
+        @Override
+        public void clamp(double[] values, double min, double max, int length) {
+            for (int i=0; i<length; i++) {
+                if (values[i] < min)
+                    values[i] = min;
+                else if (values[i] > max)
+                    values[i] = max;
+            }
+        }
+
+        @Override
+        public double sum(double[] values, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += values[i];
+            return ret;
+        }
+
+        @Override
+        public double sum(float[] values, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += values[i];
+            return ret;
+        }
+
+        @Override
+        public double average(double[] values, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += values[i]/length;
+            return ret;
+        }
+
+        @Override
+        public double average(float[] values, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += (double)values[i]/length;
+            return ret;
+        }
+
+        @Override
+        public double distanceL1(double[] a, double[] b, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += Math.abs(a[i]-b[i]);
+            return ret;
+        }
+
+        @Override
+        public double distanceL1(float[] a, float[] b, int length) {
+            double ret = 0;
+            for (int i=0; i<length; i++)
+                ret += Math.abs((double)a[i]-(double)b[i]);
+            return ret;
+        }
+
+    }
+
+}
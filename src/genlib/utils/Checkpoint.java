@@ -0,0 +1,389 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.AlgorithmStep;
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.standard.representations.BooleanStaticLength;
+import genlib.standard.representations.ByteStaticLength;
+import genlib.standard.representations.CharStaticLength;
+import genlib.standard.representations.DoubleStaticLength;
+import genlib.standard.representations.FloatStaticLength;
+import genlib.standard.representations.IntStaticLength;
+import genlib.standard.representations.LongStaticLength;
+import genlib.standard.representations.ShortStaticLength;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * A checkpoint is the state of a running algorithm after one step: the
+ * genoTypes and fitness-values of the population, the generation and the
+ * algorithm-step, which contains the algorithm-pass and the random-state.
+ * An algorithm can be resumed from a checkpoint without evaluating the
+ * population again (see GeneticAlgorithm.run(Checkpoint, ..)).
+ *
+ * In the file, the genoTypes of the standard static-length representations
+ * are stored as plain values (booleans as bits), all other genoTypes and the
+ * algorithm-step are stored with the java-serialization.
+ *
+ * @author Hilmar
+ */
+public class Checkpoint extends GenObject {
+
+    /**
+     * the first bytes of every checkpoint-file ("GLCP")
+     */
+    protected static final int MAGIC = 0x474c4350;
+
+    /**
+     * the version of the file-format
+     */
+    protected static final int VERSION = 1;
+
+    /**
+     * the element-types of the static-length representations, in the order
+     * of their codes in the file. Every other representation is serialized.
+     */
+    protected static final Class [] ELEMENT_TYPES = {BooleanStaticLength.class, ByteStaticLength.class, ShortStaticLength.class, CharStaticLength.class,
+                                                      IntStaticLength.class, LongStaticLength.class, FloatStaticLength.class, DoubleStaticLength.class};
+
+    /**
+     * the last done step
+     */
+    protected final AlgorithmStep step;
+
+    /**
+     * the generation of the step
+     */
+    protected final int generation;
+
+    /**
+     * the number of fitness-evaluations up to the step
+     */
+    protected final long fitnessEvaluations;
+
+    /**
+     * the genoTypes of the population, sorted by decreasing fitness
+     */
+    protected final GenInstance [] genoTypes;
+
+    /**
+     * the fitness-values of the population, in the same order as the genoTypes
+     */
+    protected final double [] fitnessValues;
+
+    /**
+     * the constructor
+     *
+     * @param _step the last done step
+     * @param _generation the generation of the step
+     * @param _fitnessEvaluations the number of fitness-evaluations up to the step
+     * @param _genoTypes the genoTypes of the population, sorted by decreasing fitness
+     * @param _fitnessValues the fitness-values of the population
+     * @throws NullPointerException if step, genoTypes, fitnessValues or one of the genoTypes is null
+     * @throws IllegalArgumentException if genoTypes and fitnessValues have different lengths
+     */
+    public Checkpoint (AlgorithmStep _step, int _generation, long _fitnessEvaluations, GenInstance [] _genoTypes, double [] _fitnessValues) {
+        if (_step == null)
+            throw new NullPointerException("step can't be null.");
+        if (_genoTypes == null || _fitnessValues == null)
+            throw new NullPointerException("genoTypes and fitnessValues can't be null.");
+        for (GenInstance genoType : _genoTypes)
+            if (genoType == null)
+                throw new NullPointerException("there is a null-instance in the genoTypes.");
+        if (_genoTypes.length != _fitnessValues.length)
+            throw new IllegalArgumentException("genoTypes and fitnessValues have different lengths: '" + _genoTypes.length + " / " + _fitnessValues.length + "'.");
+
+        step = _step;
+        generation = _generation;
+        fitnessEvaluations = _fitnessEvaluations;
+        genoTypes = _genoTypes.clone();
+        fitnessValues = _fitnessValues.clone();
+    }
+
+    /**
+     * creates a checkpoint of the current state of the algorithm. It has to
+     * be invoked after the step is done, as example by a logger.
+     *
+     * @param algorithm the running algorithm
+     * @param step the last done step
+     * @return the checkpoint
+     */
+    public static Checkpoint create (GeneticAlgorithm algorithm, AlgorithmStep step) {
+        Individuum [] population = algorithm.getCurrentPopulation();
+        GenInstance [] genoTypes = new GenInstance[population.length];
+        double [] fitnessValues = new double[population.length];
+        for (int i=0; i<population.length; i++) {
+            genoTypes[i] = population[i].getGenoType();
+            fitnessValues[i] = population[i].getFitness();
+        }
+        return new Checkpoint(step, algorithm.getCurrentGeneration(), algorithm.getFitnessEvaluations(), genoTypes, fitnessValues);
+    }
+
+    /**
+     * getter for the last done step
+     *
+     * @return the step
+     */
+    public AlgorithmStep getStep () {
+        return step;
+    }
+
+    /**
+     * getter for the generation of the step
+     *
+     * @return the generation
+     */
+    public int getGeneration () {
+        return generation;
+    }
+
+    /**
+     * getter for the number of fitness-evaluations up to the step
+     *
+     * @return the number of fitness-evaluations
+     */
+    public long getFitnessEvaluations () {
+        return fitnessEvaluations;
+    }
+
+    /**
+     * getter for the genoTypes of the population, sorted by decreasing fitness
+     *
+     * @return the genoTypes
+     */
+    public GenInstance [] getGenoTypes () {
+        return genoTypes.clone();
+    }
+
+    /**
+     * getter for the fitness-values of the population
+     *
+     * @return the fitness-values
+     */
+    public double [] getFitnessValues () {
+        return fitnessValues.clone();
+    }
+
+    /**
+     * writes the checkpoint to a file. It is written to a temporary file
+     * first, so an existing checkpoint is replaced just by a complete one.
+     *
+     * @param file the file
+     * @throws GeneticRuntimeException if the file couldn't be written
+     */
+    public void write (File file) {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                int elementType = (genoTypes.length == 0 ? -1 : getElementType(genoTypes[0].getRepresentation()));
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(generation);
+                out.writeLong(fitnessEvaluations);
+                out.writeInt(genoTypes.length);
+                out.writeByte(elementType);
+                out.writeInt(elementType == -1 ? 0 : ((AnyTypeStaticLength)genoTypes[0].getRepresentation()).getLength());
+
+                for (double fitnessValue : fitnessValues)
+                    out.writeDouble(fitnessValue);
+                if (elementType != -1)
+                    for (GenInstance genoType : genoTypes)
+                        writeValues(out, elementType, (AnyTypeStaticLengthInstance)genoType);
+
+                //the step and all other representations are serialized
+                ObjectOutputStream objectOut = new ObjectOutputStream(out);
+                objectOut.writeObject(step);
+                if (elementType == -1)
+                    objectOut.writeObject(genoTypes);
+                objectOut.flush();
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * reads a checkpoint from a file
+     *
+     * @param file the file
+     * @param genoType the genoType of the algorithm, the values of the static-length representations are instantiated with it
+     * @return the checkpoint
+     * @throws IllegalArgumentException if the file is no checkpoint or doesn't match the genoType
+     * @throws GeneticRuntimeException if the file couldn't be read
+     */
+    public static Checkpoint read (File file, GenRepresentation genoType) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IllegalArgumentException("the file is no checkpoint of this version: '" + file + "'.");
+
+            int generation = in.readInt();
+            long fitnessEvaluations = in.readLong();
+            GenInstance [] genoTypes = new GenInstance[in.readInt()];
+            int elementType = in.readByte();
+            int length = in.readInt();
+
+            double [] fitnessValues = new double[genoTypes.length];
+            for (int i=0; i<fitnessValues.length; i++)
+                fitnessValues[i] = in.readDouble();
+
+            if (elementType != -1) {
+                if (getElementType(genoType) != elementType || ((AnyTypeStaticLength)genoType).getLength() != length)
+                    throw new IllegalArgumentException("the checkpoint doesn't match the genoType.");
+                for (int i=0; i<genoTypes.length; i++)
+                    genoTypes[i] = readValues(in, elementType, (AnyTypeStaticLength)genoType);
+            }
+
+            ObjectInputStream objectIn = new ObjectInputStream(in);
+            AlgorithmStep step = (AlgorithmStep)objectIn.readObject();
+            if (elementType == -1)
+                genoTypes = (GenInstance[])objectIn.readObject();
+
+            return new Checkpoint(step, generation, fitnessEvaluations, genoTypes, fitnessValues);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new GeneticRuntimeException(e);
+        }
+    }
+
+    /**
+     * returns the code of the element-type of the representation
+     *
+     * @param representation the representation
+     * @return the code, -1 if the representation is serialized
+     */
+    protected static int getElementType (GenRepresentation representation) {
+        for (int i=0; i<ELEMENT_TYPES.length; i++)
+            if (representation.getClass() == ELEMENT_TYPES[i])
+                return i;
+        return -1;
+    }
+
+    /**
+     * writes the values of one instance with the size of its element-type
+     *
+     * @param out the stream
+     * @param elementType the code of the element-type
+     * @param instance the instance
+     * @throws IOException if the stream throws it
+     */
+    protected static void writeValues (DataOutputStream out, int elementType, AnyTypeStaticLengthInstance instance) throws IOException {
+        int length = ((AnyTypeStaticLength)instance.getRepresentation()).getLength();
+        for (int i=0; i<length; i++) {
+            switch (elementType) {
+                case 0:
+                    //8 booleans per byte
+                    int packed = 0;
+                    for (int bit=0; bit<8 && i+bit<length; bit++)
+                        if (instance.getLongValue(i+bit) != 0)
+                            packed |= 1 << bit;
+                    out.writeByte(packed);
+                    i += 7;
+                    break;
+                case 1: out.writeByte((int)instance.getLongValue(i)); break;
+                case 2: out.writeShort((int)instance.getLongValue(i)); break;
+                case 3: out.writeChar((int)instance.getLongValue(i)); break;
+                case 4: out.writeInt((int)instance.getLongValue(i)); break;
+                case 5: out.writeLong(instance.getLongValue(i)); break;
+                case 6: out.writeFloat((float)instance.getDoubleValue(i)); break;
+                case 7: out.writeDouble(instance.getDoubleValue(i)); break;
+                default:
+                    throw new AssertionError(elementType);
+            }
+        }
+    }
+
+    /**
+     * reads the values of one instance, that were written by writeValues()
+     *
+     * @param in the stream
+     * @param elementType the code of the element-type
+     * @param representation the representation of the instance
+     * @return the instance
+     * @throws IOException if the stream throws it
+     */
+    protected static GenInstance readValues (DataInputStream in, int elementType, AnyTypeStaticLength representation) throws IOException {
+        int length = representation.getLength();
+
+        //the floating-point types
+        if (elementType == 6 || elementType == 7) {
+            double [] values = new double[length];
+            for (int i=0; i<length; i++)
+                values[i] = (elementType == 6 ? in.readFloat() : in.readDouble());
+            return representation.instantiateFromDoubles(values);
+        }
+
+        long [] values = new long[length];
+        for (int i=0; i<length; i++) {
+            switch (elementType) {
+                case 0:
+                    int packed = in.readUnsignedByte();
+                    for (int bit=0; bit<8 && i+bit<length; bit++)
+                        values[i+bit] = (packed >>> bit) & 1;
+                    i += 7;
+                    break;
+                case 1: values[i] = in.readByte(); break;
+                case 2: values[i] = in.readShort(); break;
+                case 3: values[i] = in.readChar(); break;
+                case 4: values[i] = in.readInt(); break;
+                case 5: values[i] = in.readLong(); break;
+                default:
+                    throw new IllegalArgumentException("invalid element-type in the checkpoint: '" + elementType + "'.");
+            }
+        }
+        return representation.instantiateFromLongs(values);
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.NormalAttribute), "step", step),
+                                new Attribute(new AttributeType(Type.MainAttribute), "generation", generation),
+                                new Attribute(new AttributeType(Type.MainAttribute), "fitnessEvaluations", fitnessEvaluations),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "genoTypes", genoTypes),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "fitnessValues", fitnessValues));
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache for fitness-values. The key is the 64-bit fingerprint of
+ * the genoType (see GenInstance.getFingerprint()), so a genoType, that was
+ * already evaluated, does not need to invoke the fitness-operator again. If
+ * the cache is full, the least recently used entry will be removed. The
+ * cache is thread-safe. It should just be used with deterministic
+ * geno-to-pheno- and fitness-operators.
+ *
+ * @author Hilmar
+ */
+public class FitnessCache extends GenObject {
+
+    /**
+     * the maximum number of cached fitness-values
+     */
+    protected final int maxSize;
+
+    /**
+     * the cached fitness-values by fingerprint, in access-order
+     */
+    protected final Map <Long, Double> cache;
+
+    /**
+     * the number of successful lookups
+     */
+    protected long hits = 0;
+
+    /**
+     * the number of failed lookups
+     */
+    protected long misses = 0;
+
+    /**
+     * the constructor
+     *
+     * @param _maxSize the maximum number of cached fitness-values
+     * @throws IllegalArgumentException if maxSize is smaller than 1
+     */
+    public FitnessCache (int _maxSize) {
+        if (_maxSize < 1)
+            throw new IllegalArgumentException("invalid maxSize: '" + _maxSize + "'.");
+
+        maxSize = _maxSize;
+        cache = new LinkedHashMap<Long, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Double> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * returns the cached fitness-value of the fingerprint and counts a
+     * hit or a miss.
+     *
+     * @param fingerprint the fingerprint of the genoType
+     * @return the fitness-value or null, if it is not cached
+     */
+    public synchronized Double get (long fingerprint) {
+        Double ret = cache.get(fingerprint);
+        if (ret == null)
+            misses++;
+        else
+            hits++;
+        return ret;
+    }
+
+    /**
+     * caches a fitness-value
+     *
+     * @param fingerprint the fingerprint of the genoType
+     * @param fitness the fitness-value
+     */
+    public synchronized void put (long fingerprint, double fitness) {
+        cache.put(fingerprint, fitness);
+    }
+
+    /**
+     * removes all cached values and resets the counters
+     */
+    public synchronized void clear () {
+        cache.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * returns the maximum number of cached fitness-values
+     *
+     * @return the maximum size
+     */
+    public int getMaxSize () {
+        return maxSize;
+    }
+
+    /**
+     * returns the current number of cached fitness-values
+     *
+     * @return the size
+     */
+    public synchronized int size () {
+        return cache.size();
+    }
+
+    /**
+     * returns the number of successful lookups
+     *
+     * @return the hits
+     */
+    public synchronized long getHits () {
+        return hits;
+    }
+
+    /**
+     * returns the number of failed lookups
+     *
+     * @return the misses
+     */
+    public synchronized long getMisses () {
+        return misses;
+    }
+
+    /**
+     * returns the percentage of successful lookups (between 0.0 and 1.0)
+     *
+     * @return the hit-rate, 0.0 if there was no lookup yet
+     */
+    public synchronized double getHitRate () {
+        return (hits+misses == 0 ? 0.0 : (double)hits / (hits+misses));
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "maxSize", maxSize),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "cache", cache),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "hits", hits),
+                                new Attribute(new AttributeType(Type.NormalAttribute), "misses", misses));
+    }
+
+}
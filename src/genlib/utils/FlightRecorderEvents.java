@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GeneticAlgorithm;
+
+/**
+ * The events of the library for the JDK Flight Recorder. The events need
+ * the module jdk.jfr (Java 11 or later), so they are implemented by the
+ * class genlib.utils.JfrFlightRecorderEvents in its own source-directory
+ * src-jfr (see netbeans_build.xml). getInstance() returns it, if it is in
+ * the classpath and can be loaded, otherwise an implementation, that does
+ * nothing. It can be switched off with -Dgenlib.flightRecorder=false.
+ *
+ * All events are disabled by default, they have to be enabled in the
+ * recording (as example with 'genlib.Generation#enabled=true' in the
+ * settings or with Recording.enable("genlib.Generation")). A begin-method
+ * returns the event, that has to be given to its commit-method, or null
+ * if the event is disabled. The values are just calculated, if it is enabled.
+ *
+ * @author Hilmar
+ */
+public abstract class FlightRecorderEvents {
+
+    /**
+     * the name of the implementation with the JDK Flight Recorder
+     */
+    public static final String JFR_EVENTS_CLASS = "genlib.utils.JfrFlightRecorderEvents";
+
+    /**
+     * the implementation, that does nothing
+     */
+    private static final FlightRecorderEvents NONE = new NoFlightRecorderEvents();
+
+    /**
+     * the implementation, that is used
+     */
+    private static final FlightRecorderEvents INSTANCE = create();
+
+    /**
+     * returns the implementation, that is used: the one with the JDK Flight
+     * Recorder, if it is available
+     *
+     * @return the implementation
+     */
+    public static FlightRecorderEvents getInstance () {
+        return INSTANCE;
+    }
+
+    /**
+     * creates the implementation with the JDK Flight Recorder, if the class
+     * and the module jdk.jfr are available, otherwise the one, that does nothing
+     *
+     * @return the implementation
+     */
+    private static FlightRecorderEvents create () {
+        if (!Boolean.parseBoolean(System.getProperty("genlib.flightRecorder", "true")))
+            return NONE;
+        try {
+            return (FlightRecorderEvents)Class.forName(JFR_EVENTS_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * are the events given to the JDK Flight Recorder?
+     *
+     * @return true, if the implementation with the JDK Flight Recorder is used
+     */
+    public abstract boolean isAvailable ();
+
+    /**
+     * begins one generation of an algorithm, from the start of the step until
+     * it is ordered (the logging is not included)
+     *
+     * @return the event, null if it is disabled
+     */
+    public abstract Object beginGeneration ();
+
+    /**
+     * commits a generation with the values of the current generation of the
+     * algorithm (name, generation, population size, best and average fitness)
+     *
+     * @param event the event of beginGeneration(), can be null
+     * @param algorithm the algorithm
+     */
+    public abstract void commitGeneration (Object event, GeneticAlgorithm algorithm);
+
+    /**
+     * begins the fitness-evaluation of one individuum or of a batch of individuums
+     *
+     * @param operator the fitness-operator
+     * @param evaluations the number of evaluated individuums
+     * @param incremental is the fitness calculated incrementally?
+     * @return the event, null if it is disabled
+     */
+    public abstract Object beginFitness (Object operator, int evaluations, boolean incremental);
+
+    /**
+     * commits a fitness-evaluation
+     *
+     * @param event the event of beginFitness(), can be null
+     * @param fitness the fitness-value, NaN for a batch
+     */
+    public abstract void commitFitness (Object event, double fitness);
+
+    /**
+     * begins one invocation of the mutation-operator
+     *
+     * @param operator the mutation-operator
+     * @return the event, null if it is disabled
+     */
+    public abstract Object beginMutation (Object operator);
+
+    /**
+     * begins one invocation of the recombination-operator
+     *
+     * @param operator the recombination-operator
+     * @param parents the number of parents
+     * @param children the number of created children
+     * @return the event, null if it is disabled
+     */
+    public abstract Object beginRecombination (Object operator, int parents, int children);
+
+    /**
+     * commits a mutation or recombination
+     *
+     * @param event the event of beginMutation() or beginRecombination(), can be null
+     */
+    public abstract void commitOperator (Object event);
+
+    /**
+     * begins the computation of the diversity of a population
+     *
+     * @param operator the diversity
+     * @param populationSize the number of measured individuums
+     * @return the event, null if it is disabled
+     */
+    public abstract Object beginDiversity (Object operator, int populationSize);
+
+    /**
+     * commits the computation of a diversity
+     *
+     * @param event the event of beginDiversity(), can be null
+     * @param diversity the diversity
+     */
+    public abstract void commitDiversity (Object event, double diversity);
+
+    /**
+     * the implementation without the JDK Flight Recorder, that does nothing
+     */
+    protected static class NoFlightRecorderEvents extends FlightRecorderEvents {
+
+        @Override
+        public boolean isAvailable() {
+            return false;
+        }
+
+        @Override
+        public Object beginGeneration() {
+            return null;
+        }
+
+        @Override
+        public void commitGeneration(Object event, GeneticAlgorithm algorithm) {
+        }
+
+        @Override
+        public Object beginFitness(Object operator, int evaluations, boolean incremental) {
+            return null;
+        }
+
+        @Override
+        public void commitFitness(Object event, double fitness) {
+        }
+
+        @Override
+        public Object beginMutation(Object operator) {
+            return null;
+        }
+
+        @Override
+        public Object beginRecombination(Object operator, int parents, int children) {
+            return null;
+        }
+
+        @Override
+        public void commitOperator(Object event) {
+        }
+
+        @Override
+        public Object beginDiversity(Object operator, int populationSize) {
+            return null;
+        }
+
+        @Override
+        public void commitDiversity(Object event, double diversity) {
+        }
+
+    }
+
+}
@@ -25,12 +25,22 @@
 package genlib.utils;
 
 import genlib.Main;
+import genlib.abstractrepresentation.GenInstance;
 import genlib.abstractrepresentation.GenObject;
 import genlib.abstractrepresentation.GenObject.Attribute;
 import genlib.abstractrepresentation.GenObject.AttributeType;
 import genlib.abstractrepresentation.GenObject.AttributeType.Type;
 import genlib.abstractrepresentation.GeneticAlgorithm;
 import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.abstractrepresentation.RunResult;
+import genlib.benchmarks.BenchmarkAlgorithm;
+import genlib.benchmarks.BenchmarkHarness;
+import genlib.benchmarks.BenchmarkProblem;
+import genlib.benchmarks.BenchmarkRun;
+import genlib.benchmarks.MicroBenchmarkRunner.BenchmarkResult;
+import genlib.benchmarks.NKLandscape;
+import genlib.benchmarks.StandardMicroBenchmarks;
+import genlib.benchmarks.TravellingSalesman;
 import genlib.examples.DataAnalyzerExample;
 import genlib.examples.DataAnalyzerExample.ExampleCreateDataCallback;
 import genlib.examples.DistributionExampleExtended;
@@ -47,8 +57,10 @@ import genlib.extended.distributions.BasicTypeDistributions.MinMaxLong;
 import genlib.extended.distributions.LinearDistribution;
 import genlib.extended.diversity.AverageDiversity;
 import genlib.extended.diversity.HierarchicalDiversity;
+import genlib.output.CheckpointLogger;
 import genlib.output.Graph2DLogger;
 import genlib.output.Graph2DLogger.AxisType;
+import genlib.output.PhaseTimingLogger.GenerationTimes;
 import genlib.output.TextLogger.PopulationLogging;
 import genlib.output.gui.DataAnalyzer;
 import genlib.output.gui.DataAnalyzer.DataAnalyzerModel;
@@ -56,11 +68,19 @@ import genlib.output.gui.Graph2D;
 import genlib.output.gui.Graph2D.Plot2DContinuousX;
 import genlib.output.gui.Graph2D.Plot2DDiscreteX;
 import genlib.output.gui.Graph2D.PlotCollection;
+import genlib.standard.algorithms.ConvergenceAlgorithmPass;
+import genlib.standard.algorithms.ConvergenceAlgorithmStep;
+import genlib.standard.algorithms.IslandAlgorithmPass;
+import genlib.standard.algorithms.IslandAlgorithmPass.Topology;
 import genlib.standard.algorithms.StaticAlgorithmPass;
 import genlib.standard.algorithms.StaticAlgorithmStep;
 import genlib.standard.algorithms.StaticGeneticAlgorithm;
+import genlib.standard.algorithms.SteadyStateAlgorithmPass;
+import genlib.standard.algorithms.SteadyStateAlgorithmStep;
 import genlib.standard.operators.ArithmeticRecombination;
+import genlib.standard.operators.AsyncFitnessAdapter;
 import genlib.standard.operators.AverageFitness;
+import genlib.standard.operators.BatchFitnessAdapter;
 import genlib.standard.operators.GenoToPhenoIdentity;
 import genlib.standard.operators.HierarchicalOp.HierarchicalAverageFitness;
 import genlib.standard.operators.HierarchicalOp.HierarchicalGenoToPhenoOp;
@@ -79,6 +99,7 @@ import genlib.standard.representations.DoubleStaticLength;
 import genlib.standard.representations.DoubleStaticLength.DoubleStaticLengthInstance;
 import genlib.standard.representations.FloatStaticLength;
 import genlib.standard.representations.FloatStaticLength.FloatStaticLengthInstance;
+import genlib.standard.representations.GenomeArrayPool;
 import genlib.standard.representations.Hierarchical.And;
 import genlib.standard.representations.Hierarchical.And.AndInstance;
 import genlib.standard.representations.Hierarchical.Or;
@@ -87,6 +108,8 @@ import genlib.standard.representations.IntStaticLength;
 import genlib.standard.representations.IntStaticLength.IntStaticLengthInstance;
 import genlib.standard.representations.LongStaticLength;
 import genlib.standard.representations.LongStaticLength.LongStaticLengthInstance;
+import genlib.standard.representations.PackedBooleanStaticLength;
+import genlib.standard.representations.PackedBooleanStaticLength.PackedBooleanStaticLengthInstance;
 import genlib.standard.representations.ShortStaticLength;
 import genlib.standard.representations.ShortStaticLength.ShortStaticLengthInstance;
 import genlib.utils.Exceptions.GeneticException;
@@ -202,6 +225,7 @@ public class LibCompletenessTest {
             noStandardConstructors.put(Plot2DContinuousX.class, new Plot2DContinuousX("title"));
             noStandardConstructors.put(Plot2DDiscreteX.class, new Plot2DDiscreteX("title"));
             noStandardConstructors.put(BooleanStaticLengthInstance.class, new BooleanStaticLengthInstance(new BooleanStaticLength(1), true));
+            noStandardConstructors.put(PackedBooleanStaticLengthInstance.class, new PackedBooleanStaticLengthInstance(new PackedBooleanStaticLength(1), true));
             noStandardConstructors.put(ByteStaticLengthInstance.class, new ByteStaticLengthInstance(new ByteStaticLength(1), (byte)0));
             noStandardConstructors.put(CharStaticLengthInstance.class, new CharStaticLengthInstance(new CharStaticLength(1), 'A'));
             noStandardConstructors.put(DoubleStaticLengthInstance.class, new DoubleStaticLengthInstance(new DoubleStaticLength(1), 0));
@@ -210,6 +234,7 @@ public class LibCompletenessTest {
             noStandardConstructors.put(LongStaticLengthInstance.class, new LongStaticLengthInstance(new LongStaticLength(1), 0));
             noStandardConstructors.put(ShortStaticLengthInstance.class, new ShortStaticLengthInstance(new ShortStaticLength(1), (short)0));
             noStandardConstructors.put(BooleanStaticLength.class, new BooleanStaticLength(1));
+            noStandardConstructors.put(PackedBooleanStaticLength.class, new PackedBooleanStaticLength(1));
             noStandardConstructors.put(ByteStaticLength.class, new ByteStaticLength(1));
             noStandardConstructors.put(CharStaticLength.class, new CharStaticLength(1));
             noStandardConstructors.put(DoubleStaticLength.class, new DoubleStaticLength(1));
@@ -218,6 +243,11 @@ public class LibCompletenessTest {
             noStandardConstructors.put(LongStaticLength.class, new LongStaticLength(1));
             noStandardConstructors.put(ShortStaticLength.class, new ShortStaticLength(1));
             noStandardConstructors.put(StaticAlgorithmPass.class, new StaticAlgorithmPass(1,1,1,0));
+            noStandardConstructors.put(ConvergenceAlgorithmPass.class, new ConvergenceAlgorithmPass(1,1,1,0,0,Double.NaN,0,0));
+            noStandardConstructors.put(ConvergenceAlgorithmStep.class, new ConvergenceAlgorithmStep(new ConvergenceAlgorithmPass(1,1,1,0,0,Double.NaN,0,0)));
+            noStandardConstructors.put(IslandAlgorithmPass.class, new IslandAlgorithmPass(1,1,1,0,1,1,0,Topology.Ring));
+            noStandardConstructors.put(SteadyStateAlgorithmPass.class, new SteadyStateAlgorithmPass(1,1,1,0,1));
+            noStandardConstructors.put(SteadyStateAlgorithmStep.class, new SteadyStateAlgorithmStep(new SteadyStateAlgorithmPass(1,1,1,0,1)));
             noStandardConstructors.put(AttributeType.class, new AttributeType(Type.MainAttribute));
             noStandardConstructors.put(PopulationLogging.class, PopulationLogging.populationLogAll());
             noStandardConstructors.put(KPointCrossover.class, new KPointCrossover(1));
@@ -228,9 +258,26 @@ public class LibCompletenessTest {
             gA.setGenoToPhenoOp(new GenoToPhenoIdentity());
             gA.setFitnessOp(new AverageFitness());
             noStandardConstructors.put(Individuum.class, gA.new Individuum(new BooleanStaticLengthInstance(new BooleanStaticLength(1), true), new StaticAlgorithmStep(new StaticAlgorithmPass(1,1,1,0))));
+            noStandardConstructors.put(RunResult.class, new RunResult(gA, new StaticAlgorithmPass(1,1,1,0)));
             noStandardConstructors.put(MinMaxLong.class, new MinMaxLong(0,1));
             noStandardConstructors.put(MinMaxDouble.class, new MinMaxDouble(0,1));
             noStandardConstructors.put(ArithmeticRecombination.class, new ArithmeticRecombination(0.5));
+            noStandardConstructors.put(FitnessCache.class, new FitnessCache(1));
+            noStandardConstructors.put(PopulationStore.class, new PopulationStore(gA, new BooleanStaticLength(1)));
+            noStandardConstructors.put(OffHeapPopulation.class, new OffHeapPopulation(new ByteStaticLength(4), 2));
+            noStandardConstructors.put(GenomeArrayPool.class, new GenomeArrayPool(1));
+            noStandardConstructors.put(Checkpoint.class, new Checkpoint(new StaticAlgorithmStep(new StaticAlgorithmPass(1,1,1,0)), 0, 0, new GenInstance[0], new double[0]));
+            noStandardConstructors.put(CheckpointLogger.class, new CheckpointLogger(new File("checkpoint.bin"), 1));
+            noStandardConstructors.put(BenchmarkResult.class, new BenchmarkResult("name", "parameters", 0, 0, 0, 0, 0, 0));
+            noStandardConstructors.put(BenchmarkRun.class, new BenchmarkRun("problem", "algorithm", 0, 0, 0, -1, 0, 0));
+            noStandardConstructors.put(BenchmarkProblem.class, BenchmarkProblem.oneMax(10));
+            noStandardConstructors.put(BenchmarkAlgorithm.class, BenchmarkAlgorithm.staticGeneticAlgorithm(10, 2, 10, 0.1));
+            noStandardConstructors.put(BenchmarkHarness.class, BenchmarkHarness.createStandard(1));
+            noStandardConstructors.put(NKLandscape.class, new NKLandscape(10, 2, 1));
+            noStandardConstructors.put(TravellingSalesman.class, new TravellingSalesman(5, 1));
+            noStandardConstructors.put(GenerationTimes.class, new GenerationTimes("A0", 0, new long[0], 0));
+            noStandardConstructors.put(BatchFitnessAdapter.class, new BatchFitnessAdapter(new AverageFitness()));
+            noStandardConstructors.put(AsyncFitnessAdapter.class, new AsyncFitnessAdapter(new AverageFitness(), 1));
             noStandardConstructors.put(HierarchicalRecombinationOp.class, new HierarchicalRecombinationOp(new KPointCrossover(2)));
             noStandardConstructors.put(HierarchicalGenoToPhenoOp.class, new HierarchicalGenoToPhenoOp(new GenoToPhenoIdentity()));
             noStandardConstructors.put(HierarchicalRandomMutationOp.class, new HierarchicalRandomMutationOp(new OnePointMutation()));
@@ -266,6 +313,7 @@ public class LibCompletenessTest {
             ignoredClasses.add(HierarchicalExample.class);
             ignoredClasses.add(DataAnalyzerExample.class);
             ignoredClasses.add(ExampleCreateDataCallback.class);
+            ignoredClasses.add(StandardMicroBenchmarks.class);
 
             for (Class cl : allClasses) {
                 if (    ignoredClasses.contains(cl) ||                      //ignored class, because it is no subclass of GenObject on purpose
@@ -0,0 +1,837 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A population of a standard static-length representation, whose genes are
+ * stored outside of the heap: the genoTypes of all individuums in one slab
+ * of direct ByteBuffers with a fixed stride per individuum and the
+ * fitness-values in a double-array. So millions of individuums don't create
+ * millions of small arrays, that the garbage-collector has to trace.
+ *
+ * There are two slabs: the current generation is read out of the current
+ * slab, while the next generation is written into the other one (see
+ * breed()), as example by the threads of an executor. Then the slabs are
+ * swapped. The genoTypes, that getGenoType() returns, are flyweight views
+ * into the current slab without an own array. They stay valid while the
+ * next generation is bred, but not anymore while the generation after it
+ * is bred (then their slab is overwritten).
+ *
+ * A breeder can write a child directly into its row of the next slab (see
+ * copyGenesToNext() and getNextRow()), so the children don't have to be
+ * created as arrays on the heap.
+ *
+ * It is a standalone container, not a backend of the algorithms (for them
+ * see GeneticAlgorithm.setColumnarPopulation()): the selection, the operators
+ * and the evaluation are done by the Breeder of the caller, as example the
+ * 'OffHeapPopulation'-benchmark of StandardMicroBenchmarks.
+ *
+ * A slab consists of chunks of at most CHUNK_BYTES, so it can be larger than
+ * one ByteBuffer. The direct memory is limited by -XX:MaxDirectMemorySize.
+ * The slabs are not serialized directly, just the rows of the current
+ * generation.
+ *
+ * @author Hilmar
+ */
+public class OffHeapPopulation extends GenObject {
+
+    /**
+     * the maximum size of one chunk of a slab in bytes
+     */
+    public static final int CHUNK_BYTES = 1 << 30;
+
+    /**
+     * the size of one gene in bytes per element-type (see Checkpoint.ELEMENT_TYPES),
+     * booleans are stored as one byte
+     */
+    protected static final int [] ELEMENT_SIZES = {1, 1, 2, 2, 4, 8, 4, 8};
+
+    /**
+     * the primitive type of the genes per element-type
+     */
+    protected static final Class <?> [] ELEMENT_CLASSES = {boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class, double.class};
+
+    /**
+     * the representation of the genoTypes
+     */
+    protected final AnyTypeStaticLength representation;
+
+    /**
+     * the code of the element-type of the genes (see Checkpoint.ELEMENT_TYPES)
+     */
+    protected final int elementType;
+
+    /**
+     * the number of genes per genoType
+     */
+    protected final int length;
+
+    /**
+     * the number of bytes per individuum, a multiple of 8
+     */
+    protected final int stride;
+
+    /**
+     * the maximum number of individuums per slab
+     */
+    protected final int capacity;
+
+    /**
+     * the number of individuums per chunk
+     */
+    protected final int rowsPerChunk;
+
+    /**
+     * the chunks of the slab of the current generation
+     */
+    protected transient ByteBuffer [] currentSlab;
+
+    /**
+     * the chunks of the slab, the next generation is written in
+     */
+    protected transient ByteBuffer [] nextSlab;
+
+    /**
+     * the fitness-values of the current generation
+     */
+    protected double [] currentFitness;
+
+    /**
+     * the fitness-values of the next generation
+     */
+    protected double [] nextFitness;
+
+    /**
+     * the number of individuums of the current generation
+     */
+    protected int size = 0;
+
+    /**
+     * the constructor, both slabs are allocated completely
+     *
+     * @param _representation the representation of the genoTypes, one of the standard static-length representations (Boolean, Byte, .., Double)
+     * @param _capacity the maximum number of individuums per generation
+     * @throws NullPointerException if representation is null
+     * @throws IllegalArgumentException if the representation is not supported or the capacity is smaller than 1
+     */
+    public OffHeapPopulation (AnyTypeStaticLength _representation, int _capacity) {
+        if (_representation == null)
+            throw new NullPointerException("representation can't be null.");
+        if (_capacity < 1)
+            throw new IllegalArgumentException("invalid capacity: '" + _capacity + "'.");
+
+        elementType = Checkpoint.getElementType(_representation);
+        if (elementType == -1)
+            throw new IllegalArgumentException("the representation has to be one of the standard static-length representations.");
+        if ((long)_representation.getLength() * ELEMENT_SIZES[elementType] > CHUNK_BYTES)
+            throw new IllegalArgumentException("the genoTypes are larger than a chunk.");
+
+        representation = _representation;
+        capacity = _capacity;
+        length = representation.getLength();
+        stride = (length * ELEMENT_SIZES[elementType] + 7) / 8 * 8;
+        rowsPerChunk = CHUNK_BYTES / stride;
+        currentSlab = allocateSlab();
+        nextSlab = allocateSlab();
+        currentFitness = new double[capacity];
+        nextFitness = new double[capacity];
+    }
+
+    /**
+     * allocates the chunks of one slab
+     *
+     * @return the chunks
+     */
+    protected ByteBuffer [] allocateSlab () {
+        ByteBuffer [] ret = new ByteBuffer[(capacity + rowsPerChunk - 1) / rowsPerChunk];
+        for (int i=0; i<ret.length; i++)
+            ret[i] = ByteBuffer.allocateDirect(Math.min(rowsPerChunk, capacity - i*rowsPerChunk) * stride).order(ByteOrder.nativeOrder());
+        return ret;
+    }
+
+    /**
+     * returns the representation of the genoTypes
+     *
+     * @return the representation
+     */
+    public AnyTypeStaticLength getRepresentation () {
+        return representation;
+    }
+
+    /**
+     * returns the maximum number of individuums per generation
+     *
+     * @return the capacity
+     */
+    public int getCapacity () {
+        return capacity;
+    }
+
+    /**
+     * returns the number of bytes per individuum in a slab
+     *
+     * @return the stride
+     */
+    public int getStride () {
+        return stride;
+    }
+
+    /**
+     * returns the number of individuums of the current generation
+     *
+     * @return the size
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * adds an individuum at the end of the current generation, as example
+     * for the random start-population
+     *
+     * @param genoType the genoType, an instance of the representation
+     * @param fitness the fitness
+     * @throws GeneticRuntimeException if the population is full
+     * @throws IllegalArgumentException if the genoType is not an instance of the representation
+     */
+    public void add (GenInstance genoType, double fitness) {
+        if (size == capacity)
+            throw new GeneticRuntimeException("the population is full.");
+        writeRow(currentSlab, size, genoType);
+        currentFitness[size] = fitness;
+        size ++;
+    }
+
+    /**
+     * returns the genoType of an individuum of the current generation as
+     * flyweight view into the slab
+     *
+     * @param index the index
+     * @return the genoType
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public AnyTypeStaticLengthInstance getGenoType (int index) {
+        checkIndex(index, size);
+        return new SlabInstance(this, currentSlab[index / rowsPerChunk], (index % rowsPerChunk) * stride);
+    }
+
+    /**
+     * returns the fitness of an individuum of the current generation
+     *
+     * @param index the index
+     * @return the fitness
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public double getFitness (int index) {
+        checkIndex(index, size);
+        return currentFitness[index];
+    }
+
+    /**
+     * returns the fitness-values of the current generation
+     *
+     * @return a copy of the fitness-values
+     */
+    public double [] getFitnessValues () {
+        return Arrays.copyOf(currentFitness, size);
+    }
+
+    /**
+     * returns the indices of the current generation, the first k ordered by
+     * decreasing fitness (see Utils.selectHighest())
+     *
+     * @param k the number of indices, that have to be ordered at the front
+     * @return the indices
+     */
+    public int [] getRanking (int k) {
+        int [] ret = new int[size];
+        for (int i=0; i<size; i++)
+            ret[i] = i;
+        Utils.selectHighest(currentFitness, ret, Math.min(k, size));
+        return ret;
+    }
+
+    /**
+     * writes an individuum of the next generation. Different indices can be
+     * written by different threads at the same time.
+     *
+     * @param index the index in the next generation
+     * @param genoType the genoType, an instance of the representation (as example a flyweight of the current generation)
+     * @param fitness the fitness
+     * @throws IndexOutOfBoundsException if the index is outside the capacity
+     * @throws IllegalArgumentException if the genoType is not an instance of the representation
+     */
+    public void setNext (int index, GenInstance genoType, double fitness) {
+        checkIndex(index, capacity);
+        writeRow(nextSlab, index, genoType);
+        nextFitness[index] = fitness;
+    }
+
+    /**
+     * sets the fitness of an individuum of the next generation, whose genes
+     * were written with copyGenesToNext() or getNextRow()
+     *
+     * @param index the index in the next generation
+     * @param fitness the fitness
+     * @throws IndexOutOfBoundsException if the index is outside the capacity
+     */
+    public void setNextFitness (int index, double fitness) {
+        checkIndex(index, capacity);
+        nextFitness[index] = fitness;
+    }
+
+    /**
+     * returns the row of an individuum of the next generation, so a breeder
+     * can write the genes directly into the slab (as example a mutation).
+     * Different indices can be written by different threads at the same time.
+     *
+     * @param index the index in the next generation
+     * @return the row with the native byte-order, from the first to the last gene (booleans are one byte, 0 or 1)
+     * @throws IndexOutOfBoundsException if the index is outside the capacity
+     */
+    public ByteBuffer getNextRow (int index) {
+        checkIndex(index, capacity);
+        ByteBuffer row = nextSlab[index / rowsPerChunk].duplicate();
+        row.position((index % rowsPerChunk) * stride).limit((index % rowsPerChunk) * stride + length * ELEMENT_SIZES[elementType]);
+        return row.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * returns the genoType of an individuum of the next generation as
+     * flyweight view into the slab, as example to evaluate a child, that was
+     * written with copyGenesToNext() or getNextRow()
+     *
+     * @param index the index in the next generation
+     * @return the genoType
+     * @throws IndexOutOfBoundsException if the index is outside the capacity
+     */
+    public AnyTypeStaticLengthInstance getNextGenoType (int index) {
+        checkIndex(index, capacity);
+        return new SlabInstance(this, nextSlab[index / rowsPerChunk], (index % rowsPerChunk) * stride);
+    }
+
+    /**
+     * copies some genes of an individuum of the current generation into a row
+     * of the next generation, as example the segments of a crossover
+     *
+     * @param source the index in the current generation
+     * @param target the index in the next generation
+     * @param from the first gene
+     * @param to the gene after the last one
+     * @throws IndexOutOfBoundsException if an index is outside the population or the capacity, or the genes are out of bounds
+     */
+    public void copyGenesToNext (int source, int target, int from, int to) {
+        checkIndex(source, size);
+        checkIndex(target, capacity);
+        if (from < 0 || to > length || from > to)
+            throw new IndexOutOfBoundsException("genes: " + from + " - " + to + ", length: " + length);
+        int geneSize = ELEMENT_SIZES[elementType];
+        ByteBuffer sourceRow = currentSlab[source / rowsPerChunk].duplicate();
+        sourceRow.position((source % rowsPerChunk) * stride + from * geneSize).limit((source % rowsPerChunk) * stride + to * geneSize);
+        ByteBuffer targetRow = nextSlab[target / rowsPerChunk].duplicate();
+        targetRow.position((target % rowsPerChunk) * stride + from * geneSize);
+        targetRow.put(sourceRow);
+    }
+
+    /**
+     * copies an individuum of the current generation unchanged into the
+     * next generation (as example the retained individuums)
+     *
+     * @param source the index in the current generation
+     * @param target the index in the next generation
+     * @throws IndexOutOfBoundsException if an index is outside the population or the capacity
+     */
+    public void copyToNext (int source, int target) {
+        checkIndex(source, size);
+        checkIndex(target, capacity);
+        ByteBuffer from = currentSlab[source / rowsPerChunk].duplicate();
+        from.position((source % rowsPerChunk) * stride).limit((source % rowsPerChunk) * stride + stride);
+        ByteBuffer to = nextSlab[target / rowsPerChunk].duplicate();
+        to.position((target % rowsPerChunk) * stride);
+        to.put(from);
+        nextFitness[target] = currentFitness[source];
+    }
+
+    /**
+     * makes the next generation the current one. The slab of the current
+     * generation is overwritten by the following generation.
+     *
+     * @param nextSize the number of individuums of the next generation
+     * @throws IllegalArgumentException if nextSize is negative or larger than the capacity
+     */
+    public void swap (int nextSize) {
+        if (nextSize < 0 || nextSize > capacity)
+            throw new IllegalArgumentException("invalid size: '" + nextSize + "'.");
+
+        ByteBuffer [] tempSlab = currentSlab;
+        currentSlab = nextSlab;
+        nextSlab = tempSlab;
+        double [] tempFitness = currentFitness;
+        currentFitness = nextFitness;
+        nextFitness = tempFitness;
+        size = nextSize;
+    }
+
+    /**
+     * breeds the next generation and swaps the slabs: the breeder is
+     * called once for every index of the next generation. With an executor,
+     * the indices are split in blocks, that are bred in parallel, while the
+     * current generation is just read.
+     *
+     * @param nextSize the number of individuums of the next generation
+     * @param breeder the breeder, it writes every child with setNext() or copyToNext()
+     * @param executor the executor, null if the children should be bred in the calling thread
+     * @throws NullPointerException if breeder is null
+     * @throws IllegalArgumentException if nextSize is negative or larger than the capacity
+     * @throws GeneticRuntimeException if the thread is interrupted
+     */
+    public void breed (int nextSize, Breeder breeder, ExecutorService executor) {
+        if (breeder == null)
+            throw new NullPointerException("breeder can't be null.");
+        if (nextSize < 0 || nextSize > capacity)
+            throw new IllegalArgumentException("invalid size: '" + nextSize + "'.");
+
+        if (executor == null)
+            for (int i=0; i<nextSize; i++)
+                breeder.breed(i, this);
+        else {
+            int blockSize = Math.max(1, nextSize / (Runtime.getRuntime().availableProcessors() * 4));
+            List <Future<Object>> futures = new ArrayList<>();
+            for (int start=0; start<nextSize; start+=blockSize) {
+                int blockStart = start, blockEnd = Math.min(nextSize, start + blockSize);
+                futures.add(executor.submit((Callable<Object>)() -> {
+                    for (int i=blockStart; i<blockEnd; i++)
+                        breeder.breed(i, this);
+                    return null;
+                }));
+            }
+
+            try {
+                for (Future<Object> future : futures)
+                    future.get();
+            } catch (InterruptedException e) {
+                for (Future<Object> future : futures)
+                    future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new GeneticRuntimeException(e);
+            } catch (ExecutionException e) {
+                for (Future<Object> future : futures)
+                    future.cancel(true);
+                throw Utils.rethrowCause(e);
+            }
+        }
+        swap(nextSize);
+    }
+
+    /**
+     * writes the genes of a genoType into a row of a slab. If the genoType
+     * has a read-only view of the same type (see AnyTypeStaticLengthInstance.asReadOnlyBuffer()),
+     * it is copied as a block.
+     *
+     * @param slab the slab
+     * @param index the index of the row
+     * @param genoType the genoType
+     * @throws IllegalArgumentException if the genoType is not an instance of the representation
+     */
+    protected void writeRow (ByteBuffer [] slab, int index, GenInstance genoType) {
+        if (!(genoType instanceof AnyTypeStaticLengthInstance) || genoType.getRepresentation().getClass() != representation.getClass()
+                || ((AnyTypeStaticLength)genoType.getRepresentation()).getLength() != length)
+            throw new IllegalArgumentException("the genoType is not an instance of the representation of the population.");
+
+        AnyTypeStaticLengthInstance instance = (AnyTypeStaticLengthInstance)genoType;
+        ByteBuffer chunk = slab[index / rowsPerChunk];
+        int offset = (index % rowsPerChunk) * stride;
+        ByteBuffer target = chunk.duplicate().order(ByteOrder.nativeOrder());
+        target.position(offset);
+        if (writeView(target, instance.asReadOnlyBuffer()))
+            return;
+
+        int size = ELEMENT_SIZES[elementType];
+        for (int i=0; i<length; i++) {
+            switch (elementType) {
+                case 0: chunk.put(offset+i, (byte)(instance.getLongValue(i) != 0 ? 1 : 0)); break;
+                case 1: chunk.put(offset+i, (byte)instance.getLongValue(i)); break;
+                case 2: chunk.putShort(offset+i*size, (short)instance.getLongValue(i)); break;
+                case 3: chunk.putChar(offset+i*size, (char)instance.getLongValue(i)); break;
+                case 4: chunk.putInt(offset+i*size, (int)instance.getLongValue(i)); break;
+                case 5: chunk.putLong(offset+i*size, instance.getLongValue(i)); break;
+                case 6: chunk.putFloat(offset+i*size, (float)instance.getDoubleValue(i)); break;
+                case 7: chunk.putDouble(offset+i*size, instance.getDoubleValue(i)); break;
+                default:
+                    throw new AssertionError(elementType);
+            }
+        }
+    }
+
+    /**
+     * copies a read-only view of a genoType as block into a slab, if it has
+     * the element-type of the population
+     *
+     * @param target the chunk of the slab, positioned at the row (with native byte-order)
+     * @param view the view (a new view, so its position is 0), can be null
+     * @return true, if the genes were copied
+     */
+    protected boolean writeView (ByteBuffer target, Buffer view) {
+        if (view == null || view.limit() != length)
+            return false;
+        if (elementType == 1 && view instanceof ByteBuffer)
+            target.put((ByteBuffer)view);
+        else if (elementType == 2 && view instanceof ShortBuffer)
+            target.asShortBuffer().put((ShortBuffer)view);
+        else if (elementType == 3 && view instanceof CharBuffer)
+            target.asCharBuffer().put((CharBuffer)view);
+        else if (elementType == 4 && view instanceof IntBuffer)
+            target.asIntBuffer().put((IntBuffer)view);
+        else if (elementType == 5 && view instanceof LongBuffer)
+            target.asLongBuffer().put((LongBuffer)view);
+        else if (elementType == 6 && view instanceof FloatBuffer)
+            target.asFloatBuffer().put((FloatBuffer)view);
+        else if (elementType == 7 && view instanceof DoubleBuffer)
+            target.asDoubleBuffer().put((DoubleBuffer)view);
+        else
+            return false;
+        return true;
+    }
+
+    /**
+     * checks an index
+     *
+     * @param index the index
+     * @param bound the bound, the index has to be smaller than
+     * @throws IndexOutOfBoundsException if the index is outside the bound
+     */
+    protected static void checkIndex (int index, int bound) {
+        if (index < 0 || index >= bound)
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + bound);
+    }
+
+    /**
+     * writes the rows of the current generation instead of the direct
+     * buffers
+     *
+     * @param out the stream
+     * @throws IOException if the stream throws it
+     */
+    private void writeObject (ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        byte [] row = new byte[stride];
+        for (int i=0; i<size; i++) {
+            ByteBuffer chunk = currentSlab[i / rowsPerChunk].duplicate();
+            chunk.position((i % rowsPerChunk) * stride);
+            chunk.get(row);
+            out.write(row);
+        }
+    }
+
+    /**
+     * allocates the slabs again and reads the rows of the current generation,
+     * that were written by writeObject()
+     *
+     * @param in the stream
+     * @throws IOException if the stream throws it
+     * @throws ClassNotFoundException if the stream throws it
+     */
+    private void readObject (ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        currentSlab = allocateSlab();
+        nextSlab = allocateSlab();
+        byte [] row = new byte[stride];
+        for (int i=0; i<size; i++) {
+            in.readFully(row);
+            ByteBuffer chunk = currentSlab[i / rowsPerChunk].duplicate();
+            chunk.position((i % rowsPerChunk) * stride);
+            chunk.put(row);
+        }
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.MainAttribute), "representation", representation),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "elementType", elementType),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "length", length),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "stride", stride),
+                                new Attribute(new AttributeType(Type.MainAttribute), "capacity", capacity),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "rowsPerChunk", rowsPerChunk),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "currentSlab", currentSlab),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "nextSlab", nextSlab),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "currentFitness", currentFitness),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "nextFitness", nextFitness),
+                                new Attribute(new AttributeType(Type.MainAttribute), "size", size));
+    }
+
+    /**
+     * breeds the children of the next generation (see breed())
+     */
+    public interface Breeder {
+
+        /**
+         * breeds one child and writes it with population.setNext() or
+         * population.copyToNext(). It is called concurrently for different
+         * indices, if breed() has an executor.
+         *
+         * @param index the index of the child in the next generation
+         * @param population the population, its current generation are the parents
+         */
+        public void breed (int index, OffHeapPopulation population);
+
+    }
+
+    /**
+     * a genoType, that is a flyweight view into a row of a slab. It can't be
+     * changed and has no own array.
+     */
+    protected static class SlabInstance extends AnyTypeStaticLengthInstance {
+
+        /**
+         * the population, the view belongs to
+         */
+        protected final OffHeapPopulation population;
+
+        /**
+         * the chunk with the row
+         */
+        protected final ByteBuffer chunk;
+
+        /**
+         * the offset of the row in the chunk
+         */
+        protected final int offset;
+
+        /**
+         * the constructor
+         *
+         * @param _population the population, the view belongs to
+         * @param _chunk the chunk with the row
+         * @param _offset the offset of the row in the chunk
+         */
+        protected SlabInstance (OffHeapPopulation _population, ByteBuffer _chunk, int _offset) {
+            super(_population.representation);
+            population = _population;
+            chunk = _chunk;
+            offset = _offset;
+        }
+
+        /**
+         * returns the position of a gene in the chunk
+         *
+         * @param index the index of the gene
+         * @return the position in bytes
+         * @throws IllegalArgumentException if the index is out of bounds
+         */
+        protected int position (int index) {
+            if (index < 0 || index >= population.length)
+                throw new IllegalArgumentException("index out of bounds");
+            return offset + index * ELEMENT_SIZES[population.elementType];
+        }
+
+        @Override
+        public long getLongValue(int index) {
+            int position = position(index);
+            switch (population.elementType) {
+                case 0: return (chunk.get(position) != 0 ? 1 : 0);
+                case 1: return chunk.get(position);
+                case 2: return chunk.getShort(position);
+                case 3: return chunk.getChar(position);
+                case 4: return chunk.getInt(position);
+                case 5: return chunk.getLong(position);
+                case 6: return (long)chunk.getFloat(position);
+                case 7: return (long)chunk.getDouble(position);
+                default:
+                    throw new AssertionError(population.elementType);
+            }
+        }
+
+        @Override
+        public double getDoubleValue(int index) {
+            switch (population.elementType) {
+                case 6: return chunk.getFloat(position(index));
+                case 7: return chunk.getDouble(position(index));
+                default:
+                    return getLongValue(index);
+            }
+        }
+
+        @Override
+        public long[] getLongArray() {
+            long [] ret = new long[population.length];
+            copyLongsTo(ret);
+            return ret;
+        }
+
+        @Override
+        public double[] getDoubleArray() {
+            double [] ret = new double[population.length];
+            copyDoublesTo(ret);
+            return ret;
+        }
+
+        /**
+         * returns the row as ByteBuffer with the native byte-order
+         *
+         * @return the buffer, from the first to the last gene
+         */
+        protected ByteBuffer getRow () {
+            ByteBuffer row = chunk.duplicate();
+            row.position(offset).limit(offset + population.length * ELEMENT_SIZES[population.elementType]);
+            return row.slice().order(ByteOrder.nativeOrder());
+        }
+
+        @Override
+        public Buffer asReadOnlyBuffer() {
+            ByteBuffer row = getRow();
+            switch (population.elementType) {
+                case 0: return null;
+                case 1: return row.asReadOnlyBuffer();
+                case 2: return row.asShortBuffer().asReadOnlyBuffer();
+                case 3: return row.asCharBuffer().asReadOnlyBuffer();
+                case 4: return row.asIntBuffer().asReadOnlyBuffer();
+                case 5: return row.asLongBuffer().asReadOnlyBuffer();
+                case 6: return row.asFloatBuffer().asReadOnlyBuffer();
+                case 7: return row.asDoubleBuffer().asReadOnlyBuffer();
+                default:
+                    throw new AssertionError(population.elementType);
+            }
+        }
+
+        @Override
+        public LongBuffer asLongBuffer() {
+            return (population.elementType == 5 ? (LongBuffer)asReadOnlyBuffer() : super.asLongBuffer());
+        }
+
+        @Override
+        public DoubleBuffer asDoubleBuffer() {
+            return (population.elementType == 7 ? (DoubleBuffer)asReadOnlyBuffer() : super.asDoubleBuffer());
+        }
+
+        @Override
+        public void copyGenesTo(Object target, int from, int to) {
+            ByteBuffer row = getRow();
+            row.position(from * ELEMENT_SIZES[population.elementType]);
+            switch (population.elementType) {
+                case 0:
+                    boolean [] booleans = (boolean[])target;
+                    for (int i=from; i<to; i++)
+                        booleans[i] = row.get() != 0;
+                    break;
+                case 1: row.get((byte[])target, from, to-from); break;
+                case 2: row.asShortBuffer().get((short[])target, from, to-from); break;
+                case 3: row.asCharBuffer().get((char[])target, from, to-from); break;
+                case 4: row.asIntBuffer().get((int[])target, from, to-from); break;
+                case 5: row.asLongBuffer().get((long[])target, from, to-from); break;
+                case 6: row.asFloatBuffer().get((float[])target, from, to-from); break;
+                case 7: row.asDoubleBuffer().get((double[])target, from, to-from); break;
+                default:
+                    throw new AssertionError(population.elementType);
+            }
+        }
+
+        /**
+         * returns a normal instance of the representation with the genes of
+         * the row
+         *
+         * @return the instance
+         */
+        protected AnyTypeStaticLengthInstance toInstance () {
+            return (population.elementType == 6 || population.elementType == 7 ? population.representation.instantiateFromDoubles(getDoubleArray())
+                                                                                : population.representation.instantiateFromLongs(getLongArray()));
+        }
+
+        /**
+         * a view is serialized as normal instance of the representation
+         * with the genes of the row
+         *
+         * @return the instance
+         */
+        protected Object writeReplace () {
+            return toInstance();
+        }
+
+        @Override
+        public long getFingerprint() {
+            return toInstance().getFingerprint();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof SlabInstance)
+                other = ((SlabInstance)other).toInstance();
+            return toInstance().equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return toInstance().hashCode();
+        }
+
+        /**
+         * returns a copy of the genes as array of the element-type
+         *
+         * @return the genes
+         */
+        protected Object getGenes () {
+            Object ret = Array.newInstance(ELEMENT_CLASSES[population.elementType], population.length);
+            copyGenesTo(ret, 0, population.length);
+            return ret;
+        }
+
+        @Override
+        public List<Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "population", population),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "chunk", chunk),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "offset", offset),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "genes", getGenes()));
+        }
+
+    }
+
+}
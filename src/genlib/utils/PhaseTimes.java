@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The nanoseconds, an algorithm has spent in the phases of its generations.
+ * It is just created, if a logger of the run wants the phase-times (see
+ * Logger.isTimingPhases()), otherwise the algorithm does not measure anything.
+ * The phases Generation, Breeding, Evaluation, Sorting and Logging are measured
+ * in the thread, that runs the algorithm. The operator-phases GenoToPheno and
+ * Fitness are summed up over all threads, so with an executor they can be
+ * longer than the evaluation. The counters are thread-safe.
+ *
+ * @author Hilmar
+ */
+public class PhaseTimes extends GenObject {
+
+    /**
+     * the measured phases: the complete generation, the creation of the
+     * children, their evaluation (geno-to-pheno- and fitness-operator), the
+     * geno-to-pheno-operator, the fitness-operator, the ordering of the
+     * population and the generation-logging
+     */
+    public enum Phase {Generation, Breeding, Evaluation, GenoToPheno, Fitness, Sorting, Logging};
+
+    /**
+     * the nanoseconds per phase, indexed by the ordinal of the phase
+     */
+    protected final LongAdder [] nanos;
+
+    /**
+     * the constructor, all phases start with 0 nanoseconds
+     */
+    public PhaseTimes () {
+        nanos = new LongAdder[Phase.values().length];
+        for (int i=0; i<nanos.length; i++)
+            nanos[i] = new LongAdder();
+    }
+
+    /**
+     * adds the nanoseconds to a phase
+     *
+     * @param phase the phase
+     * @param _nanos the measured nanoseconds
+     */
+    public void add (Phase phase, long _nanos) {
+        nanos[phase.ordinal()].add(_nanos);
+    }
+
+    /**
+     * returns the summed nanoseconds of a phase
+     *
+     * @param phase the phase
+     * @return the nanoseconds
+     */
+    public long getNanos (Phase phase) {
+        return nanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * returns the summed nanoseconds of all phases, indexed by the
+     * ordinal of the phase
+     *
+     * @return the nanoseconds per phase
+     */
+    public long [] getAllNanos () {
+        long [] ret = new long[nanos.length];
+        for (int i=0; i<ret.length; i++)
+            ret[i] = nanos[i].sum();
+        return ret;
+    }
+
+    /**
+     * sets all phases back to 0 nanoseconds
+     */
+    public void reset () {
+        for (LongAdder adder : nanos)
+            adder.reset();
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.NormalAttribute), "nanos", nanos));
+    }
+
+}
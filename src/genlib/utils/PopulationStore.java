@@ -0,0 +1,886 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Hilmar.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package genlib.utils;
+
+import genlib.abstractrepresentation.GenInstance;
+import genlib.abstractrepresentation.GenObject;
+import genlib.abstractrepresentation.GenObject.AttributeType.Recommended;
+import genlib.abstractrepresentation.GenObject.AttributeType.Type;
+import genlib.abstractrepresentation.GenRepresentation;
+import genlib.abstractrepresentation.GeneticAlgorithm;
+import genlib.abstractrepresentation.GeneticAlgorithm.Individuum;
+import genlib.standard.representations.AnyTypeStaticLength;
+import genlib.standard.representations.AnyTypeStaticLength.AnyTypeStaticLengthInstance;
+import genlib.utils.Exceptions.GeneticRuntimeException;
+import java.lang.reflect.Array;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A population, that is stored column by column instead of one object per
+ * individuum: the fitness-values in a double-array, the genoTypes of the
+ * standard static-length representations in one contiguous array of their
+ * element-type (booleans in a boolean-array, ints in an int-array, ..) and
+ * the index of the first parent and the birth-generation in int-arrays.
+ * Other genoTypes and phenoTypes, that differ from their genoType, are
+ * stored as references.
+ *
+ * Sorting works on the fitness-column and moves the rows in place. The
+ * individuums of asList() are just views, that are created on demand and
+ * cached per row. The genoTypes of the gene-column are flyweights, that
+ * read their genes directly out of the column without an own array (for the
+ * standard static-length representations). A view is valid, until its row
+ * is changed (by set(), add() or sort()), copyIndividuum() creates an
+ * individuum, that stays valid. A store is not thread-safe, it can be read
+ * concurrently, while it is not changed.
+ *
+ * @author Hilmar
+ */
+public class PopulationStore extends GenObject {
+
+    /**
+     * the algorithm, the individuum-views are created with
+     */
+    protected final GeneticAlgorithm algorithm;
+
+    /**
+     * the representation of the genoTypes
+     */
+    protected final GenRepresentation genoType;
+
+    /**
+     * the code of the element-type of the gene-column (see Checkpoint.ELEMENT_TYPES),
+     * -1 if the genoTypes are stored as references
+     */
+    protected final int elementType;
+
+    /**
+     * the number of genes per genoType in the gene-column
+     */
+    protected final int length;
+
+    /**
+     * are the genoTypes of the gene-column handed out as flyweights? Just the
+     * standard static-length representations (Boolean, Byte, .., Double) use
+     * the element-type of the column for their own arrays.
+     */
+    protected final boolean flyweights;
+
+    /**
+     * the number of individuums
+     */
+    protected int size = 0;
+
+    /**
+     * the fitness-values
+     */
+    protected double [] fitnessValues;
+
+    /**
+     * the genes of all genoTypes, 'length' values per individuum. It is
+     * an array of the element-type, null if the genoTypes are stored as references.
+     */
+    protected Object genes;
+
+    /**
+     * the genoTypes, if they can't be stored in the gene-column
+     */
+    protected GenInstance [] genoTypes;
+
+    /**
+     * the phenoTypes, null for every phenoType, that is the genoType itself.
+     * The array is created with the first different phenoType.
+     */
+    protected GenInstance [] phenoTypes;
+
+    /**
+     * the index of the first parent in the population of the generation
+     * before, -1 if unknown (as example for random individuums)
+     */
+    protected int [] parents;
+
+    /**
+     * the generation, the individuum was created in
+     */
+    protected int [] births;
+
+    /**
+     * the cached individuums per row, null if the row was not read since
+     * its last change
+     */
+    protected Individuum [] views;
+
+    /**
+     * the individuum-view of the population
+     */
+    protected final List <Individuum> listView = new IndividuumList();
+
+    /**
+     * the constructor
+     *
+     * @param _algorithm the algorithm, the individuum-views are created with
+     * @param _genoType the representation of the genoTypes
+     * @throws NullPointerException if algorithm or genoType is null
+     */
+    public PopulationStore (GeneticAlgorithm _algorithm, GenRepresentation _genoType) {
+        if (_algorithm == null)
+            throw new NullPointerException("algorithm can't be null.");
+        if (_genoType == null)
+            throw new NullPointerException("genoType can't be null.");
+
+        algorithm = _algorithm;
+        genoType = _genoType;
+        int type = Checkpoint.getElementType(genoType);
+        flyweights = (type != -1);
+        //other static-length representations are stored as longs or doubles
+        if (type == -1 && genoType instanceof AnyTypeStaticLength)
+            type = (((AnyTypeStaticLength)genoType).isLongType() ? 5 : 7);
+        elementType = type;
+        length = (elementType == -1 ? 0 : ((AnyTypeStaticLength)genoType).getLength());
+        allocate(16);
+    }
+
+    /**
+     * creates or grows all columns
+     *
+     * @param capacity the new capacity
+     */
+    protected void allocate (int capacity) {
+        fitnessValues = (fitnessValues == null ? new double[capacity] : Arrays.copyOf(fitnessValues, capacity));
+        parents = (parents == null ? new int[capacity] : Arrays.copyOf(parents, capacity));
+        births = (births == null ? new int[capacity] : Arrays.copyOf(births, capacity));
+        views = (views == null ? new Individuum[capacity] : Arrays.copyOf(views, capacity));
+        if (phenoTypes != null)
+            phenoTypes = Arrays.copyOf(phenoTypes, capacity);
+        if (elementType == -1)
+            genoTypes = (genoTypes == null ? new GenInstance[capacity] : Arrays.copyOf(genoTypes, capacity));
+        else {
+            Object newGenes = Array.newInstance(getComponentType(), capacity*length);
+            if (genes != null)
+                System.arraycopy(genes, 0, newGenes, 0, size*length);
+            genes = newGenes;
+        }
+    }
+
+    /**
+     * returns the component-type of the gene-column
+     *
+     * @return the primitive class of the element-type
+     */
+    protected Class getComponentType () {
+        switch (elementType) {
+            case 0: return boolean.class;
+            case 1: return byte.class;
+            case 2: return short.class;
+            case 3: return char.class;
+            case 4: return int.class;
+            case 5: return long.class;
+            case 6: return float.class;
+            case 7: return double.class;
+            default:
+                throw new AssertionError(elementType);
+        }
+    }
+
+    /**
+     * returns the number of individuums
+     *
+     * @return the size
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * returns the population as list. The individuums are views, that are
+     * created on demand and cached, until their row is changed. set() and
+     * add() write into the columns, set() returns null instead of the
+     * replaced individuum. remove() is not supported.
+     *
+     * @return the list-view, always the same object
+     */
+    public List <Individuum> asList () {
+        return listView;
+    }
+
+    /**
+     * adds an individuum at the end
+     *
+     * @param individuum the individuum
+     * @param parent the index of its first parent, -1 if unknown
+     * @throws NullPointerException if individuum is null
+     */
+    public void add (Individuum individuum, int parent) {
+        if (individuum == null)
+            throw new NullPointerException("individuum can't be null.");
+        if (size == fitnessValues.length)
+            allocate(size*2);
+        size ++;
+        set(size-1, individuum, parent);
+    }
+
+    /**
+     * replaces an individuum. Its birth-generation is the current generation
+     * of the algorithm.
+     *
+     * @param index the index
+     * @param individuum the new individuum
+     * @param parent the index of its first parent, -1 if unknown
+     * @throws NullPointerException if individuum is null
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public void set (int index, Individuum individuum, int parent) {
+        if (individuum == null)
+            throw new NullPointerException("individuum can't be null.");
+        checkIndex(index);
+
+        GenInstance geno = individuum.getGenoType();
+        GenInstance pheno = individuum.getPhenoType();
+        fitnessValues[index] = individuum.getFitness();
+        views[index] = null;
+        parents[index] = parent;
+        births[index] = algorithm.getCurrentGeneration();
+        if (elementType == -1)
+            genoTypes[index] = geno;
+        else
+            writeGenes(index, (AnyTypeStaticLengthInstance)geno);
+
+        if (pheno != geno && phenoTypes == null)
+            phenoTypes = new GenInstance[fitnessValues.length];
+        if (phenoTypes != null)
+            phenoTypes[index] = (pheno == geno ? null : pheno);
+    }
+
+    /**
+     * writes the genes of one genoType into the gene-column
+     *
+     * @param index the index of the individuum
+     * @param instance the genoType
+     */
+    protected void writeGenes (int index, AnyTypeStaticLengthInstance instance) {
+        int offset = index*length;
+        if (writeView(offset, instance.asReadOnlyBuffer()))
+            return;
+        switch (elementType) {
+            case 0:
+                boolean [] booleans = (boolean[])genes;
+                for (int i=0; i<length; i++)
+                    booleans[offset+i] = (instance.getLongValue(i) != 0);
+                break;
+            case 1:
+                byte [] bytes = (byte[])genes;
+                for (int i=0; i<length; i++)
+                    bytes[offset+i] = (byte)instance.getLongValue(i);
+                break;
+            case 2:
+                short [] shorts = (short[])genes;
+                for (int i=0; i<length; i++)
+                    shorts[offset+i] = (short)instance.getLongValue(i);
+                break;
+            case 3:
+                char [] chars = (char[])genes;
+                for (int i=0; i<length; i++)
+                    chars[offset+i] = (char)instance.getLongValue(i);
+                break;
+            case 4:
+                int [] ints = (int[])genes;
+                for (int i=0; i<length; i++)
+                    ints[offset+i] = (int)instance.getLongValue(i);
+                break;
+            case 5:
+                long [] longs = (long[])genes;
+                for (int i=0; i<length; i++)
+                    longs[offset+i] = instance.getLongValue(i);
+                break;
+            case 6:
+                float [] floats = (float[])genes;
+                for (int i=0; i<length; i++)
+                    floats[offset+i] = (float)instance.getDoubleValue(i);
+                break;
+            case 7:
+                double [] doubles = (double[])genes;
+                for (int i=0; i<length; i++)
+                    doubles[offset+i] = instance.getDoubleValue(i);
+                break;
+            default:
+                throw new AssertionError(elementType);
+        }
+    }
+
+    /**
+     * copies the read-only view of the array of a genoType (a new view, so
+     * its position is 0) into the gene-column, if it has the type of the column
+     *
+     * @param offset the index of the first gene of the individuum in the column
+     * @param view the view (see AnyTypeStaticLengthInstance.asReadOnlyBuffer()), can be null
+     * @return true, if the genes were copied
+     */
+    protected boolean writeView (int offset, Buffer view) {
+        if (view == null || view.limit() != length)
+            return false;
+        if (view instanceof ByteBuffer && genes instanceof byte[])
+            ((ByteBuffer)view).get((byte[])genes, offset, length);
+        else if (view instanceof ShortBuffer && genes instanceof short[])
+            ((ShortBuffer)view).get((short[])genes, offset, length);
+        else if (view instanceof CharBuffer && genes instanceof char[])
+            ((CharBuffer)view).get((char[])genes, offset, length);
+        else if (view instanceof IntBuffer && genes instanceof int[])
+            ((IntBuffer)view).get((int[])genes, offset, length);
+        else if (view instanceof LongBuffer && genes instanceof long[])
+            ((LongBuffer)view).get((long[])genes, offset, length);
+        else if (view instanceof FloatBuffer && genes instanceof float[])
+            ((FloatBuffer)view).get((float[])genes, offset, length);
+        else if (view instanceof DoubleBuffer && genes instanceof double[])
+            ((DoubleBuffer)view).get((double[])genes, offset, length);
+        else
+            return false;
+        return true;
+    }
+
+    /**
+     * returns one gene of the gene-column as long
+     *
+     * @param index the index of the individuum
+     * @param gene the index of the gene
+     * @return the value
+     */
+    protected long readLong (int index, int gene) {
+        int position = index*length + gene;
+        switch (elementType) {
+            case 0: return ((boolean[])genes)[position] ? 1 : 0;
+            case 1: return ((byte[])genes)[position];
+            case 2: return ((short[])genes)[position];
+            case 3: return ((char[])genes)[position];
+            case 4: return ((int[])genes)[position];
+            case 5: return ((long[])genes)[position];
+            case 6: return (long)((float[])genes)[position];
+            case 7: return (long)((double[])genes)[position];
+            default:
+                throw new AssertionError(elementType);
+        }
+    }
+
+    /**
+     * returns one gene of the gene-column as double
+     *
+     * @param index the index of the individuum
+     * @param gene the index of the gene
+     * @return the value
+     */
+    protected double readDouble (int index, int gene) {
+        switch (elementType) {
+            case 6: return ((float[])genes)[index*length + gene];
+            case 7: return ((double[])genes)[index*length + gene];
+            default:
+                return readLong(index, gene);
+        }
+    }
+
+    /**
+     * checks, if the index is inside the population
+     *
+     * @param index the index
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    protected void checkIndex (int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("invalid index: '" + index + "', size: '" + size + "'.");
+    }
+
+    /**
+     * returns the fitness-value of an individuum
+     *
+     * @param index the index
+     * @return the fitness-value
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public double getFitness (int index) {
+        checkIndex(index);
+        return fitnessValues[index];
+    }
+
+    /**
+     * returns a copy of the fitness-column
+     *
+     * @return the fitness-values of all individuums
+     */
+    public double [] getFitnessValues () {
+        return Arrays.copyOf(fitnessValues, size);
+    }
+
+    /**
+     * returns the average fitness-value
+     *
+     * @return the average, NaN if the population is empty
+     */
+    public double getAverageFitness () {
+        double sum = 0;
+        for (int i=0; i<size; i++)
+            sum += fitnessValues[i];
+        return sum / size;
+    }
+
+    /**
+     * returns the index of the first parent of an individuum in the
+     * population of the generation before
+     *
+     * @param index the index
+     * @return the index of the parent, -1 if unknown
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public int getParent (int index) {
+        checkIndex(index);
+        return parents[index];
+    }
+
+    /**
+     * returns the generation, the individuum was created in
+     *
+     * @param index the index
+     * @return the birth-generation
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public int getBirthGeneration (int index) {
+        checkIndex(index);
+        return births[index];
+    }
+
+    /**
+     * returns the number of generations, the individuum survived
+     *
+     * @param index the index
+     * @return the age
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public int getAge (int index) {
+        checkIndex(index);
+        return algorithm.getCurrentGeneration() - births[index];
+    }
+
+    /**
+     * are the genoTypes stored in the gene-column?
+     *
+     * @return true, if the genes can be read with getLongGene() and getDoubleGene()
+     */
+    public boolean hasGeneColumn () {
+        return elementType != -1;
+    }
+
+    /**
+     * returns one gene of an individuum without creating its genoType
+     *
+     * @param index the index of the individuum
+     * @param gene the index of the gene
+     * @return the value as long
+     * @throws IndexOutOfBoundsException if the index or the gene is outside the population
+     * @throws GeneticRuntimeException if there is no gene-column
+     */
+    public long getLongGene (int index, int gene) {
+        checkGene(index, gene);
+        return readLong(index, gene);
+    }
+
+    /**
+     * returns one gene of an individuum without creating its genoType
+     *
+     * @param index the index of the individuum
+     * @param gene the index of the gene
+     * @return the value as double
+     * @throws IndexOutOfBoundsException if the index or the gene is outside the population
+     * @throws GeneticRuntimeException if there is no gene-column
+     */
+    public double getDoubleGene (int index, int gene) {
+        checkGene(index, gene);
+        return readDouble(index, gene);
+    }
+
+    /**
+     * checks the index and the gene
+     *
+     * @param index the index of the individuum
+     * @param gene the index of the gene
+     */
+    protected void checkGene (int index, int gene) {
+        if (elementType == -1)
+            throw new GeneticRuntimeException("the genoTypes are not stored in a gene-column.");
+        checkIndex(index);
+        if (gene < 0 || gene >= length)
+            throw new IndexOutOfBoundsException("invalid gene: '" + gene + "', length: '" + length + "'.");
+    }
+
+    /**
+     * returns the genoType of an individuum. Genotypes of the gene-column
+     * are created on demand.
+     *
+     * @param index the index
+     * @return the genoType
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public GenInstance getGenoType (int index) {
+        checkIndex(index);
+        if (elementType == -1)
+            return genoTypes[index];
+
+        AnyTypeStaticLength representation = (AnyTypeStaticLength)genoType;
+        if (elementType == 6 || elementType == 7) {
+            double [] values = new double[length];
+            for (int i=0; i<length; i++)
+                values[i] = readDouble(index, i);
+            return representation.instantiateFromDoubles(values);
+        }
+        long [] values = new long[length];
+        for (int i=0; i<length; i++)
+            values[i] = readLong(index, i);
+        return representation.instantiateFromLongs(values);
+    }
+
+    /**
+     * returns a view of an individuum. Its genoType reads the genes out of
+     * the gene-column without a copy (see the class-description), so the
+     * view must not be used anymore, after its row was changed. Concurrent
+     * readers can create the same view twice, both are valid.
+     *
+     * @param index the index
+     * @return the individuum, cached until its row is changed
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public Individuum getIndividuum (int index) {
+        checkIndex(index);
+        Individuum ret = views[index];
+        if (ret == null) {
+            GenInstance geno = (flyweights ? new ColumnInstance(this, index) : getGenoType(index));
+            ret = createIndividuum(index, geno);
+            views[index] = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * returns a copy of an individuum with its own genoType, that stays
+     * valid, when the store is changed
+     *
+     * @param index the index
+     * @return the individuum
+     * @throws IndexOutOfBoundsException if the index is outside the population
+     */
+    public Individuum copyIndividuum (int index) {
+        return createIndividuum(index, getGenoType(index));
+    }
+
+    /**
+     * creates an individuum of a row with the given genoType
+     *
+     * @param index the index
+     * @param geno the genoType of the row
+     * @return the individuum
+     */
+    protected Individuum createIndividuum (int index, GenInstance geno) {
+        GenInstance pheno = (phenoTypes == null || phenoTypes[index] == null ? geno : phenoTypes[index]);
+        return algorithm.new Individuum(geno, pheno, fitnessValues[index]);
+    }
+
+    /**
+     * orders the individuums by decreasing fitness, just the first k
+     * individuums are sorted, the rest keeps its previous order (the same
+     * order as GeneticAlgorithm.orderPopulation()). Just the fitness-column
+     * is compared, the rows are moved in place.
+     *
+     * @param k the number of individuums, that have to be sorted at the front
+     */
+    public void sort (int k) {
+        int [] indices = new int[size];
+        for (int i=0; i<size; i++)
+            indices[i] = i;
+        Utils.selectHighest(fitnessValues, indices, k);
+        if (k < size)
+            Arrays.sort(indices, Math.max(k, 0), size);
+        permute(indices);
+    }
+
+    /**
+     * moves the rows, so that row i is the previous row indices[i]. Every
+     * cycle of the permutation is moved with one temporary row.
+     *
+     * @param indices the permutation
+     */
+    protected void permute (int [] indices) {
+        Arrays.fill(views, 0, size, null);
+        boolean [] done = new boolean[size];
+        Object tempGenes = (elementType == -1 ? null : Array.newInstance(getComponentType(), length));
+        for (int start=0; start<size; start++) {
+            if (done[start] || indices[start] == start) {
+                done[start] = true;
+                continue;
+            }
+
+            //save the start of the cycle
+            double tempFitness = fitnessValues[start];
+            int tempParent = parents[start], tempBirth = births[start];
+            GenInstance tempGeno = (elementType == -1 ? genoTypes[start] : null);
+            GenInstance tempPheno = (phenoTypes == null ? null : phenoTypes[start]);
+            if (tempGenes != null)
+                System.arraycopy(genes, start*length, tempGenes, 0, length);
+
+            int target = start;
+            while (true) {
+                int source = indices[target];
+                done[target] = true;
+                if (source == start)
+                    break;
+                moveRow(source, target);
+                target = source;
+            }
+
+            fitnessValues[target] = tempFitness;
+            parents[target] = tempParent;
+            births[target] = tempBirth;
+            if (elementType == -1)
+                genoTypes[target] = tempGeno;
+            else
+                System.arraycopy(tempGenes, 0, genes, target*length, length);
+            if (phenoTypes != null)
+                phenoTypes[target] = tempPheno;
+        }
+    }
+
+    /**
+     * copies one row to another
+     *
+     * @param source the source row
+     * @param target the target row
+     */
+    protected void moveRow (int source, int target) {
+        fitnessValues[target] = fitnessValues[source];
+        parents[target] = parents[source];
+        births[target] = births[source];
+        if (elementType == -1)
+            genoTypes[target] = genoTypes[source];
+        else
+            System.arraycopy(genes, source*length, genes, target*length, length);
+        if (phenoTypes != null)
+            phenoTypes[target] = phenoTypes[source];
+    }
+
+    @Override
+    public List <Attribute> getAttributes() {
+        return Utils.createList( new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "algorithm", algorithm),
+                                new Attribute(new AttributeType(Type.MainAttribute), "genoType", genoType),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "elementType", elementType),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "length", length),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "flyweights", flyweights),
+                                new Attribute(new AttributeType(Type.MainAttribute), "size", size),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.NotSpecified), "fitnessValues", fitnessValues),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "genes", genes),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "genoTypes", genoTypes),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "phenoTypes", phenoTypes),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "parents", parents),
+                                new Attribute(new AttributeType(Type.NormalAttribute, Recommended.No, Recommended.No), "births", births),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "views", views),
+                                new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "listView", listView));
+    }
+
+    /**
+     * the list-view of the store (see asList())
+     */
+    private class IndividuumList extends AbstractList <Individuum> implements RandomAccess {
+
+        @Override
+        public Individuum get (int index) {
+            return getIndividuum(index);
+        }
+
+        @Override
+        public Individuum set (int index, Individuum individuum) {
+            //the replaced individuum is not created, just to be thrown away
+            PopulationStore.this.set(index, individuum, -1);
+            return null;
+        }
+
+        @Override
+        public void add (int index, Individuum individuum) {
+            if (index != size)
+                throw new UnsupportedOperationException("individuums can just be added at the end.");
+            PopulationStore.this.add(individuum, -1);
+            modCount ++;
+        }
+
+        @Override
+        public int size () {
+            return size;
+        }
+
+    }
+
+    /**
+     * a genoType, that is a flyweight view into a row of the gene-column. It
+     * can't be changed and has no own array. equals() and the fingerprint
+     * are the ones of the genoType, that getGenoType() creates.
+     */
+    protected static class ColumnInstance extends AnyTypeStaticLengthInstance {
+
+        /**
+         * the store, the view belongs to
+         */
+        protected final PopulationStore store;
+
+        /**
+         * the row of the individuum
+         */
+        protected final int row;
+
+        /**
+         * the constructor
+         *
+         * @param _store the store, the view belongs to
+         * @param _row the row of the individuum
+         */
+        protected ColumnInstance (PopulationStore _store, int _row) {
+            super((AnyTypeStaticLength)_store.genoType);
+            store = _store;
+            row = _row;
+        }
+
+        /**
+         * checks the index of a gene
+         *
+         * @param index the index of the gene
+         * @throws IllegalArgumentException if the index is out of bounds
+         */
+        protected void checkGene (int index) {
+            if (index < 0 || index >= store.length)
+                throw new IllegalArgumentException("index out of bounds");
+        }
+
+        @Override
+        public long getLongValue(int index) {
+            checkGene(index);
+            return store.readLong(row, index);
+        }
+
+        @Override
+        public double getDoubleValue(int index) {
+            checkGene(index);
+            return store.readDouble(row, index);
+        }
+
+        @Override
+        public long[] getLongArray() {
+            long [] ret = new long[store.length];
+            copyLongsTo(ret);
+            return ret;
+        }
+
+        @Override
+        public double[] getDoubleArray() {
+            double [] ret = new double[store.length];
+            copyDoublesTo(ret);
+            return ret;
+        }
+
+        @Override
+        public void copyLongsTo(long[] buffer) {
+            if (store.elementType == 5)
+                System.arraycopy(store.genes, row*store.length, buffer, 0, store.length);
+            else
+                super.copyLongsTo(buffer);
+        }
+
+        @Override
+        public void copyDoublesTo(double[] buffer) {
+            if (store.elementType == 7)
+                System.arraycopy(store.genes, row*store.length, buffer, 0, store.length);
+            else
+                super.copyDoublesTo(buffer);
+        }
+
+        @Override
+        public void copyGenesTo(Object target, int from, int to) {
+            System.arraycopy(store.genes, row*store.length + from, target, from, to-from);
+        }
+
+        @Override
+        public Buffer asReadOnlyBuffer() {
+            int offset = row*store.length;
+            switch (store.elementType) {
+                case 0: return null;
+                case 1: return ByteBuffer.wrap((byte[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 2: return ShortBuffer.wrap((short[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 3: return CharBuffer.wrap((char[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 4: return IntBuffer.wrap((int[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 5: return LongBuffer.wrap((long[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 6: return FloatBuffer.wrap((float[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                case 7: return DoubleBuffer.wrap((double[])store.genes, offset, store.length).slice().asReadOnlyBuffer();
+                default:
+                    throw new AssertionError(store.elementType);
+            }
+        }
+
+        @Override
+        public LongBuffer asLongBuffer() {
+            return (store.elementType == 5 ? (LongBuffer)asReadOnlyBuffer() : super.asLongBuffer());
+        }
+
+        @Override
+        public DoubleBuffer asDoubleBuffer() {
+            return (store.elementType == 7 ? (DoubleBuffer)asReadOnlyBuffer() : super.asDoubleBuffer());
+        }
+
+        @Override
+        public long getFingerprint() {
+            return store.getGenoType(row).getFingerprint();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof ColumnInstance)
+                other = ((ColumnInstance)other).store.getGenoType(((ColumnInstance)other).row);
+            return store.getGenoType(row).equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return store.getGenoType(row).hashCode();
+        }
+
+        @Override
+        public List<Attribute> getAttributes() {
+            return Utils.extendList( super.getAttributes(),  new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "store", store),
+                                                            new Attribute(new AttributeType(Type.TemporaryOrUnimportant), "row", row),
+                                                            new Attribute(new AttributeType(Type.MainAttribute), "genes", store.getGenoType(row)));
+        }
+
+    }
+
+}
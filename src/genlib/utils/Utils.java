@@ -24,8 +24,10 @@
 
 package genlib.utils;
 
+import genlib.utils.Exceptions.GeneticRuntimeException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Some Utility-functions
@@ -184,6 +186,190 @@ public class Utils {
             return (byte)value;
     }
 
+    /**
+     * reorders the indices, so the k indices with the highest keys are at the
+     * front of the array, ordered by decreasing keys. Indices with equal keys
+     * keep their order, so the front is the same as after a stable sort (NaN is
+     * the highest key, like in Double.compare). The order of the remaining
+     * indices is undefined. This needs O(n + k*log(k)) comparisons on average
+     * instead of O(n*log(n)) of a complete sort.
+     *
+     * @param keys the keys, as example the fitness-values
+     * @param indices the indices into keys, they have to be in increasing order initially
+     * @param k the number of indices, that should be ordered at the front
+     */
+    public static void selectHighest (double [] keys, int [] indices, int k) {
+        k = Math.min(k, indices.length);
+        if (k <= 0)
+            return;
+
+        //quickselect: afterwards, the k highest keys are in front
+        int lo = 0, hi = indices.length-1;
+        while (hi - lo > 16) {
+            int pivotIndex = partitionHighest(keys, indices, lo, hi);
+            if (pivotIndex == k-1)
+                break;
+            else if (pivotIndex < k-1)
+                lo = pivotIndex+1;
+            else
+                hi = pivotIndex-1;
+        }
+        if (hi - lo <= 16)
+            sortHighest(keys, indices, lo, hi);
+
+        //now sort the front
+        sortHighest(keys, indices, 0, k-1);
+    }
+
+    /**
+     * is the index a ordered before index b? (higher key first, smaller index first for equal keys)
+     *
+     * @param keys the keys
+     * @param a the first index
+     * @param b the second index
+     * @return true, if a is before b
+     */
+    private static boolean beforeHighest (double [] keys, int a, int b) {
+        int compare = Double.compare(keys[b], keys[a]);
+        return compare < 0 || (compare == 0 && a < b);
+    }
+
+    /**
+     * one partition-step of selectHighest with a median-of-three pivot
+     *
+     * @param keys the keys
+     * @param indices the indices
+     * @param lo the first position of the range
+     * @param hi the last position of the range
+     * @return the final position of the pivot
+     */
+    private static int partitionHighest (double [] keys, int [] indices, int lo, int hi) {
+        int mid = (lo+hi) >>> 1;
+        if (beforeHighest(keys, indices[mid], indices[lo]))
+            swap(indices, lo, mid);
+        if (beforeHighest(keys, indices[hi], indices[lo]))
+            swap(indices, lo, hi);
+        if (beforeHighest(keys, indices[mid], indices[hi]))
+            swap(indices, mid, hi);
+
+        //the median is at hi now
+        int pivot = indices[hi];
+        int store = lo;
+        for (int i=lo; i<hi; i++)
+            if (beforeHighest(keys, indices[i], pivot))
+                swap(indices, i, store++);
+        swap(indices, store, hi);
+        return store;
+    }
+
+    /**
+     * sorts a range of the indices by decreasing keys (quicksort, insertion-sort for small ranges)
+     *
+     * @param keys the keys
+     * @param indices the indices
+     * @param lo the first position of the range
+     * @param hi the last position of the range
+     */
+    private static void sortHighest (double [] keys, int [] indices, int lo, int hi) {
+        while (hi - lo > 16) {
+            int pivotIndex = partitionHighest(keys, indices, lo, hi);
+
+            //recursion for the smaller part, so the stack-depth is logarithmic
+            if (pivotIndex - lo < hi - pivotIndex) {
+                sortHighest(keys, indices, lo, pivotIndex-1);
+                lo = pivotIndex+1;
+            } else {
+                sortHighest(keys, indices, pivotIndex+1, hi);
+                hi = pivotIndex-1;
+            }
+        }
+
+        for (int i=lo+1; i<=hi; i++) {
+            int current = indices[i];
+            int j = i-1;
+            while (j >= lo && beforeHighest(keys, current, indices[j])) {
+                indices[j+1] = indices[j];
+                j--;
+            }
+            indices[j+1] = current;
+        }
+    }
+
+    /**
+     * swaps two entries of an array
+     *
+     * @param array the array
+     * @param i the first position
+     * @param j the second position
+     */
+    private static void swap (int [] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * the start-value of a 64-bit fingerprint, see fingerprint(long, long)
+     */
+    public static final long FINGERPRINT_SEED = 0x27D4EB2F165667C5L;
+
+    /**
+     * adds one value to a 64-bit fingerprint. A fingerprint starts with
+     * FINGERPRINT_SEED, gets all values in a fixed order and is completed
+     * with finalizeFingerprint(long). The fingerprint is not cryptographic,
+     * but collisions are very unlikely.
+     *
+     * @param fingerprint the fingerprint so far
+     * @param value the value to add
+     * @return the new fingerprint
+     */
+    public static long fingerprint (long fingerprint, long value) {
+        return Long.rotateLeft(fingerprint + value * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * completes a fingerprint, so every bit of the fingerprint depends
+     * on every added value
+     *
+     * @param fingerprint the fingerprint of all values
+     * @return the completed fingerprint
+     */
+    public static long finalizeFingerprint (long fingerprint) {
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xFF51AFD7ED558CCDL;
+        fingerprint ^= fingerprint >>> 33;
+        fingerprint *= 0xC4CEB9FE1A85EC53L;
+        fingerprint ^= fingerprint >>> 33;
+        return fingerprint;
+    }
+
+    /**
+     * rethrows an exception of an operator, that was invoked in another
+     * thread, as if the operator was invoked directly: RuntimeExceptions and
+     * Errors unchanged, other exceptions wrapped in a GeneticRuntimeException.
+     *
+     * @param cause the exception of the operator
+     * @return nothing, it always throws (so the caller can write 'throw Utils.rethrow(cause)')
+     */
+    public static RuntimeException rethrow (Throwable cause) {
+        if (cause instanceof RuntimeException)
+            throw (RuntimeException)cause;
+        if (cause instanceof Error)
+            throw (Error)cause;
+        throw new GeneticRuntimeException(cause);
+    }
+
+    /**
+     * rethrows the cause of an ExecutionException as if the operator was
+     * invoked directly (see rethrow())
+     *
+     * @param e the exception of the future
+     * @return nothing, it always throws (so the caller can write 'throw Utils.rethrowCause(e)')
+     */
+    public static RuntimeException rethrowCause (ExecutionException e) {
+        return rethrow(e.getCause());
+    }
+
     /**
      * This method tries to produce a compact string of a
      * double.